@@ -0,0 +1,132 @@
+package com.guineafigma.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.guineafigma.global.intercepter.LoggingInterceptor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 요청 1건당 접근 로그 비용 (preHandle + afterCompletion)
+// legacy: 요청당 UUID + INFO 7줄 동기 파일 출력 / current: 한 줄 + 카운터 traceId (+ 비동기 appender)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class AccessLoggingBenchmark {
+
+    @Param({"legacy", "current"})
+    public String interceptor;
+
+    @Param({"false", "true"})
+    public boolean async;
+
+    // 정상 요청 샘플링 비율 (current에만 적용)
+    @Param({"1.0", "0.1"})
+    public double sampleRate;
+
+    private HandlerInterceptor target;
+    private LoggerContext loggerContext;
+    private File logFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        logFile = Files.createTempFile("access-bench", ".log").toFile();
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level [%X{traceId:-}] %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(loggerContext);
+        file.setFile(logFile.getAbsolutePath());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        ch.qos.logback.classic.Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        target = "legacy".equals(interceptor) ? new LegacyLoggingInterceptor() : new LoggingInterceptor("bench", sampleRate, 1000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public int request() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+        request.setQueryString("page=0&size=10");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        target.preHandle(request, response, this);
+        response.setStatus(200);
+        target.afterCompletion(request, response, this, null);
+        return response.getStatus();
+    }
+
+    // 변경 전 LoggingInterceptor
+    static class LegacyLoggingInterceptor implements HandlerInterceptor {
+
+        private static final Logger log = LoggerFactory.getLogger(LegacyLoggingInterceptor.class);
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            String traceId = UUID.randomUUID().toString().substring(0, 8);
+            MDC.put("traceId", traceId);
+            request.setAttribute("startTime", System.currentTimeMillis());
+            log.info("=== 요청 시작 ===");
+            log.info("Method: {}", request.getMethod());
+            log.info("URI: {}", request.getRequestURI());
+            log.info("Query String: {}", request.getQueryString());
+            log.info("Client IP: {}", request.getRemoteAddr());
+            return true;
+        }
+
+        @Override
+        public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+            Long startTime = (Long) request.getAttribute("startTime");
+            Long executionTime = System.currentTimeMillis() - startTime;
+            log.info("Status: {}", response.getStatus());
+            log.info("Execution Time: {}ms", executionTime);
+            if (ex != null) {
+                log.error("Exception: {}", ex.getMessage());
+            }
+            log.info("=== 요청 종료 ===\n");
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.guineafigma.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+// 로고송 10만 건 + 좋아요 10만 건 저장 시 Hibernate가 내보내는 JDBC 패턴 비교
+// identity: IDENTITY id라 행마다 INSERT 후 생성 키 조회, 배치 불가 (변경 전)
+// sequence-batch: <table>_seq에서 50개씩 할당 + batch_size 50 (변경 후)
+// 문장당 왕복 비용이 드러나도록 같은 프로세스의 H2 TCP 서버(loopback)에 접속, 원격 MySQL에서는 차이가 더 커짐
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int ALLOCATION_SIZE = 50;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String INSERT_LOGOSONG = "insert into logosongs "
+            + "(created_at, updated_at, user_id, service_name, music_genre, version, like_count, view_count, is_public%s) "
+            + "values (?, ?, 1, ?, 'POP', 'SHORT', 0, 0, true%s)";
+    private static final String INSERT_LIKE = "insert into logosong_likes (created_at, logosong_id, user_id) values (?, ?, ?)";
+
+    @Param({"identity", "sequence-batch"})
+    public String strategy;
+
+    private Server server;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void startServer() throws SQLException {
+        server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-insert;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+            statement.execute("create table users (id bigint auto_increment primary key, nickname varchar(20))");
+            statement.execute("insert into users (id, nickname) values (1, 'bench')");
+            statement.execute("create table logosongs (id bigint auto_increment primary key, created_at datetime(6) not null, "
+                    + "updated_at datetime(6), user_id bigint not null, service_name varchar(255) not null, "
+                    + "music_genre varchar(255) not null, version varchar(10) not null, like_count integer, "
+                    + "view_count integer, is_public boolean, foreign key (user_id) references users (id))");
+            statement.execute("create table logosong_likes (created_at datetime(6), logosong_id bigint not null, "
+                    + "user_id bigint not null, primary key (logosong_id, user_id))");
+            statement.execute("create table logosongs_seq (next_val bigint)");
+            statement.execute("insert into logosongs_seq values (1)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long insertLogoSongsAndLikes() throws SQLException {
+        long[] ids = "identity".equals(strategy) ? insertWithIdentity() : insertWithSequenceBatch();
+        insertLikes(ids, !"identity".equals(strategy));
+        connection.commit();
+        return ids[ids.length - 1];
+    }
+
+    private long[] insertWithIdentity() throws SQLException {
+        long[] ids = new long[ROWS];
+        try (PreparedStatement insert = connection.prepareStatement(
+                String.format(INSERT_LOGOSONG, "", ""), Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bindLogoSong(insert, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    ids[i] = keys.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long[] insertWithSequenceBatch() throws SQLException {
+        long[] ids = new long[ROWS];
+        try (PreparedStatement insert = connection.prepareStatement(String.format(INSERT_LOGOSONG, ", id", ", ?"));
+             PreparedStatement nextValue = connection.prepareStatement("select next_val from logosongs_seq for update");
+             PreparedStatement advance = connection.prepareStatement("update logosongs_seq set next_val = ? where next_val = ?")) {
+            long next = 0;
+            long hi = 0;
+            for (int i = 0; i < ROWS; i++) {
+                if (next == hi) {
+                    // TableStructure + pooled optimizer: 한 번의 조회/갱신으로 ALLOCATION_SIZE개 id 확보
+                    long current;
+                    try (ResultSet resultSet = nextValue.executeQuery()) {
+                        resultSet.next();
+                        current = resultSet.getLong(1);
+                    }
+                    advance.setLong(1, current + ALLOCATION_SIZE);
+                    advance.setLong(2, current);
+                    advance.executeUpdate();
+                    next = current;
+                    hi = current + ALLOCATION_SIZE;
+                }
+                ids[i] = next++;
+                bindLogoSong(insert, i);
+                insert.setLong(4, ids[i]);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        return ids;
+    }
+
+    // 변경 전에는 복합키 엔티티 save()가 merge라 INSERT 전에 SELECT가 한 번씩 나감
+    private void insertLikes(long[] logoSongIds, boolean batched) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_LIKE);
+             PreparedStatement select = connection.prepareStatement(
+                     "select created_at from logosong_likes where logosong_id = ? and user_id = ?")) {
+            for (int i = 0; i < logoSongIds.length; i++) {
+                if (!batched) {
+                    select.setLong(1, logoSongIds[i]);
+                    select.setLong(2, 1L);
+                    select.executeQuery().close();
+                }
+                insert.setTimestamp(1, now);
+                insert.setLong(2, logoSongIds[i]);
+                insert.setLong(3, 1L);
+                if (batched) {
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                } else {
+                    insert.executeUpdate();
+                }
+            }
+            if (batched) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static void bindLogoSong(PreparedStatement insert, int index) throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        insert.setTimestamp(1, now);
+        insert.setTimestamp(2, now);
+        insert.setString(3, "대량 저장 " + index);
+    }
+}
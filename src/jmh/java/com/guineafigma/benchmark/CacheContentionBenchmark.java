@@ -0,0 +1,60 @@
+package com.guineafigma.benchmark;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// CacheConfig와 같은 구성의 CaffeineCache(Spring Cache 래퍼)를 여러 스레드가 동시에 get/put
+// readRatio=1.0은 목록/단건 캐시 히트, 0.8은 상태 캐시처럼 갱신이 섞인 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class CacheContentionBenchmark {
+
+    private static final int KEY_SPACE = 10_000;
+
+    @Param({"false", "true"})
+    public boolean recordStats;
+
+    @Param({"1.0", "0.8"})
+    public double readRatio;
+
+    private Cache cache;
+    private Long[] keys;
+    private final Object value = new Object();
+
+    @Setup
+    public void setUp() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .maximumSize(100_000);
+        if (recordStats) {
+            builder.recordStats();
+        }
+        cache = new CaffeineCache("logosong:byId", builder.build());
+
+        keys = new Long[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = (long) i;
+            cache.put(keys[i], value);
+        }
+    }
+
+    @Benchmark
+    public Object getOrPut() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long key = keys[random.nextInt(KEY_SPACE)];
+        if (random.nextDouble() < readRatio) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            return wrapper != null ? wrapper.get() : null;
+        }
+        cache.put(key, value);
+        return value;
+    }
+}
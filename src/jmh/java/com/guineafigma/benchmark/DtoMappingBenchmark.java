@@ -0,0 +1,132 @@
+package com.guineafigma.benchmark;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.dto.fastapi.GenerateResponseDto;
+import com.guineafigma.domain.logosong.dto.request.SunoCallbackRequest;
+import com.guineafigma.domain.logosong.dto.request.SunoGenerateRequest;
+import com.guineafigma.domain.logosong.dto.response.LogoSongResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
+import com.guineafigma.domain.logosong.dto.response.MusicGenerationResult;
+import com.guineafigma.domain.logosong.dto.response.SunoStatusResponse;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongSummary;
+import com.guineafigma.domain.logosong.service.SunoParamMapper;
+import com.guineafigma.domain.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 반복되는 DTO 변환 / Suno 파라미터 튜닝 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    // 목록 API 한 페이지 크기
+    private static final int PAGE_SIZE = 20;
+
+    private List<LogoSong> page;
+    private List<LogoSongSummary> summaryPage;
+    private SunoStatusResponse sunoStatus;
+    private SunoCallbackRequest callback;
+    private SunoParamMapper sunoParamMapper;
+    private GenerateResponseDto.SunoRequestBase sunoBase;
+    private GenerateResponseDto.Analysis analysis;
+    private String lyrics;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().nickname("bench").password("x").isActive(true).build();
+        user.setId(1L);
+
+        lyrics = "두비두밥 두비두밥 우리 가게로 오세요\n".repeat(12);
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            LogoSong logoSong = LogoSong.builder()
+                    .user(user)
+                    .serviceName("두비두밥 카페 " + i)
+                    .slogan("하루의 리듬을 채우는 커피")
+                    .industry("카페")
+                    .marketingItem("시그니처 라떼")
+                    .targetCustomer("20-30대 직장인")
+                    .moodTone("밝은,경쾌한")
+                    .musicGenre("POP")
+                    .version(VersionType.SHORT)
+                    .lyrics(lyrics)
+                    .videoGuideline("씬 1: 제품 클로즈업\n".repeat(10))
+                    .musicStatus(MusicGenerationStatus.COMPLETED)
+                    .generatedMusicUrl("https://cdn.example.com/music/" + i + ".mp3")
+                    .generatedAt(LocalDateTime.now())
+                    .likeCount(i)
+                    .viewCount(i * 10)
+                    .isPublic(true)
+                    .build();
+            logoSong.setId((long) i);
+            page.add(logoSong);
+        }
+        summaryPage = page.stream().map(LogoSongSummary::from).toList();
+
+        sunoStatus = SunoStatusResponse.builder()
+                .id("task-1").status("complete").audioUrl("https://cdn/a.mp3").imageUrl("https://cdn/a.png")
+                .duration(32.5).build();
+        callback = SunoCallbackRequest.builder()
+                .id("task-1").status("complete").audioUrl("https://cdn/a.mp3").imageUrl("https://cdn/a.png")
+                .duration(32.5).build();
+
+        sunoParamMapper = new SunoParamMapper();
+        sunoBase = new GenerateResponseDto.SunoRequestBase();
+        sunoBase.setModel("V4_5");
+        sunoBase.setNegativeTags("heavy metal");
+        analysis = new GenerateResponseDto.Analysis();
+        GenerateResponseDto.MusicSummary summary = new GenerateResponseDto.MusicSummary();
+        summary.setBpm(124.0);
+        analysis.setMusicSummary(summary);
+        analysis.setEmotionHint(Map.of("활기참", 0.4, "따뜻함", 0.3, "차분함", 0.2, "신비로움", 0.1));
+        List<Map<String, String>> examples = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            examples.add(Map.of("title", "Bright Pop Jingle " + i, "artist", "artist" + i));
+        }
+        analysis.setExamples(examples);
+    }
+
+    @Benchmark
+    public LogoSongResponse logoSongResponseFrom() {
+        return LogoSongResponse.from(page.get(0), Boolean.TRUE);
+    }
+
+    @Benchmark
+    public void logoSongResponsePage(Blackhole bh) {
+        for (LogoSong logoSong : page) {
+            bh.consume(LogoSongResponse.from(logoSong));
+        }
+    }
+
+    // 목록 API 경로 (TEXT 컬럼 없는 요약 조회 결과)
+    @Benchmark
+    public void logoSongSummaryResponsePage(Blackhole bh) {
+        for (LogoSongSummary summary : summaryPage) {
+            bh.consume(LogoSongSummaryResponse.from(summary));
+        }
+    }
+
+    @Benchmark
+    public MusicGenerationResult musicResultFromSunoStatus() {
+        return MusicGenerationResult.fromSunoStatus(sunoStatus);
+    }
+
+    @Benchmark
+    public MusicGenerationResult musicResultFromCallback() {
+        return MusicGenerationResult.fromCallback(callback);
+    }
+
+    @Benchmark
+    public SunoGenerateRequest sunoParamTuneFromAnalysis() {
+        return sunoParamMapper.tuneFromAnalysis(sunoBase, analysis, lyrics, "pop", "두비두밥 카페", 30);
+    }
+}
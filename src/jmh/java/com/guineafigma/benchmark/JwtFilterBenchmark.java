@@ -0,0 +1,94 @@
+package com.guineafigma.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.global.config.properties.JwtProperties;
+import com.guineafigma.global.config.security.CustomUserDetailsService;
+import com.guineafigma.global.config.security.CustomUserPrincipal;
+import com.guineafigma.global.config.security.jwt.JwtAuthenticationFilter;
+import com.guineafigma.global.config.security.jwt.JwtTokenProvider;
+import com.guineafigma.global.config.security.jwt.TokenRevocationStore;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증 헤더가 있는 요청 1건당 JWT 필터 비용 (사용자 조회는 DB 없이 고정 principal 반환)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-which-is-long-enough";
+
+    // 0이면 검증 토큰 캐시 비활성화
+    @Param({"0", "10000"})
+    public int verifiedTokenCacheSize;
+
+    private JwtProperties properties;
+    private JwtTokenProvider provider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+
+        User user = User.builder().nickname("bench").password("x").isActive(true).build();
+        user.setId(1L);
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(null) {
+            @Override
+            public UserDetails loadUserByUsername(String nickname) {
+                return new CustomUserPrincipal(user);
+            }
+
+            @Override
+            public CustomUserPrincipal loadActivePrincipal(Long userId) {
+                return new CustomUserPrincipal(user);
+            }
+        };
+
+        provider = new JwtTokenProvider(properties, userDetailsService, new TokenRevocationStore(properties));
+        provider.init();
+        filter = new JwtAuthenticationFilter(provider, new ObjectMapper());
+        token = provider.generateAccessToken(1L, "bench");
+    }
+
+    @Benchmark
+    public Object filterPerRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logosongs/my");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        Object auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return auth;
+    }
+
+    // 기존 방식: 요청마다 키/파서를 새로 만들고 validate + getAuthentication으로 두 번 파싱
+    @Benchmark
+    public Claims legacyDoubleParse() {
+        Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseAndValidate() {
+        return provider.parseAndValidate(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return provider.getAuthentication(token);
+    }
+}
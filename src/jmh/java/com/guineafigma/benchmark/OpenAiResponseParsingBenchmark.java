@@ -0,0 +1,92 @@
+package com.guineafigma.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.domain.logosong.service.OpenAiResponseExtractor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// OpenAI Responses API 응답 파싱: 기존 readTree 경로 vs 스트리밍 추출
+// reasoningItems로 reasoning 요약이 큰 응답을 흉내냄
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiResponseParsingBenchmark {
+
+    private static final Set<String> FIELDS = Set.of("lyrics", "video_guideline");
+
+    @Param({"1", "50"})
+    public int reasoningItems;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private OpenAiResponseExtractor extractor;
+    private byte[] body;
+    // 응답에서 꺼낸 message 텍스트 (마크다운 코드 블록으로 감싼 JSON)
+    private String messageText;
+
+    @Setup
+    public void setUp() throws Exception {
+        extractor = new OpenAiResponseExtractor(objectMapper.getFactory());
+
+        // 바깥 JSON 문자열 안에 다시 JSON이 들어가므로 줄바꿈은 두 번 이스케이프
+        String lyrics = "두비두밥 두비두밥\\\\n".repeat(20);
+        String guide = "씬 1: 제품 클로즈업, 따뜻한 조명\\\\n".repeat(20);
+        String content = "```json\\n{\\\"lyrics\\\": \\\"" + lyrics + "\\\", \\\"video_guideline\\\": \\\"" + guide + "\\\"}\\n```";
+
+        StringBuilder sb = new StringBuilder("{\"id\":\"resp_1\",\"object\":\"response\",\"output\":[");
+        for (int i = 0; i < reasoningItems; i++) {
+            sb.append("{\"id\":\"rs_").append(i).append("\",\"type\":\"reasoning\",\"summary\":[{\"type\":\"summary_text\",\"text\":\"")
+                    .append("브랜드 톤과 리듬을 검토합니다. ".repeat(30)).append("\"}]},");
+        }
+        sb.append("{\"id\":\"msg_1\",\"type\":\"message\",\"role\":\"assistant\",\"content\":[{\"type\":\"output_text\",\"text\":\"")
+                .append(content).append("\",\"annotations\":[]}]}],");
+        sb.append("\"usage\":{\"input_tokens\":1200,\"output_tokens\":800}}");
+        body = sb.toString().getBytes(StandardCharsets.UTF_8);
+        messageText = extractor.extractMessageText(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public String treeModel() throws Exception {
+        // 기존 경로: 본문 문자열 → readTree → output 순회 → 마크다운 제거 → readTree
+        String response = new String(body, StandardCharsets.UTF_8);
+        JsonNode root = objectMapper.readTree(response);
+        String content = null;
+        for (JsonNode item : root.path("output")) {
+            if ("message".equals(item.path("type").asText(""))) {
+                content = item.path("content").get(0).path("text").asText("");
+                break;
+            }
+        }
+        int start = content.indexOf('{');
+        int end = content.lastIndexOf('}');
+        JsonNode json = objectMapper.readTree(content.substring(start, end + 1));
+        return json.path("lyrics").asText("") + json.path("video_guideline").asText("");
+    }
+
+    @Benchmark
+    public String streaming() throws Exception {
+        String content = extractor.extractMessageText(new ByteArrayInputStream(body));
+        Map<String, String> fields = extractor.extractFields(content, FIELDS);
+        return fields.get("lyrics") + fields.get("video_guideline");
+    }
+
+    // 기존 extractJsonFromMarkdown 경로: 코드 블록 제거 후 substring → readTree
+    @Benchmark
+    public String markdownTreeModel() throws Exception {
+        int start = messageText.indexOf('{');
+        int end = messageText.lastIndexOf('}');
+        JsonNode json = objectMapper.readTree(messageText.substring(start, end + 1));
+        return json.path("lyrics").asText("") + json.path("video_guideline").asText("");
+    }
+
+    @Benchmark
+    public String markdownStreaming() throws Exception {
+        Map<String, String> fields = extractor.extractFields(messageText, FIELDS);
+        return fields.get("lyrics") + fields.get("video_guideline");
+    }
+}
@@ -0,0 +1,186 @@
+package com.guineafigma.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.common.response.ApiResponse;
+import com.guineafigma.common.response.PagedResponse;
+import com.guineafigma.domain.logosong.controller.LogoSongPageResponseCache;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongSummary;
+import com.guineafigma.domain.user.entity.User;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 비로그인 목록 캐시 히트 한 건의 응답 기록 비용: DTO 캐시 + Jackson 직렬화 vs 직렬화된 byte[] 캐시
+// 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (build.gradle의 jmh profilers)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PageResponseCacheBenchmark {
+
+    @Param({"10", "20"})
+    public int pageSize;
+
+    private Pageable pageable;
+    private String key;
+    private Cache dtoCache;
+    private LogoSongPageResponseCache pageResponseCache;
+    private MappingJackson2HttpMessageConverter converter;
+    private MockHttpServletRequest plainRequest;
+    private MockHttpServletRequest gzipRequest;
+
+    @Setup
+    public void setUp() {
+        // 부트 기본 ObjectMapper와 같은 날짜 직렬화 (ISO 문자열)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        converter = new MappingJackson2HttpMessageConverter(objectMapper);
+
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        key = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        PagedResponse<LogoSongSummaryResponse> page = page(pageSize);
+
+        dtoCache = new CaffeineCache("logosong:list",
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(60)).maximumSize(1_000).build());
+        dtoCache.put(key, page);
+
+        SimpleCacheManager manager = new SimpleCacheManager();
+        manager.setCaches(List.of(new CaffeineCache(LogoSongPageResponseCache.CACHE_NAME,
+                Caffeine.newBuilder().expireAfterWrite(Duration.ofSeconds(60)).maximumSize(500).build())));
+        manager.afterPropertiesSet();
+        pageResponseCache = new LogoSongPageResponseCache(manager, objectMapper, 1024);
+        pageResponseCache.get("list", pageable, () -> page);
+
+        plainRequest = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+        gzipRequest = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+        gzipRequest.addHeader("Accept-Encoding", "gzip, deflate, br");
+    }
+
+    // 기존 경로: DTO 캐시 히트 후 ApiResponse로 감싸 메시지 컨버터로 직렬화
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public long dtoCacheHit() throws IOException {
+        PagedResponse<LogoSongSummaryResponse> page = dtoCache.get(key, PagedResponse.class);
+        DiscardingResponse response = new DiscardingResponse();
+        converter.write(ApiResponse.success(page), MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+        return response.written();
+    }
+
+    @Benchmark
+    public long bytesCacheHit() throws IOException {
+        return write(plainRequest);
+    }
+
+    // 압축 본문은 원본의 수 분의 1이라 출력 버퍼 복사도 줄어듦
+    @Benchmark
+    public long bytesCacheHitGzip() throws IOException {
+        return write(gzipRequest);
+    }
+
+    private long write(MockHttpServletRequest request) throws IOException {
+        LogoSongPageResponseCache.CachedPage page = pageResponseCache.get("list", pageable, () -> {
+            throw new IllegalStateException("캐시 미스");
+        });
+        DiscardingResponse response = new DiscardingResponse();
+        pageResponseCache.write(page, request, response);
+        return response.written();
+    }
+
+    // MockHttpServletResponse의 출력 스트림은 바이트 단위로 기록해 두 경로 모두 그 비용이 지배적이므로,
+    // 헤더는 목 응답에 두고 본문은 컨테이너 출력 버퍼처럼 배열 단위로 받아 버림
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final DiscardingOutputStream out = new DiscardingOutputStream();
+
+        private DiscardingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+        long written() {
+            return out.written;
+        }
+    }
+
+    private static final class DiscardingOutputStream extends ServletOutputStream {
+
+        private long written;
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+        }
+    }
+
+    private static PagedResponse<LogoSongSummaryResponse> page(int size) {
+        User user = User.builder().nickname("bench").password("x").isActive(true).build();
+        user.setId(1L);
+        List<LogoSongSummaryResponse> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LogoSong logoSong = LogoSong.builder()
+                    .user(user)
+                    .serviceName("두비두밥 카페 " + i)
+                    .slogan("하루의 리듬을 채우는 커피")
+                    .industry("카페")
+                    .marketingItem("시그니처 라떼")
+                    .targetCustomer("20-30대 직장인")
+                    .moodTone("밝은,경쾌한")
+                    .musicGenre("POP")
+                    .version(VersionType.SHORT)
+                    .musicStatus(MusicGenerationStatus.COMPLETED)
+                    .generatedMusicUrl("https://cdn.example.com/music/" + i + ".mp3")
+                    .generatedAt(LocalDateTime.now())
+                    .likeCount(i)
+                    .viewCount(i * 10)
+                    .isPublic(true)
+                    .build();
+            logoSong.setId((long) i);
+            content.add(LogoSongSummaryResponse.from(LogoSongSummary.from(logoSong)));
+        }
+        return PagedResponse.of(content, size, 1, 5);
+    }
+}
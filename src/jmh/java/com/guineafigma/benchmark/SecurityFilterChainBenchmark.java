@@ -0,0 +1,121 @@
+package com.guineafigma.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.global.config.properties.JwtProperties;
+import com.guineafigma.global.config.security.CustomUserDetailsService;
+import com.guineafigma.global.config.security.SecurityConfig;
+import com.guineafigma.global.config.security.jwt.JwtAuthenticationFilter;
+import com.guineafigma.global.config.security.jwt.JwtTokenProvider;
+import com.guineafigma.global.config.security.jwt.TokenRevocationStore;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 공개 조회(GET /api/v1/logosongs) 1건이 Spring Security 필터 체인을 통과하는 비용
+// fastPath=false는 기존 전체 체인 + 즉시 토큰 해석, true는 경량 체인 + 지연 해석
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final String SECRET = "benchmark-jwt-secret-key-which-is-long-enough";
+
+    @Param({"false", "true"})
+    public boolean fastPath;
+
+    @Param({"false", "true"})
+    public boolean withToken;
+
+    // 컨트롤러가 @AuthenticationPrincipal을 요구하는지 여부
+    @Param({"false", "true"})
+    public boolean readsPrincipal;
+
+    private AnnotationConfigWebApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private String token;
+    private FilterChain controller;
+
+    @Configuration
+    @EnableWebMvc
+    @Import(SecurityConfig.class)
+    static class BenchmarkSecurityConfig {
+
+        @Bean
+        JwtProperties jwtProperties() {
+            JwtProperties properties = new JwtProperties();
+            properties.setSecretKey(SECRET);
+            return properties;
+        }
+
+        @Bean
+        JwtTokenProvider jwtTokenProvider(JwtProperties jwtProperties) {
+            return new JwtTokenProvider(jwtProperties, new CustomUserDetailsService(null), new TokenRevocationStore(jwtProperties));
+        }
+
+        @Bean
+        JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+            return new JwtAuthenticationFilter(jwtTokenProvider, new ObjectMapper());
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        ThreadPoolTaskExecutor passwordHashExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.initialize();
+            return executor;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("security.public-read-fast-path", String.valueOf(fastPath))));
+        context.register(BenchmarkSecurityConfig.class);
+        context.refresh();
+
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+        token = context.getBean(JwtTokenProvider.class).generateAccessToken(1L, "bench");
+        controller = (request, response) -> {
+            if (readsPrincipal) {
+                SecurityContextHolder.getContext().getAuthentication();
+            }
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int publicList() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+        request.setServletPath("/api/v1/logosongs");
+        if (withToken) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        springSecurityFilterChain.doFilter(request, response, controller);
+        return response.getStatus();
+    }
+}
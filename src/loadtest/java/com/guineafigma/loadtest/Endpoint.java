@@ -0,0 +1,36 @@
+package com.guineafigma.loadtest;
+
+import java.util.Arrays;
+
+// 부하 테스트 대상 엔드포인트 (loadtest.mix의 키)
+public enum Endpoint {
+    LIST("list", "GET /logosongs"),
+    POPULAR("popular", "GET /logosongs/popular"),
+    DETAIL("detail", "GET /logosongs/{id}"),
+    STATUS("status", "GET /logosongs/{id}/status"),
+    LIKE("like", "PUT /logosongs/{id}/like"),
+    CREATE("create", "POST /logosongs/with-generation");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Endpoint of(String key) {
+        return Arrays.stream(values())
+                .filter(e -> e.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 엔드포인트: " + key));
+    }
+}
@@ -0,0 +1,60 @@
+package com.guineafigma.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 가상 사용자 1명이 엔드포인트 1개에 대해 기록하는 지연(µs)/오류 수. 측정 후 병합하므로 동기화하지 않음
+public class EndpointStats {
+
+    private long[] latenciesMicros = new long[1024];
+    private int count;
+    private long errors;
+
+    public void record(long micros, boolean success) {
+        if (count == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count * 2);
+        }
+        latenciesMicros[count++] = micros;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public void merge(EndpointStats other) {
+        if (count + other.count > latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, count + other.count);
+        }
+        System.arraycopy(other.latenciesMicros, 0, latenciesMicros, count, other.count);
+        count += other.count;
+        errors += other.errors;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    // 전체 표본을 정렬해 백분위수(µs)와 처리량/오류율을 계산
+    public Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, count);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("throughput", count / seconds);
+        summary.put("errorRate", count == 0 ? 0.0 : (double) errors / count);
+        summary.put("p50Micros", percentile(sorted, 0.50));
+        summary.put("p99Micros", percentile(sorted, 0.99));
+        summary.put("p999Micros", percentile(sorted, 0.999));
+        summary.put("maxMicros", count == 0 ? 0 : sorted[count - 1]);
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
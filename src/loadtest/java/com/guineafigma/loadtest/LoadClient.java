@@ -0,0 +1,101 @@
+package com.guineafigma.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+// 부하 테스트용 HTTP 클라이언트 (/api/v1 기준, 응답 본문은 필요한 경우에만 파싱)
+public class LoadClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String apiBase;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public LoadClient(String target) {
+        this.apiBase = target.replaceAll("/+$", "") + "/api/v1";
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public record Result(int status, String body) {
+        public boolean success() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    // 로그인/가입 후 access token 반환
+    public String login(String nickname, String password) throws IOException, InterruptedException {
+        Result result = send("POST", "/auth/login", null, Map.of("nickname", nickname, "password", password));
+        if (!result.success()) {
+            throw new IllegalStateException("로그인 실패: nickname=" + nickname + ", status=" + result.status() + ", body=" + result.body());
+        }
+        return objectMapper.readTree(result.body()).path("data").path("accessToken").asText();
+    }
+
+    // 로고송 생성 (가사 생성 + 음악 생성 시작) 후 id 반환, 실패 시 null
+    public Long create(String token, int sequence) throws IOException, InterruptedException {
+        Result result = send("POST", "/logosongs/with-generation", token, Map.of(
+                "serviceName", "부하테스트 가게 " + sequence,
+                "slogan", "하루의 리듬을 채우는 커피",
+                "industry", "카페",
+                "marketingItem", "시그니처 라떼",
+                "targetCustomer", "20-30대 직장인",
+                "moodTone", "밝은,경쾌한",
+                "musicGenre", "POP",
+                "version", "SHORT"));
+        if (!result.success()) {
+            return null;
+        }
+        JsonNode id = objectMapper.readTree(result.body()).path("data").path("id");
+        return id.isMissingNode() || id.isNull() ? null : id.asLong();
+    }
+
+    // 음악 생성 상태 (PENDING/PROCESSING/COMPLETED/FAILED), 조회 실패 시 null
+    public String status(String token, long id) throws IOException, InterruptedException {
+        Result result = send("GET", "/logosongs/" + id + "/status", token, null);
+        if (!result.success()) {
+            return null;
+        }
+        return objectMapper.readTree(result.body()).path("data").path("status").asText(null);
+    }
+
+    public Result publish(String token, long id) throws IOException, InterruptedException {
+        return send("PATCH", "/logosongs/" + id, token, Map.of("isPublic", true));
+    }
+
+    public Result get(String path, String token) throws IOException, InterruptedException {
+        return send("GET", path, token, null);
+    }
+
+    public Result put(String path, String token) throws IOException, InterruptedException {
+        return send("PUT", path, token, null);
+    }
+
+    private Result send(String method, String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(apiBase + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        return new Result(response.statusCode(), response.body());
+    }
+}
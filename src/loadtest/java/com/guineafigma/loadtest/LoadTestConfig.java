@@ -0,0 +1,68 @@
+package com.guineafigma.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (모두 -Dloadtest.* 시스템 프로퍼티).
+ *
+ * <pre>
+ * loadtest.target            대상 서버 (예: http://localhost:8080). 비우면 H2 + 스텁 서버로 애플리케이션을 같은 JVM에서 기동
+ * loadtest.users             동시 가상 사용자 수 (closed-loop)
+ * loadtest.accounts          로그인할 계정 수 (좋아요/생성 요청에 사용)
+ * loadtest.seed-songs        측정 전 생성해 두는 공개 로고송 수
+ * loadtest.warmup-seconds    측정에서 제외하는 워밍업 시간
+ * loadtest.duration-seconds  측정 시간
+ * loadtest.think-ms          요청 사이 대기 시간
+ * loadtest.mix               엔드포인트별 가중치 (list=40,popular=20,detail=25,status=10,like=4,create=1)
+ * loadtest.report-dir        JSON 결과 저장 위치
+ * </pre>
+ */
+public record LoadTestConfig(
+        String target,
+        int users,
+        int accounts,
+        int seedSongs,
+        int warmupSeconds,
+        int durationSeconds,
+        long thinkMillis,
+        Map<Endpoint, Integer> mix,
+        String reportDir) {
+
+    static final String DEFAULT_MIX = "list=40,popular=20,detail=25,status=10,like=4,create=1";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                System.getProperty("loadtest.target", ""),
+                Integer.getInteger("loadtest.users", 64),
+                Integer.getInteger("loadtest.accounts", 16),
+                Integer.getInteger("loadtest.seed-songs", 100),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Long.getLong("loadtest.think-ms", 0L),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                System.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+    }
+
+    public boolean embedded() {
+        return target == null || target.isBlank();
+    }
+
+    static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식 오류: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.of(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 가중치가 0보다 큰 엔드포인트가 없습니다: " + spec);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,317 @@
+package com.guineafigma.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.guineafigma.GuineafigmaApplication;
+import com.guineafigma.stub.ExternalApiStubs;
+import com.guineafigma.stub.FastApiStubServer;
+import com.guineafigma.stub.LatencyProfile;
+import com.guineafigma.stub.OpenAiStubServer;
+import com.guineafigma.stub.SunoStubServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 로컬 단일 머신 HTTP 부하 테스트.
+ *
+ * <pre>
+ * gradle loadTest -Dloadtest.users=128 -Dloadtest.duration-seconds=120 \
+ *     -Dloadtest.mix=list=50,popular=20,detail=20,status=10 \
+ *     -Dcache.specs.logosong-list.ttl=10s -Dasync.music-generation.max-pool-size=16 \
+ *     -Dspring.datasource.hikari.maximum-pool-size=20 -Dstub.suno=800,3000
+ * </pre>
+ * loadtest.target이 없으면 H2 인메모리 + 스텁 외부 API(stub.* 프로퍼티, StubServersLauncher와 같은 형식)로
+ * 애플리케이션을 같은 JVM에서 기동한다. 나머지 -D 값은 애플리케이션 설정(cache.specs.*, async.*, spring.datasource.hikari.*)으로 그대로 전달된다.
+ * closed-loop 방식이라 서버가 느려지면 요청 수도 줄어든다 (p99 이상은 think-ms를 주고 비교하는 편이 정확).
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest1234";
+    private static final int RECENT_CAPACITY = 256;
+    private static final long SEED_COMPLETION_TIMEOUT_MS = 300_000;
+    // 조회 요청 중 로그인 사용자로 보내는 비율
+    private static final double AUTHENTICATED_READ_RATIO = Double.parseDouble(System.getProperty("loadtest.auth-read-ratio", "0.2"));
+
+    private final LoadTestConfig config;
+    private final LoadClient client;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<OwnedSong> seeded = new ArrayList<>();
+    // 최근 생성한 로고송 (상태 폴링 대상, 상태 조회는 인증 필요)
+    private final AtomicReferenceArray<OwnedSong> recent = new AtomicReferenceArray<>(RECENT_CAPACITY);
+    private final AtomicInteger recentCount = new AtomicInteger();
+    private final AtomicInteger createSequence = new AtomicInteger();
+
+    private record OwnedSong(long id, String token) {
+    }
+
+    LoadTestRunner(LoadTestConfig config, String target) {
+        this.config = config;
+        this.client = new LoadClient(target);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        ExternalApiStubs stubs = null;
+        ConfigurableApplicationContext context = null;
+        String target = config.target();
+        try {
+            if (config.embedded()) {
+                stubs = startStubs();
+                context = startApplication(stubs);
+                target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                System.out.println("[LOAD] 내장 애플리케이션 기동: " + target);
+            }
+
+            LoadTestRunner runner = new LoadTestRunner(config, target);
+            runner.seed();
+            Map<Endpoint, EndpointStats> stats = runner.run();
+            runner.report(stats);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (stubs != null) {
+                stubs.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static ExternalApiStubs startStubs() {
+        LatencyProfile sunoApi = LatencyProfile.parse(System.getProperty("stub.suno"), LatencyProfile.none());
+        LatencyProfile sunoCompletion = LatencyProfile.parse(System.getProperty("stub.suno.completion"), LatencyProfile.fixed(5_000));
+        LatencyProfile openAi = LatencyProfile.parse(System.getProperty("stub.openai"), LatencyProfile.none());
+        LatencyProfile fastApi = LatencyProfile.parse(System.getProperty("stub.fastapi"), LatencyProfile.none());
+        return new ExternalApiStubs(
+                new SunoStubServer(sunoApi, sunoCompletion, Long.getLong("stub.suno.credits", 10_000_000)),
+                new OpenAiStubServer(openAi),
+                new FastApiStubServer(fastApi)).start();
+    }
+
+    // application.yml보다 우선하도록 시스템 프로퍼티로 넣되, -D로 이미 준 값은 덮어쓰지 않는다
+    private static ConfigurableApplicationContext startApplication(ExternalApiStubs stubs) {
+        Map<String, String> defaults = new LinkedHashMap<>(stubs.properties());
+        defaults.put("server.port", "0");
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        defaults.put("cloud.aws.region.static", "ap-northeast-2");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.com.guineafigma", "WARN");
+        defaults.put("logging.level.org.springframework.web", "WARN");
+        defaults.put("logging.level.org.springframework.security", "WARN");
+        defaults.put("logging.level.org.hibernate.SQL", "WARN");
+        defaults.put("logging.level.org.hibernate.type", "WARN");
+        defaults.put("logging.access.sample-rate", "0.0");
+        // 생성/로그인 제한은 부하 생성기 한 대(IP 1개)에서 걸리지 않도록 완화
+        defaults.put("suno.admission.requests-per-minute", "1000000");
+        defaults.put("suno.admission.burst", "10000");
+        defaults.put("suno.admission.max-queue-depth", "100000");
+        defaults.put("auth.login-throttle.ip-per-minute", "1000000");
+        defaults.put("auth.login-throttle.ip-burst", "10000");
+        defaults.put("suno.polling.initial-delay-ms", "2000");
+        defaults.put("suno.polling.interval-ms", "1000");
+        // devtools 재시작 클래스로더에서 다시 기동되지 않도록
+        defaults.put("spring.devtools.restart.enabled", "false");
+        defaults.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+
+        return new SpringApplicationBuilder(GuineafigmaApplication.class)
+                .profiles("test")
+                .run();
+    }
+
+    // 계정 로그인 + 공개 로고송 생성
+    void seed() throws Exception {
+        for (int i = 0; i < config.accounts(); i++) {
+            tokens.add(client.login("loaduser" + i, PASSWORD));
+        }
+        List<OwnedSong> created = new ArrayList<>();
+        for (int i = 0; i < config.seedSongs(); i++) {
+            String token = tokens.get(i % tokens.size());
+            Long id = client.create(token, createSequence.incrementAndGet());
+            if (id == null) {
+                throw new IllegalStateException("시드 로고송 생성 실패 (" + i + "번째)");
+            }
+            created.add(new OwnedSong(id, token));
+        }
+        // 비동기 음악 생성이 끝나기 전에 공개 전환하면 생성 쪽 저장에 덮어써지므로 완료 후 공개
+        long deadline = System.currentTimeMillis() + SEED_COMPLETION_TIMEOUT_MS;
+        for (OwnedSong song : created) {
+            String status = client.status(song.token(), song.id());
+            while (!"COMPLETED".equals(status) && !"FAILED".equals(status)) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("시드 로고송 음악 생성 대기 시간 초과: id=" + song.id() + ", status=" + status);
+                }
+                Thread.sleep(200);
+                status = client.status(song.token(), song.id());
+            }
+            LoadClient.Result published = client.publish(song.token(), song.id());
+            if (!published.success()) {
+                throw new IllegalStateException("시드 로고송 공개 전환 실패: id=" + song.id() + ", status=" + published.status() + ", body=" + published.body());
+            }
+            seeded.add(song);
+        }
+        System.out.println("[LOAD] 시드 완료: accounts=" + tokens.size() + ", songs=" + seeded.size());
+    }
+
+    Map<Endpoint, EndpointStats> run() throws InterruptedException {
+        long measureStart = System.nanoTime() + config.warmupSeconds() * 1_000_000_000L;
+        long measureEnd = measureStart + config.durationSeconds() * 1_000_000_000L;
+
+        List<Map<Endpoint, EndpointStats>> perUser = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < config.users(); i++) {
+            Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+            perUser.add(stats);
+            threads.add(Thread.ofVirtual().name("load-user-" + i).start(() -> userLoop(stats, measureStart, measureEnd)));
+        }
+        System.out.println("[LOAD] 가상 사용자 " + config.users() + "명 시작 (워밍업 " + config.warmupSeconds()
+                + "s, 측정 " + config.durationSeconds() + "s, mix=" + config.mix() + ")");
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Map<Endpoint, EndpointStats> merged = new EnumMap<>(Endpoint.class);
+        for (Map<Endpoint, EndpointStats> stats : perUser) {
+            stats.forEach((endpoint, s) -> merged.computeIfAbsent(endpoint, e -> new EndpointStats()).merge(s));
+        }
+        return merged;
+    }
+
+    private void userLoop(Map<Endpoint, EndpointStats> stats, long measureStart, long measureEnd) {
+        int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= measureEnd) {
+                return;
+            }
+            Endpoint endpoint = pick(totalWeight);
+            boolean success;
+            try {
+                success = execute(endpoint);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                success = false;
+            }
+            if (start >= measureStart) {
+                stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record((System.nanoTime() - start) / 1_000, success);
+            }
+            if (config.thinkMillis() > 0) {
+                try {
+                    Thread.sleep(config.thinkMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Endpoint pick(int totalWeight) {
+        int value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : config.mix().entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("가중치 선택 실패");
+    }
+
+    private boolean execute(Endpoint endpoint) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case LIST -> client.get("/logosongs?page=" + random.nextInt(3) + "&size=20", readToken()).success();
+            case POPULAR -> client.get("/logosongs/popular?page=" + random.nextInt(2) + "&size=20", readToken()).success();
+            case DETAIL -> client.get("/logosongs/" + randomSeeded().id(), readToken()).success();
+            case STATUS -> {
+                OwnedSong song = statusTarget();
+                yield client.get("/logosongs/" + song.id() + "/status", song.token()).success();
+            }
+            case LIKE -> client.put("/logosongs/" + randomSeeded().id() + "/like", randomToken()).success();
+            case CREATE -> {
+                String token = randomToken();
+                Long id = client.create(token, createSequence.incrementAndGet());
+                if (id != null) {
+                    recent.set(recentCount.getAndIncrement() % RECENT_CAPACITY, new OwnedSong(id, token));
+                }
+                yield id != null;
+            }
+        };
+    }
+
+    private String readToken() {
+        return ThreadLocalRandom.current().nextDouble() < AUTHENTICATED_READ_RATIO ? randomToken() : null;
+    }
+
+    private String randomToken() {
+        return tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+    }
+
+    private OwnedSong randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    // 생성 요청이 있었다면 최근 생성분을 폴링, 없으면 시드 로고송 상태 조회
+    private OwnedSong statusTarget() {
+        int filled = Math.min(recentCount.get(), RECENT_CAPACITY);
+        OwnedSong song = filled == 0 ? null : recent.get(ThreadLocalRandom.current().nextInt(filled));
+        return song != null ? song : randomSeeded();
+    }
+
+    void report(Map<Endpoint, EndpointStats> stats) throws Exception {
+        double seconds = config.durationSeconds();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        EndpointStats total = new EndpointStats();
+
+        System.out.printf("%n%-34s %9s %10s %8s %10s %10s %10s%n", "endpoint", "requests", "req/s", "err%", "p50(ms)", "p99(ms)", "p999(ms)");
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> summary = entry.getValue().summarize(seconds);
+            endpoints.put(entry.getKey().key(), summary);
+            total.merge(entry.getValue());
+            printRow(entry.getKey().label(), summary);
+        }
+        Map<String, Object> totalSummary = total.summarize(seconds);
+        printRow("TOTAL", totalSummary);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", LocalDateTime.now().toString());
+        result.put("config", config);
+        result.put("total", totalSummary);
+        result.put("endpoints", endpoints);
+
+        File dir = new File(config.reportDir());
+        dir.mkdirs();
+        File file = new File(dir, "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+        System.out.println("[LOAD] 결과 저장: " + file.getPath());
+    }
+
+    private static void printRow(String label, Map<String, Object> summary) {
+        System.out.printf("%-34s %9d %10.1f %7.2f%% %10.2f %10.2f %10.2f%n",
+                label,
+                (Integer) summary.get("requests"),
+                (Double) summary.get("throughput"),
+                (Double) summary.get("errorRate") * 100,
+                (Long) summary.get("p50Micros") / 1000.0,
+                (Long) summary.get("p99Micros") / 1000.0,
+                (Long) summary.get("p999Micros") / 1000.0);
+    }
+}
@@ -15,8 +15,10 @@ import java.time.LocalDateTime;
 @Setter
 public abstract class BaseEntity {
 
+    // IDENTITY는 insert마다 키를 돌려받아야 해서 JDBC 배치가 꺼짐. 테이블별 <table>_seq에서 50개씩 미리 할당
+    // (TableSequenceNamingStrategy, MySQL은 V3__add_id_sequences.sql의 next_val 테이블)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @CreatedDate
@@ -0,0 +1,40 @@
+package com.guineafigma.common.entity;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.QualifiedSequenceName;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.ImplicitDatabaseObjectNamingStrategy;
+import org.hibernate.id.enhanced.StandardNamingStrategy;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+
+import java.util.Map;
+
+// BaseEntity의 SEQUENCE id는 테이블별로 <table>_seq 사용 (기본 전략은 엔티티명 기준 LogoSong_SEQ)
+// 시퀀스가 없는 MySQL에서는 같은 이름의 테이블(next_val)로 대체되며, V3 마이그레이션과 이름을 맞춤
+public class TableSequenceNamingStrategy implements ImplicitDatabaseObjectNamingStrategy {
+
+    private static final String SUFFIX = "_seq";
+
+    private final StandardNamingStrategy standard = new StandardNamingStrategy();
+
+    @Override
+    public QualifiedName determineSequenceName(Identifier catalogName, Identifier schemaName,
+                                               Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        String table = ConfigurationHelper.getString(PersistentIdentifierGenerator.TABLE, configValues);
+        if (table == null) {
+            return standard.determineSequenceName(catalogName, schemaName, configValues, serviceRegistry);
+        }
+        JdbcEnvironment jdbcEnvironment = serviceRegistry.requireService(JdbcEnvironment.class);
+        return new QualifiedSequenceName(catalogName, schemaName,
+                jdbcEnvironment.getIdentifierHelper().toIdentifier(table + SUFFIX));
+    }
+
+    @Override
+    public QualifiedName determineTableName(Identifier catalogName, Identifier schemaName,
+                                            Map<?, ?> configValues, ServiceRegistry serviceRegistry) {
+        return standard.determineTableName(catalogName, schemaName, configValues, serviceRegistry);
+    }
+}
@@ -0,0 +1,18 @@
+package com.guineafigma.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로고송 생성 파이프라인 단계 (선언 순서 = 실행 순서)
+@Getter
+@RequiredArgsConstructor
+public enum GenerationStage {
+    OPENAI("OpenAI 가사/가이드라인 생성"),
+    QUEUE("음악 생성 수락 대기 (Suno 속도 제한)"),
+    FASTAPI("FastAPI 분석"),
+    SUNO_SUBMIT("Suno 생성 요청"),
+    FIRST_POLL("Suno 요청 후 첫 상태 조회까지"),
+    COMPLETION("Suno 요청 후 완료까지");
+
+    private final String description;
+}
@@ -0,0 +1,41 @@
+package com.guineafigma.common.util;
+
+import java.util.Arrays;
+
+// 최근 N개의 호출 지연(ms)을 링 버퍼에 보관하고 백분위수를 계산
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    public synchronized int sampleCount() {
+        return size;
+    }
+
+    // 표본이 없으면 -1
+    public long percentile(double p) {
+        long[] copy;
+        synchronized (this) {
+            if (size == 0) {
+                return -1;
+            }
+            copy = Arrays.copyOf(samples, size);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(p * copy.length) - 1;
+        return copy[Math.max(0, Math.min(index, copy.length - 1))];
+    }
+}
@@ -0,0 +1,55 @@
+package com.guineafigma.common.util;
+
+// 키를 고정 개수의 스트라이프로 해싱한 토큰 버킷 (키별 상태를 보관하지 않아 메모리가 일정)
+// 같은 스트라이프에 충돌한 키는 버킷을 공유하므로 스트라이프 수는 동시 키 수보다 충분히 크게 설정
+public class StripedTokenBucket {
+
+    private final double ratePerMilli;
+    private final double burst;
+    private final int mask;
+    private final double[] tokens;
+    private final long[] lastRefill;
+    private final Object[] locks;
+
+    public StripedTokenBucket(int stripes, double ratePerMinute, int burst) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.ratePerMilli = ratePerMinute / 60_000.0;
+        this.burst = burst;
+        this.mask = size - 1;
+        this.tokens = new double[size];
+        this.lastRefill = new long[size];
+        this.locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            tokens[i] = burst;
+            locks[i] = new Object();
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.currentTimeMillis());
+    }
+
+    boolean tryAcquire(String key, long now) {
+        int stripe = stripeOf(key);
+        synchronized (locks[stripe]) {
+            long elapsed = now - lastRefill[stripe];
+            if (elapsed > 0) {
+                tokens[stripe] = Math.min(burst, tokens[stripe] + elapsed * ratePerMilli);
+                lastRefill[stripe] = now;
+            }
+            if (tokens[stripe] < 1.0) {
+                return false;
+            }
+            tokens[stripe] -= 1.0;
+            return true;
+        }
+    }
+
+    private int stripeOf(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h & mask;
+    }
+}
@@ -0,0 +1,23 @@
+package com.guineafigma.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 추적 ID: "노드ID-순번" (UUID 생성 대신 카운터 증가만으로 발급)
+// 노드ID는 인스턴스 기동 시 한 번 정해지므로 여러 인스턴스 로그를 합쳐도 구분 가능
+public class TraceIdGenerator {
+
+    private final String prefix;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public TraceIdGenerator(String nodeId) {
+        String node = (nodeId == null || nodeId.isBlank())
+                ? Integer.toString(ThreadLocalRandom.current().nextInt(36 * 36 * 36, 36 * 36 * 36 * 36), 36)
+                : nodeId;
+        this.prefix = node + "-";
+    }
+
+    public String next() {
+        return prefix + Long.toString(sequence.incrementAndGet(), 36);
+    }
+}
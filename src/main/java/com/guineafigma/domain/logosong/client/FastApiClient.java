@@ -3,6 +3,7 @@ package com.guineafigma.domain.logosong.client;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.guineafigma.domain.logosong.dto.fastapi.GenerateResponseDto;
 import com.guineafigma.domain.logosong.dto.request.LogoSongCreateRequest;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,6 +22,7 @@ public class FastApiClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ExternalApiMetrics externalApiMetrics;
 
     @Value("${fastapi.base-url:http://127.0.0.1:8010}")
     private String fastapiBaseUrl;
@@ -55,7 +57,8 @@ public class FastApiClient {
 
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
         log.info("FastAPI /generate 호출: url={}, requestId={}", url, requestId);
-        GenerateResponseDto resp = restTemplate.postForObject(url, entity, GenerateResponseDto.class);
+        GenerateResponseDto resp = externalApiMetrics.record("fastapi", "generate",
+                () -> restTemplate.postForObject(url, entity, GenerateResponseDto.class));
         try {
             if (resp != null) {
                 int examplesCount = resp.getExamples() != null ? resp.getExamples().size() : 0;
@@ -1,11 +1,14 @@
 package com.guineafigma.domain.logosong.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.guineafigma.domain.logosong.dto.request.SunoGenerateRequest;
 import com.guineafigma.domain.logosong.dto.response.SunoGenerateResponse;
 import com.guineafigma.domain.logosong.dto.response.SunoGenerateRecordInfoResponse;
 import com.guineafigma.domain.logosong.dto.response.SunoStatusResponse;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -23,6 +26,8 @@ import org.springframework.web.client.RestTemplate;
 public class SunoApiClient {
 
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExternalApiMetrics externalApiMetrics;
 
     @Value("${suno.api.key}")
     private String sunoApiKey;
@@ -42,7 +47,8 @@ public class SunoApiClient {
             HttpEntity<SunoGenerateRequest> entity = new HttpEntity<>(request, headers);
 
             log.info("Suno API 음악 생성 요청: {}", request.getTitle());
-            ResponseEntity<SunoGenerateResponse> response = restTemplate.postForEntity(url, entity, SunoGenerateResponse.class);
+            ResponseEntity<SunoGenerateResponse> response = externalApiMetrics.record("suno", "generate",
+                    () -> restTemplate.postForEntity(url, entity, SunoGenerateResponse.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 log.info("Suno API 음악 생성 요청 성공: taskId={}", response.getBody().getId());
@@ -87,7 +93,8 @@ public class SunoApiClient {
         for (String url : candidates) {
             try {
                 log.debug("Suno API 상태 확인 요청: url={}, taskId={}", url, taskId);
-                ResponseEntity<SunoStatusResponse[]> response = restTemplate.exchange(url, HttpMethod.GET, entity, SunoStatusResponse[].class);
+                ResponseEntity<SunoStatusResponse[]> response = externalApiMetrics.record("suno", "get",
+                        () -> restTemplate.exchange(url, HttpMethod.GET, entity, SunoStatusResponse[].class));
 
                 if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null && response.getBody().length > 0) {
                     SunoStatusResponse statusResponse = response.getBody()[0];
@@ -123,7 +130,8 @@ public class SunoApiClient {
 
             log.debug("Suno API generate record-info 요청: url={}, taskId={}", url, taskId);
             ResponseEntity<SunoGenerateRecordInfoResponse> response =
-                    restTemplate.exchange(url, HttpMethod.GET, entity, SunoGenerateRecordInfoResponse.class);
+                    externalApiMetrics.record("suno", "record-info",
+                            () -> restTemplate.exchange(url, HttpMethod.GET, entity, SunoGenerateRecordInfoResponse.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 return response.getBody();
@@ -140,16 +148,17 @@ public class SunoApiClient {
 
     public Double getRemainingCredits() {
         try {
-            String url = sunoApiUrl + "/api/get-credits";
+            String url = sunoApiUrl + "/api/v1/generate/credit";
             HttpHeaders headers = createHeaders();
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = externalApiMetrics.record("suno", "credit",
+                    () -> restTemplate.exchange(url, HttpMethod.GET, entity, String.class));
             
-            if (response.getStatusCode().is2xxSuccessful()) {
-                // 크레딧 정보 파싱 로직 추가 필요
-                log.info("Suno API 크레딧 조회 성공");
-                return 100.0; // 임시값
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                Double credits = parseCredits(objectMapper.readTree(response.getBody()));
+                log.info("Suno API 크레딧 조회 성공: credits={}", credits);
+                return credits;
             } else {
                 log.warn("Suno API 크레딧 조회 실패: status={}", response.getStatusCode());
                 return null;
@@ -160,6 +169,22 @@ public class SunoApiClient {
         }
     }
 
+    // {"code":200,"data":123} 형태를 기본으로, data 객체 안의 credits 필드도 허용
+    private Double parseCredits(JsonNode root) {
+        JsonNode data = root.path("data");
+        if (data.isNumber()) {
+            return data.asDouble();
+        }
+        for (String field : new String[] {"credits", "credits_left", "remaining"}) {
+            JsonNode node = data.path(field);
+            if (node.isNumber()) {
+                return node.asDouble();
+            }
+        }
+        log.warn("Suno API 크레딧 응답 형식을 알 수 없음: {}", root);
+        return null;
+    }
+
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
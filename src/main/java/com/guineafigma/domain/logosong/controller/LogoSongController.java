@@ -4,6 +4,7 @@ import com.guineafigma.common.response.ApiResponse;
 import com.guineafigma.common.response.PagedResponse;
 import com.guineafigma.domain.logosong.dto.request.LogoSongCreateRequest;
 import com.guineafigma.domain.logosong.dto.response.LogoSongResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
 import com.guineafigma.domain.logosong.dto.response.MusicGenerationStatusResponse;
 import com.guineafigma.domain.logosong.service.LogoSongService;
 import com.guineafigma.domain.logosong.service.IntegratedLogoSongService;
@@ -17,17 +18,21 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springdoc.core.annotations.ParameterObject;
 
+import java.io.IOException;
 import java.util.Map;
 
 @RestController
@@ -40,6 +45,7 @@ public class LogoSongController {
     private final LogoSongService logoSongService;
     private final IntegratedLogoSongService integratedLogoSongService;
     private final MusicGenerationPollingService pollingService;
+    private final LogoSongPageResponseCache pageResponseCache;
 
     
 
@@ -51,11 +57,28 @@ public class LogoSongController {
     })
     public ApiResponse<LogoSongResponse> getLogoSong(
             @Parameter(description = "로고송 ID") @PathVariable Long id,
-            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
-        LogoSongResponse response = logoSongService.incrementViewCountWithLike(
-                id,
-                userPrincipal != null ? userPrincipal.getId() : null
-        );
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            ServletWebRequest webRequest) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : null;
+        // 재검증 요청은 조회수를 올리기 전에 캐시된 상세와 비교, 변경이 없으면 304 (본문 직렬화/조회수 증가 없음)
+        // checkNotModified는 ETag 헤더가 이미 있으면 덮어쓰지 않으므로, 일치 여부는 직접 비교하고 실제 응답의 ETag로 한 번만 호출
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            LogoSongResponse current = logoSongService.getLogoSong(id);
+            boolean visible = current.isPublic() || (userId != null && userId.equals(current.getUserId()));
+            if (visible) {
+                // 캐시된 응답은 공유 객체라 좋아요 여부는 따로 조회해 ETag에만 반영
+                boolean liked = userId != null && logoSongService.isLikedByUser(id, userId);
+                String etag = LogoSongEtags.detail(current, liked);
+                if (LogoSongEtags.matches(ifNoneMatch, etag) && LogoSongEtags.checkNotModified(webRequest, etag)) {
+                    return null;
+                }
+            }
+        }
+        LogoSongResponse response = logoSongService.incrementViewCountWithLike(id, userId);
+        if (LogoSongEtags.checkNotModified(webRequest, LogoSongEtags.detail(response, response.isLiked()))) {
+            return null;
+        }
         return ApiResponse.success(response);
     }
 
@@ -74,28 +97,34 @@ public class LogoSongController {
     )
     @ApiPagedSuccessSchema(
             message = "전시회(공개) 목록 조회가 성공적으로 처리되었습니다.",
-            contentClass = LogoSongResponse.class,
+            contentClass = LogoSongSummaryResponse.class,
             httpStatus = 200
     )
     @ApiErrorExamples({
             ErrorCode.INVALID_INPUT_VALUE
     })
-    public ApiResponse<PagedResponse<LogoSongResponse>> getAllLogoSongs(
+    public ApiResponse<PagedResponse<LogoSongSummaryResponse>> getAllLogoSongs(
             @ParameterObject
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable,
             @RequestParam(value = "page", required = false) Integer pageParam,
             @RequestParam(value = "size", required = false) Integer sizeParam,
-            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            ServletWebRequest webRequest,
+            HttpServletResponse servletResponse) throws IOException {
         // 쿼리 파라미터 원본 값 기준 검증: page>=0, size>0
         if ((pageParam != null && pageParam < 0) || (sizeParam != null && sizeParam <= 0)) {
             throw new com.guineafigma.global.exception.BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-        PagedResponse<LogoSongResponse> response;
-        if (userPrincipal != null) {
-            response = logoSongService.getAllLogoSongs(pageable, userPrincipal.getId());
-        } else {
-            response = logoSongService.getAllLogoSongs(pageable);
+        if (userPrincipal == null) {
+            writeCachedPage(pageResponseCache.get("list", pageable, () -> logoSongService.getAllLogoSongs(pageable)),
+                    webRequest, servletResponse);
+            return null;
+        }
+        PagedResponse<LogoSongSummaryResponse> response = logoSongService.getAllLogoSongs(pageable, userPrincipal.getId());
+        // 페이지는 목록 캐시에서 오므로 변경이 없으면 DB 조회/직렬화 없이 304
+        if (LogoSongEtags.checkNotModified(webRequest, LogoSongEtags.page(response))) {
+            return null;
         }
         return ApiResponse.success(response);
     }
@@ -105,27 +134,77 @@ public class LogoSongController {
     @Operation(summary = "인기 로고송 조회", description = "좋아요 수가 많은 순으로 로고송을 조회합니다.")
     @ApiPagedSuccessSchema(
             message = "인기 로고송 목록 조회가 성공적으로 처리되었습니다.",
-            contentClass = LogoSongResponse.class,
+            contentClass = LogoSongSummaryResponse.class,
             httpStatus = 200
     )
     @ApiErrorExamples({
             ErrorCode.INVALID_INPUT_VALUE
     })
-    public ApiResponse<PagedResponse<LogoSongResponse>> getPopularLogoSongs(
+    public ApiResponse<PagedResponse<LogoSongSummaryResponse>> getPopularLogoSongs(
             @ParameterObject
             @PageableDefault(size = 10, sort = "likeCount", direction = Sort.Direction.DESC)
             Pageable pageable,
             @RequestParam(value = "page", required = false) Integer pageParam,
             @RequestParam(value = "size", required = false) Integer sizeParam,
-            @AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            ServletWebRequest webRequest,
+            HttpServletResponse servletResponse) throws IOException {
         if ((pageParam != null && pageParam < 0) || (sizeParam != null && sizeParam <= 0)) {
             throw new com.guineafigma.global.exception.BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-        PagedResponse<LogoSongResponse> response;
-        if (userPrincipal != null) {
-            response = logoSongService.getPopularLogoSongs(pageable, userPrincipal.getId());
-        } else {
-            response = logoSongService.getPopularLogoSongs(pageable);
+        if (userPrincipal == null) {
+            writeCachedPage(pageResponseCache.get("popular", pageable, () -> logoSongService.getPopularLogoSongs(pageable)),
+                    webRequest, servletResponse);
+            return null;
+        }
+        PagedResponse<LogoSongSummaryResponse> response = logoSongService.getPopularLogoSongs(pageable, userPrincipal.getId());
+        if (LogoSongEtags.checkNotModified(webRequest, LogoSongEtags.page(response))) {
+            return null;
+        }
+        return ApiResponse.success(response);
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "로고송 검색",
+        description = "서비스명, 업종, 슬로건, 분위기에서 검색어가 포함된 공개 로고송을 관련도 순으로 조회합니다.\n\n" +
+                "설명:\n" +
+                "- 띄어쓰기와 무관하게 두 글자 단위로 일치를 판단합니다. (예: `카페라떼`는 `라떼` 검색에 포함)\n" +
+                "- 서비스명 일치가 슬로건/업종, 분위기보다 높은 순위를 가집니다.\n" +
+                "- 로그인한 경우, 각 항목의 좋아요 여부(`isLiked`)가 반영됩니다.\n" +
+                "- 생성/수정 내용은 수 초 내에 검색 결과에 반영됩니다.\n\n" +
+                "쿼리 파라미터:\n" +
+                "- q: 검색어 (1~50자)\n" +
+                "- page: 0부터 시작하는 페이지 번호 (예: 0)\n" +
+                "- size: 페이지 당 항목 수 (예: 10)"
+    )
+    @ApiPagedSuccessSchema(
+            message = "로고송 검색이 성공적으로 처리되었습니다.",
+            contentClass = LogoSongSummaryResponse.class,
+            httpStatus = 200
+    )
+    @ApiErrorExamples({
+            ErrorCode.INVALID_INPUT_VALUE
+    })
+    public ApiResponse<PagedResponse<LogoSongSummaryResponse>> searchLogoSongs(
+            @Parameter(description = "검색어") @RequestParam("q") String query,
+            @ParameterObject
+            @PageableDefault(size = 10)
+            Pageable pageable,
+            @RequestParam(value = "page", required = false) Integer pageParam,
+            @RequestParam(value = "size", required = false) Integer sizeParam,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+            ServletWebRequest webRequest) {
+        if ((pageParam != null && pageParam < 0) || (sizeParam != null && sizeParam <= 0)) {
+            throw new com.guineafigma.global.exception.BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        PagedResponse<LogoSongSummaryResponse> response = logoSongService.searchLogoSongs(
+                query,
+                pageable,
+                userPrincipal != null ? userPrincipal.getId() : null
+        );
+        if (LogoSongEtags.checkNotModified(webRequest, LogoSongEtags.page(response))) {
+            return null;
         }
         return ApiResponse.success(response);
     }
@@ -204,7 +283,7 @@ public class LogoSongController {
     @Operation(summary = "내 로고송 목록 조회", description = "현재 로그인한 사용자가 생성한 로고송 목록을 조회합니다.")
     @ApiPagedSuccessSchema(
             message = "내 로고송 목록 조회가 성공적으로 처리되었습니다.",
-            contentClass = LogoSongResponse.class,
+            contentClass = LogoSongSummaryResponse.class,
             httpStatus = 200
     )
     @ApiErrorExamples({
@@ -212,7 +291,7 @@ public class LogoSongController {
             ErrorCode.INVALID_TOKEN,
             ErrorCode.USER_NOT_FOUND
     })
-    public ApiResponse<PagedResponse<LogoSongResponse>> getMyLogoSongs(
+    public ApiResponse<PagedResponse<LogoSongSummaryResponse>> getMyLogoSongs(
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
             @ParameterObject
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
@@ -220,7 +299,7 @@ public class LogoSongController {
         if (userPrincipal == null) {
             return ApiResponse.error(ErrorCode.AUTHENTICATION_REQUIRED);
         }
-        PagedResponse<LogoSongResponse> response = logoSongService.getMyLogoSongs(userPrincipal.getId(), pageable);
+        PagedResponse<LogoSongSummaryResponse> response = logoSongService.getMyLogoSongs(userPrincipal.getId(), pageable);
         return ApiResponse.success(response);
     }
 
@@ -229,7 +308,7 @@ public class LogoSongController {
     @Operation(summary = "좋아요한 로고송 목록 조회", description = "현재 로그인한 사용자가 좋아요한 로고송 목록을 조회합니다.")
     @ApiPagedSuccessSchema(
             message = "좋아요한 로고송 목록 조회가 성공적으로 처리되었습니다.",
-            contentClass = LogoSongResponse.class,
+            contentClass = LogoSongSummaryResponse.class,
             httpStatus = 200
     )
     @ApiErrorExamples({
@@ -237,7 +316,7 @@ public class LogoSongController {
             ErrorCode.INVALID_TOKEN,
             ErrorCode.USER_NOT_FOUND
     })
-    public ApiResponse<PagedResponse<LogoSongResponse>> getLikedLogoSongs(
+    public ApiResponse<PagedResponse<LogoSongSummaryResponse>> getLikedLogoSongs(
             @AuthenticationPrincipal CustomUserPrincipal userPrincipal,
             @ParameterObject
             @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC)
@@ -245,7 +324,7 @@ public class LogoSongController {
         if (userPrincipal == null) {
             return ApiResponse.error(ErrorCode.AUTHENTICATION_REQUIRED);
         }
-        PagedResponse<LogoSongResponse> response = logoSongService.getLikedLogoSongs(userPrincipal.getId(), pageable);
+        PagedResponse<LogoSongSummaryResponse> response = logoSongService.getLikedLogoSongs(userPrincipal.getId(), pageable);
         return ApiResponse.success(response);
     }
 
@@ -351,6 +430,22 @@ public class LogoSongController {
         return ApiResponse.success(updated);
     }
 
+    // 비로그인 공개 페이지: 캐시된 ETag로 304, 아니면 직렬화된 byte[]를 그대로 기록 (HttpServletResponse 인자로 요청 처리 완료, null 반환)
+    private void writeCachedPage(LogoSongPageResponseCache.CachedPage page,
+                                 ServletWebRequest webRequest,
+                                 HttpServletResponse servletResponse) throws IOException {
+        // 원본/gzip은 ETag가 다르므로 클라이언트가 어느 쪽을 가지고 있어도 같은 페이지 버전이면 304
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        String etag = LogoSongEtags.matches(ifNoneMatch, page.gzipEtag()) ? page.gzipEtag()
+                : LogoSongEtags.matches(ifNoneMatch, page.etag()) ? page.etag()
+                : pageResponseCache.etagFor(page, webRequest.getRequest());
+        if (LogoSongEtags.checkNotModified(webRequest, etag)) {
+            servletResponse.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return;
+        }
+        pageResponseCache.write(page, webRequest.getRequest(), servletResponse);
+    }
+
     // 상태 엔드포인트 통합: /{id}/status
 
     // =========================== Suno API 콜백 엔드포인트 ===========================
@@ -0,0 +1,82 @@
+package com.guineafigma.domain.logosong.controller;
+
+import com.guineafigma.common.dto.BasePaginationDto;
+import com.guineafigma.common.response.PagedResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+// 상세/목록 응답의 강한 ETag (응답 직렬화 없이 버전 필드만으로 계산)
+// 로고송 버전 = updatedAt(내용/공개 여부/생성 상태) + 좋아요/조회수(logosong_stats, updatedAt을 바꾸지 않음) + 소유자 닉네임 + 요청자의 좋아요 여부
+final class LogoSongEtags {
+
+    private LogoSongEtags() {
+    }
+
+    static String detail(LogoSongResponse response, boolean liked) {
+        StringBuilder version = new StringBuilder("d:");
+        appendVersion(version, response.getId(), response.getUpdatedAt(), response.getLikeCount(),
+                response.getViewCount(), response.getUserNickname(), liked);
+        return quote(version);
+    }
+
+    // 페이지 버전 = 페이지 정보 + 항목 순서대로의 로고송 버전
+    static String page(PagedResponse<LogoSongSummaryResponse> page) {
+        StringBuilder version = new StringBuilder("p:");
+        BasePaginationDto pagination = page.getPagination();
+        if (pagination != null) {
+            version.append(pagination.getLimit()).append(',')
+                    .append(pagination.getCurrentPage()).append(',')
+                    .append(pagination.getTotalPage());
+        }
+        for (LogoSongSummaryResponse item : page.getContent()) {
+            version.append('|');
+            appendVersion(version, item.getId(), item.getUpdatedAt(), item.getLikeCount(),
+                    item.getViewCount(), item.getUserNickname(), item.isLiked());
+        }
+        return quote(version);
+    }
+
+    // If-None-Match와 비교해 일치하면 304 처리 (ETag 헤더는 항상 설정). 응답이 로그인 사용자마다 달라 Vary: Authorization
+    static boolean checkNotModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.AUTHORIZATION);
+        }
+        return request.checkNotModified(etag);
+    }
+
+    // If-None-Match 목록에 etag가 있는지 (약한 비교, *는 항상 일치). 헤더를 설정하지 않아 응답 ETag 결정 전에 사용
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendVersion(StringBuilder version, Long id, Object updatedAt, Integer likeCount,
+                                      Integer viewCount, String userNickname, boolean liked) {
+        version.append(id).append(',')
+                .append(updatedAt).append(',')
+                .append(likeCount).append(',')
+                .append(viewCount).append(',')
+                .append(userNickname).append(',')
+                .append(liked);
+    }
+
+    private static String quote(CharSequence version) {
+        return "\"" + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,121 @@
+package com.guineafigma.domain.logosong.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.common.response.ApiResponse;
+import com.guineafigma.common.response.PagedResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 비로그인 공개 목록/인기 페이지의 직렬화된 응답 캐시 (logosong:pageBytes)
+// - 히트 시 ApiResponse 직렬화 없이 저장된 JSON byte[]를 출력 스트림에 그대로 기록, gzip 허용 요청에는 미리 압축한 byte[]
+// - 무효화는 logosong:list/popular와 같은 @CacheEvict에 함께 걸려 로고송 변경 시 같이 비워짐
+// - 응답 timestamp는 페이지를 직렬화한 시각 (캐시 TTL 이내)
+@Component
+public class LogoSongPageResponseCache {
+
+    public static final String CACHE_NAME = "logosong:pageBytes";
+
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+
+    public LogoSongPageResponseCache(CacheManager cacheManager,
+                                     ObjectMapper objectMapper,
+                                     @Value("${logosong.page-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME);
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+    }
+
+    // gzip은 gzip-min-bytes 미만이거나 설정이 음수면 null (원본만 사용)
+    public record CachedPage(byte[] json, byte[] gzip, String etag) {
+
+        // gzip 본문은 원본과 바이트가 달라 별도의 강한 ETag ("<etag>-gzip")
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+
+    // kind별(list/popular) 페이지 키로 조회, 없으면 loader 결과를 직렬화해 저장
+    public CachedPage get(String kind, Pageable pageable, Supplier<PagedResponse<LogoSongSummaryResponse>> loader) {
+        String key = kind + ':' + pageable.getPageNumber() + ':' + pageable.getPageSize() + ':' + pageable.getSort();
+        return cache.get(key, () -> serialize(loader.get()));
+    }
+
+    public CachedPage serialize(PagedResponse<LogoSongSummaryResponse> page) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(page));
+            return new CachedPage(json, gzip(json), LogoSongEtags.page(page));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 요청이 받게 될 표현(원본/gzip)의 ETag
+    public String etagFor(CachedPage page, HttpServletRequest request) {
+        return servesGzip(page, request) ? page.gzipEtag() : page.etag();
+    }
+
+    // 메시지 컨버터를 거치지 않고 200 응답 본문을 직접 기록
+    public void write(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        byte[] body = page.json();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (servesGzip(page, request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = page.gzip();
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean servesGzip(CachedPage page, HttpServletRequest request) {
+        return page.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    private byte[] gzip(byte[] json) throws IOException {
+        if (gzipMinBytes < 0 || json.length < gzipMinBytes) {
+            return null;
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        }
+        return buffer.toByteArray();
+    }
+
+    // Accept-Encoding에 gzip(또는 *)이 q=0 없이 포함된 경우
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim();
+            if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = tokens.length > 1 && tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
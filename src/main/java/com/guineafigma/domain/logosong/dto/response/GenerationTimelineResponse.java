@@ -0,0 +1,43 @@
+package com.guineafigma.domain.logosong.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "로고송 생성 단계별 소요 시간")
+public class GenerationTimelineResponse {
+
+    @Schema(description = "로고송 ID", example = "1")
+    private Long logoSongId;
+
+    @Schema(description = "Suno 작업 ID (앞뒤 4자만 노출)", example = "5c79****be8e")
+    private String taskId;
+
+    @Schema(description = "생성을 시작한 요청의 traceId (로그 검색용)", example = "a1b2-3c")
+    private String traceId;
+
+    @Schema(description = "타임라인 기록 시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "단계별 소요 시간(ms) - OPENAI, QUEUE, FASTAPI, SUNO_SUBMIT, FIRST_POLL(요청 후 첫 조회까지), COMPLETION(요청 후 완료까지)",
+            example = "{\"OPENAI\": 8200, \"QUEUE\": 3, \"FASTAPI\": 410, \"SUNO_SUBMIT\": 950, \"FIRST_POLL\": 30800, \"COMPLETION\": 91000}")
+    private Map<String, Long> stages;
+
+    @Schema(description = "첫 기록부터 완료까지 전체 소요 시간(ms), 미완료면 null", example = "100600")
+    private Long totalMillis;
+
+    @Schema(description = "재시도 대상 외부 API 호출의 실패 횟수", example = "0")
+    private int retries;
+
+    @Schema(description = "가장 오래 걸린 단계", example = "COMPLETION")
+    private String dominantStage;
+}
@@ -0,0 +1,35 @@
+package com.guineafigma.domain.logosong.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "최근 로고송 생성 타임라인의 단계별 분포")
+public class GenerationTimelineSummaryResponse {
+
+    @Schema(description = "집계에 사용한 타임라인 수", example = "120")
+    private int timelines;
+
+    @Schema(description = "단계별 통계 (파이프라인 순서)")
+    private Map<String, StageStat> stages;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageStat {
+        private int count;
+        private long avgMillis;
+        private long p50Millis;
+        private long p95Millis;
+        private long maxMillis;
+    }
+}
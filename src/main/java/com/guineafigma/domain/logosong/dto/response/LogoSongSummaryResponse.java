@@ -0,0 +1,109 @@
+package com.guineafigma.domain.logosong.dto.response;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.repository.LogoSongSummary;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "로고송 목록 항목 (가사, 비디오 가이드라인, 추가 요청사항, 소개글은 상세 조회에서만 제공)")
+public class LogoSongSummaryResponse {
+
+    @Schema(description = "로고송 고유 식별자", example = "123", required = true, nullable = false)
+    private Long id;
+
+    @Schema(description = "로고송을 만든 사용자 ID", example = "456", required = true, nullable = false)
+    private Long userId;
+
+    @Schema(description = "로고송을 만든 사용자 닉네임", example = "musicCreator", required = true, nullable = false)
+    private String userNickname;
+
+    @Schema(description = "브랜드 대표 이미지 URL (출력 전용)", example = "https://cdn.example.com/images/cafe-logo-123.jpg", required = false, nullable = true)
+    private String imageUrl;
+
+    @Schema(description = "브랜드/서비스명", example = "카페 뒤비뒤밥", required = true, nullable = false)
+    private String serviceName;
+
+    @Schema(description = "브랜드 슬로건", example = "맛있는 만남, 따뜻한 사람들", required = false, nullable = true)
+    private String slogan;
+
+    @Schema(description = "비즈니스 업종", example = "카페 및 베이커리", required = false, nullable = true)
+    private String industry;
+
+    @Schema(description = "마케팅 포인트", example = "수제 빵, 신선한 재료, 따뜻한 대접", required = false, nullable = true)
+    private String marketingItem;
+
+    @Schema(description = "주요 타겟 고객층", example = "20-40대 여성, 카페를 즐기는 직장인", required = false, nullable = true)
+    private String targetCustomer;
+
+    @Schema(description = "음악의 분위기와 톤", example = "따뜻함, 편안함", required = false, nullable = true)
+    private String moodTone;
+
+    @Schema(description = "사용된 음악 장르", example = "Pop", required = true, nullable = false)
+    private String musicGenre;
+
+    @Schema(description = "로고송 길이 버전", example = "SHORT", required = true, nullable = false)
+    private VersionType version;
+
+    @Schema(description = "사용자들의 좋아요 개수", example = "42", required = true, nullable = false)
+    private Integer likeCount;
+
+    @Schema(description = "로고송 재생 및 조회 횟수", example = "1250", required = true, nullable = false)
+    private Integer viewCount;
+
+    @Schema(description = "로고송 생성 일시", example = "2025-08-19T14:30:00", required = true, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Schema(description = "마지막 수정 일시", example = "2025-08-19T15:45:00", required = true, nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "음악 생성 진행 상태", example = "COMPLETED", required = false, nullable = true)
+    private MusicGenerationStatus musicStatus;
+
+    @Schema(description = "Suno AI로 생성된 음악 파일 URL (출력 전용)", example = "https://cdn1.suno.ai/550e8400-e29b-41d4-a716-446655440000.mp3", required = false, nullable = true)
+    private String generatedMusicUrl;
+
+    @Schema(description = "음악 생성 완료 일시", example = "2025-08-19T15:20:00", required = false, nullable = true)
+    private LocalDateTime generatedAt;
+
+    @Schema(description = "공개 여부", example = "false", required = true, nullable = false)
+    private boolean isPublic;
+
+    @Schema(description = "현재 사용자의 좋아요 여부", example = "false", required = false, nullable = false)
+    private boolean isLiked;
+
+    public static LogoSongSummaryResponse from(LogoSongSummary summary) {
+        return from(summary, Boolean.FALSE);
+    }
+
+    public static LogoSongSummaryResponse from(LogoSongSummary summary, Boolean isLiked) {
+        return LogoSongSummaryResponse.builder()
+                .id(summary.id())
+                .userId(summary.userId())
+                .userNickname(summary.userNickname())
+                .imageUrl(summary.imageUrl())
+                .serviceName(summary.serviceName())
+                .slogan(summary.slogan())
+                .industry(summary.industry())
+                .marketingItem(summary.marketingItem())
+                .targetCustomer(summary.targetCustomer())
+                .moodTone(summary.moodTone())
+                .musicGenre(summary.musicGenre())
+                .version(summary.version())
+                .likeCount(summary.likeCount())
+                .viewCount(summary.viewCount())
+                .musicStatus(summary.musicStatus())
+                .generatedMusicUrl(summary.generatedMusicUrl())
+                .generatedAt(summary.generatedAt())
+                .isPublic(Boolean.TRUE.equals(summary.isPublic()))
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .isLiked(isLiked != null && isLiked)
+                .build();
+    }
+}
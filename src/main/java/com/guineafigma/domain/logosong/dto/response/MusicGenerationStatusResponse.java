@@ -61,6 +61,12 @@ public class MusicGenerationStatusResponse {
     @Schema(description = "폴링 만료 예정 시간 (이 시간 이후에도 완료되지 않으면 폴링 중단 권장)", example = "2025-08-19T15:00:00", required = false, nullable = true)
     private LocalDateTime pollExpiresAt;
 
+    @Schema(description = "음악 생성 대기열 전체 길이 (이 요청 포함 Suno 호출을 기다리는 요청 수, 대기 중일 때만 제공)", example = "3", required = false, nullable = true)
+    private Integer queueDepth;
+
+    @Schema(description = "현재 대기열이 모두 Suno 호출을 받기까지의 예상 시간 (초 단위, 이 요청 대기 시간의 상한, 대기 중일 때만 제공)", example = "9", required = false, nullable = true)
+    private Integer predictedWaitSeconds;
+
     public static MusicGenerationStatusResponse processing(Long logoSongId, String taskId, LocalDateTime startedAt, String imageUrl) {
         return MusicGenerationStatusResponse.builder()
                 .logoSongId(logoSongId)
@@ -112,12 +118,19 @@ public class MusicGenerationStatusResponse {
     }
 
     public static MusicGenerationStatusResponse pending(Long logoSongId, String imageUrl) {
+        return pending(logoSongId, imageUrl, null, null);
+    }
+
+    public static MusicGenerationStatusResponse pending(Long logoSongId, String imageUrl,
+                                                        Integer queueDepth, Integer predictedWaitSeconds) {
         return MusicGenerationStatusResponse.builder()
                 .logoSongId(logoSongId)
                 .status(MusicGenerationStatus.PENDING)
                 .progress(0)
                 .statusMessage("음악 생성 준비 중입니다...")
                 .imageUrl(imageUrl)
+                .queueDepth(queueDepth)
+                .predictedWaitSeconds(predictedWaitSeconds)
                 .nextPollInterval(3) // 3초 간격으로 빠르게 확인
                 .build();
     }
@@ -9,9 +9,24 @@ import java.time.LocalDateTime;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.SecondaryRow;
 
 @Entity
-@Table(name = "logosongs")
+@Table(name = "logosongs", indexes = {
+        // 운영 스키마는 db/migration/V2__add_query_indexes.sql
+        @Index(name = "idx_logosongs_public_created", columnList = "is_public, created_at"),
+        @Index(name = "uk_logosongs_suno_task_id", columnList = "suno_task_id", unique = true),
+        @Index(name = "idx_logosongs_status_updated", columnList = "music_status, updated_at"),
+        @Index(name = "idx_logosongs_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_logosongs_updated_at", columnList = "updated_at")
+})
+// 좋아요/조회수는 좁은 logosong_stats 행으로 분리 (TEXT 컬럼이 있는 logosongs 행을 카운터마다 다시 쓰지 않음)
+// 행은 로고송 insert 시 함께 생성되고, 이후 값은 LogoSongRepository의 원자적 UPDATE로만 변경
+@SecondaryTable(name = LogoSong.STATS_TABLE,
+        pkJoinColumns = @PrimaryKeyJoinColumn(name = "logosong_id"),
+        foreignKey = @ForeignKey(name = "fk_logosong_stats_logosong"),
+        indexes = @Index(name = "idx_logosong_stats_like_count", columnList = "like_count"))
+@SecondaryRow(table = LogoSong.STATS_TABLE, optional = false)
 @Builder
 @Getter
 @Setter
@@ -19,6 +34,8 @@ import lombok.*;
 @AllArgsConstructor
 public class LogoSong extends BaseEntity {
 
+    public static final String STATS_TABLE = "logosong_stats";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @NotNull
@@ -61,11 +78,11 @@ public class LogoSong extends BaseEntity {
     @Column(name = "introduction", columnDefinition = "TEXT")
     private String introduction;
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", table = STATS_TABLE, nullable = false, updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
-    @Column(name = "view_count")
+    @Column(name = "view_count", table = STATS_TABLE, nullable = false, updatable = false)
     @Builder.Default
     private Integer viewCount = 0;
 
@@ -104,20 +121,6 @@ public class LogoSong extends BaseEntity {
     public void setVisibility(boolean publicVisible) {
         this.isPublic = publicVisible;
     }
-    
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
 
     public void updateLyrics(String lyrics) {
         this.lyrics = lyrics;
@@ -3,18 +3,22 @@ package com.guineafigma.domain.logosong.entity;
 import com.guineafigma.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "logosong_likes")
+@Table(name = "logosong_likes", indexes = {
+        // logosong_id 조회는 PK (logosong_id, user_id) 선두 컬럼으로 처리
+        @Index(name = "idx_logosong_likes_user_created", columnList = "user_id, created_at")
+})
 @Builder
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(LogoSongLikeId.class)
-public class LogoSongLike {
+public class LogoSongLike implements Persistable<LogoSongLikeId> {
 
     @Id
     @Column(name = "user_id")
@@ -36,8 +40,31 @@ public class LogoSongLike {
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // 복합키를 직접 지정하므로 save()가 merge(SELECT 후 INSERT)로 가지 않도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public LogoSongLikeId getId() {
+        return new LogoSongLikeId(userId, logosongId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        newEntity = false;
+    }
 }
\ No newline at end of file
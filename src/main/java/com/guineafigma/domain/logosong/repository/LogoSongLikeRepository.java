@@ -7,8 +7,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface LogoSongLikeRepository extends JpaRepository<LogoSongLike, LogoSongLikeId> {
@@ -23,4 +25,8 @@ public interface LogoSongLikeRepository extends JpaRepository<LogoSongLike, Logo
     Long countByLogosongId(@Param("logosongId") Long logosongId);
     
     boolean existsByUserIdAndLogosongId(Long userId, Long logosongId);
+
+    // 목록 페이지의 좋아요 여부를 한 번에 조회 (행마다 exists 쿼리를 보내지 않도록)
+    @Query("SELECT l.logosongId FROM LogoSongLike l WHERE l.userId = :userId AND l.logosongId IN :logosongIds")
+    Set<Long> findLikedLogosongIds(@Param("userId") Long userId, @Param("logosongIds") Collection<Long> logosongIds);
 }
\ No newline at end of file
@@ -4,11 +4,15 @@ import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.common.enums.VersionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,21 +23,18 @@ public interface LogoSongRepository extends JpaRepository<LogoSong, Long> {
     
     Page<LogoSong> findByVersion(VersionType version, Pageable pageable);
     
-    Page<LogoSong> findByIndustryContaining(String industry, Pageable pageable);
-    
-    Page<LogoSong> findByServiceNameContaining(String serviceName, Pageable pageable);
-    
-    @Query("SELECT l FROM LogoSong l WHERE l.moodTone LIKE %:moodTone%")
-    Page<LogoSong> findByMoodToneContaining(@Param("moodTone") String moodTone, Pageable pageable);
-    
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT l FROM LogoSong l ORDER BY l.likeCount DESC")
     Page<LogoSong> findByOrderByLikeCountDesc(Pageable pageable);
 
+    @EntityGraph(attributePaths = "user")
     Page<LogoSong> findByIsPublicTrue(Pageable pageable);
     
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT l FROM LogoSong l ORDER BY l.viewCount DESC")
     Page<LogoSong> findByOrderByViewCountDesc(Pageable pageable);
     
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT l FROM LogoSong l ORDER BY l.createdAt DESC")
     Page<LogoSong> findByOrderByCreatedAtDesc(Pageable pageable);
     
@@ -43,7 +44,63 @@ public interface LogoSongRepository extends JpaRepository<LogoSong, Long> {
     @Query("SELECT l FROM LogoSong l WHERE l.musicStatus = :status")
     List<LogoSong> findByMusicStatus(@Param("status") com.guineafigma.common.enums.MusicGenerationStatus status);
 
+    // 목록 카드용 요약 조회 (TEXT 컬럼 제외, 상세는 findById)
+    @Query(value = LogoSongSummary.SELECT + "WHERE l.isPublic = true",
+            countQuery = "SELECT COUNT(l) FROM LogoSong l WHERE l.isPublic = true")
+    Page<LogoSongSummary> findPublicSummaries(Pageable pageable);
+
+    // 인기 순위 id 페이지 (logosong_stats의 like_count 인덱스만 역순으로 읽음, 요약은 findSummariesByIdIn으로 PK 조회)
+    // 조인한 상태로 정렬하면 옵티마이저가 logosongs를 먼저 읽고 전체 정렬할 수 있어 순위와 행 조회를 분리
+    @Query(value = "SELECT logosong_id FROM logosong_stats ORDER BY like_count DESC",
+            countQuery = "SELECT COUNT(*) FROM logosong_stats",
+            nativeQuery = true)
+    Page<Long> findPopularIds(Pageable pageable);
+
+    @Query(value = LogoSongSummary.SELECT + "WHERE l.user.id = :userId",
+            countQuery = "SELECT COUNT(l) FROM LogoSong l WHERE l.user.id = :userId")
+    Page<LogoSongSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(LogoSongSummary.SELECT + "WHERE l.id IN :ids")
+    List<LogoSongSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 증분 동기화 (서비스명/업종/슬로건/분위기 부분 일치는 LogoSongSearchIndex가 처리)
+    // (updated_at, id) 키셋 페이징: 같은 updated_at 행이 배치 크기보다 많아도 id 순으로 이어 읽음
+    // 선두 범위 조건(>=)으로 idx_logosongs_updated_at을 타고, InnoDB 보조 인덱스는 PK를 포함해 (updated_at, id) 순서로 정렬됨
+    @Query(LogoSongSearchDocument.SELECT
+            + "WHERE l.updatedAt >= :updatedAt AND (l.updatedAt > :updatedAt OR l.id > :id) "
+            + "ORDER BY l.updatedAt, l.id")
+    List<LogoSongSearchDocument> findSearchDocumentsAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    // 응답 변환용 단건 조회 (LogoSongResponse가 읽는 소유자 id/nickname을 같은 쿼리에서 로드)
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT l FROM LogoSong l WHERE l.id = :id")
+    Optional<LogoSong> findWithUserById(@Param("id") Long id);
+
     // 소유자 검증용 메서드들
-    Optional<LogoSong> findByIdAndUser_Id(Long id, Long userId);
-    Page<LogoSong> findByUser_Id(Long userId, Pageable pageable);
-}
\ No newline at end of file
+    // 파생 쿼리(User_Id)는 users를 left join한 뒤 u.id로 거르므로, FK 컬럼을 직접 비교해 (user_id, created_at) 인덱스를 타게 함
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT l FROM LogoSong l WHERE l.id = :id AND l.user.id = :userId")
+    Optional<LogoSong> findByIdAndUser_Id(@Param("id") Long id, @Param("userId") Long userId);
+
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "SELECT l FROM LogoSong l WHERE l.user.id = :userId",
+            countQuery = "SELECT COUNT(l) FROM LogoSong l WHERE l.user.id = :userId")
+    Page<LogoSong> findByUser_Id(@Param("userId") Long userId, Pageable pageable);
+
+    // 카운터 갱신 (logosong_stats 행만 원자적으로 증감, 엔티티 조회/저장 없이 동시 요청도 유실 없음)
+    // 반환값은 갱신된 행 수, 0이면 로고송 없음 (감소는 0 이하로 내려가지 않음)
+    @Modifying
+    @Query(value = "UPDATE logosong_stats SET like_count = like_count + 1 WHERE logosong_id = :id", nativeQuery = true)
+    int incrementLikeCount(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE logosong_stats SET like_count = like_count - 1 WHERE logosong_id = :id AND like_count > 0", nativeQuery = true)
+    int decrementLikeCount(@Param("id") Long id);
+
+    // 같은 요청(open-in-view)에서 이미 로드된 엔티티가 있으면 증가 후 재조회가 이전 조회수를 돌려주므로 영속성 컨텍스트를 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE logosong_stats SET view_count = view_count + 1 WHERE logosong_id = :id", nativeQuery = true)
+    int incrementViewCount(@Param("id") Long id);
+}
@@ -0,0 +1,19 @@
+package com.guineafigma.domain.logosong.repository;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 동기화용 조회 결과 (검색 대상 필드 + 공개 여부, updated_at은 동기화 기준 시각)
+public record LogoSongSearchDocument(
+        Long id,
+        String serviceName,
+        String industry,
+        String slogan,
+        String moodTone,
+        Boolean isPublic,
+        LocalDateTime updatedAt
+) {
+
+    static final String SELECT = "SELECT new com.guineafigma.domain.logosong.repository.LogoSongSearchDocument("
+            + "l.id, l.serviceName, l.industry, l.slogan, l.moodTone, l.isPublic, l.updatedAt) "
+            + "FROM LogoSong l ";
+}
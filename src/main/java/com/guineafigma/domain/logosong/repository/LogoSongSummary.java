@@ -0,0 +1,66 @@
+package com.guineafigma.domain.logosong.repository;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+
+// 목록 카드용 조회 결과 (lyrics, video_guideline, additional_info, introduction TEXT 컬럼 제외, 소유자 닉네임은 같은 쿼리에서 조인)
+public record LogoSongSummary(
+        Long id,
+        Long userId,
+        String userNickname,
+        String imageUrl,
+        String serviceName,
+        String slogan,
+        String industry,
+        String marketingItem,
+        String targetCustomer,
+        String moodTone,
+        String musicGenre,
+        VersionType version,
+        Integer likeCount,
+        Integer viewCount,
+        MusicGenerationStatus musicStatus,
+        String generatedMusicUrl,
+        LocalDateTime generatedAt,
+        Boolean isPublic,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    // JPQL constructor expression의 SELECT 절 (LogoSong l JOIN l.user u 기준)
+    static final String SELECT = "SELECT new com.guineafigma.domain.logosong.repository.LogoSongSummary("
+            + "l.id, u.id, u.nickname, l.imageUrl, l.serviceName, l.slogan, l.industry, l.marketingItem, "
+            + "l.targetCustomer, l.moodTone, l.musicGenre, l.version, l.likeCount, l.viewCount, l.musicStatus, "
+            + "l.generatedMusicUrl, l.generatedAt, l.isPublic, l.createdAt, l.updatedAt) "
+            + "FROM LogoSong l JOIN l.user u ";
+
+    // 이미 로드된 엔티티를 목록 항목으로 변환할 때 사용
+    public static LogoSongSummary from(LogoSong logoSong) {
+        User user = logoSong.getUser();
+        return new LogoSongSummary(
+                logoSong.getId(),
+                user != null ? user.getId() : null,
+                user != null ? user.getNickname() : null,
+                logoSong.getImageUrl(),
+                logoSong.getServiceName(),
+                logoSong.getSlogan(),
+                logoSong.getIndustry(),
+                logoSong.getMarketingItem(),
+                logoSong.getTargetCustomer(),
+                logoSong.getMoodTone(),
+                logoSong.getMusicGenre(),
+                logoSong.getVersion(),
+                logoSong.getLikeCount(),
+                logoSong.getViewCount(),
+                logoSong.getMusicStatus(),
+                logoSong.getGeneratedMusicUrl(),
+                logoSong.getGeneratedAt(),
+                logoSong.getIsPublic(),
+                logoSong.getCreatedAt(),
+                logoSong.getUpdatedAt());
+    }
+}
@@ -0,0 +1,284 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.guineafigma.common.enums.GenerationStage;
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineResponse;
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineSummaryResponse;
+import com.guineafigma.global.intercepter.LoggingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 로고송별 생성 단계 소요 시간 기록 (최근 N건은 메모리에 보관해 조회, 전체 분포는 logosong.generation.stage 타이머)
+@Slf4j
+@Component
+public class GenerationTimelineRecorder {
+
+    public static final String METRIC_NAME = "logosong.generation.stage";
+    // 생성 파이프라인 로그를 로고송 단위로 묶기 위한 MDC 키
+    public static final String LOGOSONG_ID = "logoSongId";
+
+    private final Cache<Long, Timeline> timelines;
+    private final Cache<String, Long> logoSongIdByTask;
+    private final Map<GenerationStage, Timer> timers = new EnumMap<>(GenerationStage.class);
+
+    public GenerationTimelineRecorder(MeterRegistry meterRegistry,
+                                      @Value("${logosong.timeline.max-entries:10000}") long maxEntries,
+                                      @Value("${logosong.timeline.retention:6h}") Duration retention) {
+        this.timelines = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(retention).build();
+        this.logoSongIdByTask = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(retention).build();
+        for (GenerationStage stage : GenerationStage.values()) {
+            timers.put(stage, Timer.builder(METRIC_NAME)
+                    .description(stage.getDescription())
+                    .tag("stage", stage.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void record(Long logoSongId, GenerationStage stage, long millis) {
+        if (logoSongId == null) {
+            return;
+        }
+        if (timeline(logoSongId).record(stage, millis)) {
+            timers.get(stage).record(millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 음악 생성 수락 대기 시작 (generateLogoSongAsync 호출 직전). 이미 완료된 타임라인이면 재생성으로 보고 새로 시작
+    public void recordQueued(Long logoSongId) {
+        if (logoSongId == null) {
+            return;
+        }
+        Timeline timeline = timeline(logoSongId);
+        if (timeline.completed()) {
+            timeline = new Timeline(logoSongId, MDC.get(LoggingInterceptor.TRACE_ID));
+            timelines.put(logoSongId, timeline);
+        }
+        timeline.markQueued();
+    }
+
+    // 비동기 작업이 Suno 호출 허가를 받은 시점
+    public void recordDequeued(Long logoSongId) {
+        if (logoSongId == null) {
+            return;
+        }
+        long queuedAt = timeline(logoSongId).queuedAtNanos();
+        if (queuedAt > 0) {
+            record(logoSongId, GenerationStage.QUEUE, (System.nanoTime() - queuedAt) / 1_000_000);
+        }
+    }
+
+    public void recordSubmitted(Long logoSongId, String taskId, long submitMillis) {
+        if (logoSongId == null || taskId == null) {
+            return;
+        }
+        logoSongIdByTask.put(taskId, logoSongId);
+        timeline(logoSongId).markSubmitted(taskId);
+        record(logoSongId, GenerationStage.SUNO_SUBMIT, submitMillis);
+    }
+
+    public void recordFirstPoll(String taskId) {
+        recordSinceSubmit(taskId, GenerationStage.FIRST_POLL);
+    }
+
+    // 폴링/콜백/상태 조회 중 먼저 완료를 감지한 경로만 반영
+    public void recordCompletion(String taskId) {
+        Long logoSongId = recordSinceSubmit(taskId, GenerationStage.COMPLETION);
+        if (logoSongId != null) {
+            Timeline timeline = timelines.getIfPresent(logoSongId);
+            if (timeline != null && timeline.markCompleted()) {
+                log.info("로고송 생성 타임라인: logoSongId={}, {}", logoSongId, timeline.stages());
+            }
+        }
+    }
+
+    public void recordRetry(Long logoSongId) {
+        if (logoSongId != null) {
+            timeline(logoSongId).incrementRetries();
+        }
+    }
+
+    public Optional<GenerationTimelineResponse> find(Long logoSongId) {
+        return Optional.ofNullable(timelines.getIfPresent(logoSongId)).map(Timeline::toResponse);
+    }
+
+    public List<GenerationTimelineResponse> recent(int limit) {
+        return timelines.asMap().values().stream()
+                .sorted(Comparator.comparing(Timeline::startedAt).reversed())
+                .limit(limit)
+                .map(Timeline::toResponse)
+                .toList();
+    }
+
+    // 보관 중인 타임라인 기준 단계별 분포 (어느 단계가 create-to-complete를 좌우하는지 확인용)
+    public GenerationTimelineSummaryResponse summary() {
+        Map<GenerationStage, long[]> samples = new EnumMap<>(GenerationStage.class);
+        Map<GenerationStage, Integer> counts = new EnumMap<>(GenerationStage.class);
+        List<Timeline> snapshot = List.copyOf(timelines.asMap().values());
+        for (Timeline timeline : snapshot) {
+            timeline.stages().forEach((stage, millis) -> {
+                long[] values = samples.computeIfAbsent(stage, s -> new long[snapshot.size()]);
+                int count = counts.merge(stage, 1, Integer::sum);
+                values[count - 1] = millis;
+            });
+        }
+
+        Map<String, GenerationTimelineSummaryResponse.StageStat> stages = new LinkedHashMap<>();
+        for (GenerationStage stage : GenerationStage.values()) {
+            Integer count = counts.get(stage);
+            if (count == null) {
+                continue;
+            }
+            long[] sorted = Arrays.copyOf(samples.get(stage), count);
+            Arrays.sort(sorted);
+            stages.put(stage.name(), GenerationTimelineSummaryResponse.StageStat.builder()
+                    .count(count)
+                    .avgMillis(Arrays.stream(sorted).sum() / count)
+                    .p50Millis(percentile(sorted, 0.50))
+                    .p95Millis(percentile(sorted, 0.95))
+                    .maxMillis(sorted[count - 1])
+                    .build());
+        }
+        return GenerationTimelineSummaryResponse.builder()
+                .timelines(snapshot.size())
+                .stages(stages)
+                .build();
+    }
+
+    // Suno 콜백은 taskId만으로 대상 작업을 찾으므로 조회 응답에는 앞뒤 4자만 노출
+    static String maskTaskId(String taskId) {
+        if (taskId == null) {
+            return null;
+        }
+        if (taskId.length() <= 8) {
+            return "****";
+        }
+        return taskId.substring(0, 4) + "****" + taskId.substring(taskId.length() - 4);
+    }
+
+    private Long recordSinceSubmit(String taskId, GenerationStage stage) {
+        if (taskId == null) {
+            return null;
+        }
+        Long logoSongId = logoSongIdByTask.getIfPresent(taskId);
+        if (logoSongId == null) {
+            return null;
+        }
+        Timeline timeline = timelines.getIfPresent(logoSongId);
+        if (timeline == null || timeline.submittedAtNanos() == 0) {
+            return null;
+        }
+        record(logoSongId, stage, (System.nanoTime() - timeline.submittedAtNanos()) / 1_000_000);
+        return logoSongId;
+    }
+
+    private Timeline timeline(Long logoSongId) {
+        return timelines.get(logoSongId, id -> new Timeline(id, MDC.get(LoggingInterceptor.TRACE_ID)));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    // 단계별 소요 시간은 최초 기록만 유지 (폴링/콜백 중복 감지, 재시도 시 첫 값 보존)
+    private static final class Timeline {
+        private final Long logoSongId;
+        private final String traceId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startedAtNanos = System.nanoTime();
+        private final Map<GenerationStage, Long> stages = new EnumMap<>(GenerationStage.class);
+        private String taskId;
+        private long queuedAtNanos;
+        private long submittedAtNanos;
+        private Long totalMillis;
+        private int retries;
+
+        private Timeline(Long logoSongId, String traceId) {
+            this.logoSongId = logoSongId;
+            this.traceId = traceId;
+        }
+
+        synchronized boolean record(GenerationStage stage, long millis) {
+            return stages.putIfAbsent(stage, millis) == null;
+        }
+
+        synchronized void markQueued() {
+            queuedAtNanos = System.nanoTime();
+        }
+
+        synchronized long queuedAtNanos() {
+            return queuedAtNanos;
+        }
+
+        synchronized void markSubmitted(String taskId) {
+            this.taskId = taskId;
+            this.submittedAtNanos = System.nanoTime();
+        }
+
+        synchronized long submittedAtNanos() {
+            return submittedAtNanos;
+        }
+
+        synchronized boolean markCompleted() {
+            if (totalMillis != null) {
+                return false;
+            }
+            totalMillis = (System.nanoTime() - startedAtNanos) / 1_000_000;
+            return true;
+        }
+
+        synchronized boolean completed() {
+            return totalMillis != null;
+        }
+
+        synchronized void incrementRetries() {
+            retries++;
+        }
+
+        LocalDateTime startedAt() {
+            return startedAt;
+        }
+
+        synchronized Map<GenerationStage, Long> stages() {
+            return new EnumMap<>(stages);
+        }
+
+        synchronized GenerationTimelineResponse toResponse() {
+            Map<String, Long> stageMillis = new LinkedHashMap<>();
+            stages.forEach((stage, millis) -> stageMillis.put(stage.name(), millis));
+            // FIRST_POLL은 COMPLETION 구간에 포함되므로 가장 오래 걸린 단계 판단에서 제외
+            GenerationStage dominant = stages.entrySet().stream()
+                    .filter(e -> e.getKey() != GenerationStage.FIRST_POLL)
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+            return GenerationTimelineResponse.builder()
+                    .logoSongId(logoSongId)
+                    .taskId(maskTaskId(taskId))
+                    .traceId(traceId)
+                    .startedAt(startedAt)
+                    .stages(stageMillis)
+                    .totalMillis(totalMillis)
+                    .retries(retries)
+                    .dominantStage(dominant != null ? dominant.name() : null)
+                    .build();
+        }
+    }
+}
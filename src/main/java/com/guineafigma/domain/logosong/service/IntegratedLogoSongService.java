@@ -1,5 +1,6 @@
 package com.guineafigma.domain.logosong.service;
 
+import com.guineafigma.common.enums.GenerationStage;
 import com.guineafigma.common.enums.MusicGenerationStatus;
 import com.guineafigma.domain.logosong.dto.request.LogoSongCreateRequest;
 import com.guineafigma.domain.logosong.dto.response.GuidesResponse;
@@ -9,8 +10,10 @@ import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.domain.logosong.repository.LogoSongRepository;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "logosong.service", histogram = true)
 public class IntegratedLogoSongService {
 
     private final LogoSongRepository logoSongRepository;
@@ -25,26 +29,33 @@ public class IntegratedLogoSongService {
     private final LogoSongLyricsService logoSongLyricsService;
     private final SunoApiService sunoApiService;
     private final LogoSongGenerationService logoSongGenerationService;
+    private final SunoAdmissionService sunoAdmissionService;
+    private final GenerationTimelineRecorder timelineRecorder;
 
     // 로고송 생성 - 가사/비디오 가이드라인 생성 + 음악 생성 통합 워크플로우
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LogoSongResponse createLogoSongWithGeneration(LogoSongCreateRequest request, Long userId) {
         try {
             log.info("통합 로고송 생성 시작: serviceName={}, userId={}", request.getServiceName(), userId);
+
+            // 0. 음악 생성 수락 가능 여부 사전 확인 (가사 생성 비용 낭비 방지)
+            sunoAdmissionService.checkAdmissible();
             
             // 1. 기본 LogoSong 생성 (짧은 트랜잭션)
             LogoSongResponse created = logoSongService.createLogoSong(request, userId);
             Long logoSongId = created.getId();
 
             // 2. 가사/비디오 가이드라인 생성 (트랜잭션 없음, 외부 API)
+            long openAiStart = System.nanoTime();
             GuidesResponse guides = logoSongLyricsService.generateLyricsAndVideoGuide(request);
+            timelineRecorder.record(logoSongId, GenerationStage.OPENAI, (System.nanoTime() - openAiStart) / 1_000_000);
 
             // 3. LogoSong에 가사/가이드라인 저장 (짧은 트랜잭션)
             LogoSongResponse updated = logoSongService.updateLyricsAndVideoGuide(
                     logoSongId, guides.getLyrics(), guides.getVideoGuideline(), userId);
 
             // 4. 트랜잭션 커밋 이후 비동기 음악 생성 트리거
-            logoSongGenerationService.generateLogoSongAsync(logoSongId);
+            dispatchMusicGeneration(logoSongId);
 
             log.info("통합 로고송 생성 완료: logoSongId={}", logoSongId);
             return updated;
@@ -89,10 +100,12 @@ public class IntegratedLogoSongService {
         Long logoSongId = created.getId();
         Long userId = created.getUserId();
 
+        long openAiStart = System.nanoTime();
         GuidesResponse guides = logoSongLyricsService.generateLyricsAndVideoGuide(request);
+        timelineRecorder.record(logoSongId, GenerationStage.OPENAI, (System.nanoTime() - openAiStart) / 1_000_000);
         LogoSongResponse updated = logoSongService.updateLyricsAndVideoGuide(
                 logoSongId, guides.getLyrics(), guides.getVideoGuideline(), userId);
-        logoSongGenerationService.generateLogoSongAsync(logoSongId);
+        dispatchMusicGeneration(logoSongId);
         return updated;
     }
 
@@ -117,10 +130,24 @@ public class IntegratedLogoSongService {
             throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
         }
 
-        logoSongGenerationService.generateLogoSongAsync(logoSongId);
+        // 속도 제한/크레딧 부족 시 즉시 거절
+        dispatchMusicGeneration(logoSongId);
         log.info("음악 생성 트리거: logoSongId={}", logoSongId);
     }
 
+    // Suno 대기열 등록 후 비동기 음악 생성 디스패치. 실행기가 작업을 거절하면 등록한 자리를 반납하고 거절 응답
+    private void dispatchMusicGeneration(Long logoSongId) {
+        sunoAdmissionService.admit();
+        timelineRecorder.recordQueued(logoSongId);
+        try {
+            logoSongGenerationService.generateLogoSongAsync(logoSongId);
+        } catch (TaskRejectedException e) {
+            sunoAdmissionService.release();
+            log.warn("음악 생성 실행기 포화로 요청 거절: logoSongId={}", logoSongId);
+            throw new BusinessException(ErrorCode.SUNO_RATE_LIMITED);
+        }
+    }
+
     // 기존 로고송에 대해 가사/비디오 가이드라인 재생성
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LogoSongResponse regenerateLyricsAndGuide(Long logoSongId, LogoSongCreateRequest request) {
@@ -9,6 +9,8 @@ import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -28,12 +30,30 @@ public class LogoSongGenerationService {
     private final SunoApiService sunoApiService;
     private final LogoSongRepository logoSongRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final SunoAdmissionService sunoAdmissionService;
+    private final GenerationTimelineRecorder timelineRecorder;
+
+    // 상태 폴링 간격 (스텁 서버 기반 부하 테스트 등에서 단축 가능)
+    @Value("${suno.polling.initial-delay-ms:30000}")
+    private long pollingInitialDelayMs;
+
+    @Value("${suno.polling.interval-ms:15000}")
+    private long pollingIntervalMs;
+
+    @Value("${suno.polling.max-attempts:40}")
+    private int pollingMaxAttempts;
 
     @Async("musicGenerationExecutor")
     public void generateLogoSongAsync(Long logoSongId) {
+        // traceId는 MdcTaskDecorator가 요청 스레드에서 복사, 재시도/폴링 로그를 로고송 단위로 묶기 위해 id 추가
+        MDC.put(GenerationTimelineRecorder.LOGOSONG_ID, String.valueOf(logoSongId));
         try {
             log.info("비동기 로고송 생성 시작: logoSongId={}", logoSongId);
 
+            // 0. Suno 속도 제한 토큰 획득 (수락 대기열에서 제거)
+            sunoAdmissionService.awaitPermit();
+            timelineRecorder.recordDequeued(logoSongId);
+
             // 1. LogoSong 조회 (커밋 이후 안전하게 조회됨)
             LogoSong logoSong = logoSongRepository.findById(logoSongId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -51,11 +71,18 @@ public class LogoSongGenerationService {
 
             log.info("비동기 로고송 생성 요청 완료: logoSongId={}, taskId={}", logoSongId, taskId);
 
+        } catch (InterruptedException e) {
+            log.warn("비동기 로고송 생성 중단 (토큰 대기 중 인터럽트): logoSongId={}", logoSongId);
+            // 인터럽트 상태에서는 커넥션 획득이 실패할 수 있어 실패 상태를 먼저 기록한 뒤 플래그 복원
+            updateLogoSongStatus(logoSongId, MusicGenerationStatus.FAILED, null);
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("비동기 로고송 생성 실패: logoSongId={}", logoSongId, e);
             // 실패 상태로 업데이트 (트랜잭션 경계 내부에서 처리)
             updateLogoSongStatus(logoSongId, MusicGenerationStatus.FAILED, null);
             // 비동기에서 상위로 예외 전파하지 않음 (UnexpectedRollback 방지)
+        } finally {
+            MDC.remove(GenerationTimelineRecorder.LOGOSONG_ID);
         }
     }
 
@@ -65,15 +92,16 @@ public class LogoSongGenerationService {
             log.debug("음악 생성 상태 폴링 시작: taskId={}", taskId);
             
             // 30초 대기 후 첫 조회 (문서 상 최초 준비 시간 고려)
-            TimeUnit.SECONDS.sleep(30);
+            TimeUnit.MILLISECONDS.sleep(pollingInitialDelayMs);
             
             // 최대 10분 동안 15초 간격으로 재시도
-            for (int attempt = 0; attempt < 40; attempt++) {
+            for (int attempt = 0; attempt < pollingMaxAttempts; attempt++) {
                 try {
                     log.debug("상태 확인 시도 {}: taskId={}", attempt + 1, taskId);
                     
                     // 상태 확인
                     MusicGenerationResult result = sunoApiService.checkMusicStatus(taskId);
+                    timelineRecorder.recordFirstPoll(taskId);
                     
                     if (result.getStatus() == MusicGenerationStatus.COMPLETED) {
                         handleMusicGenerationComplete(taskId, result);
@@ -95,14 +123,17 @@ public class LogoSongGenerationService {
                 }
                 
                 // 마지막 시도가 아니면 15초 대기
-                if (attempt < 39) {
-                    TimeUnit.SECONDS.sleep(15);
+                if (attempt < pollingMaxAttempts - 1) {
+                    TimeUnit.MILLISECONDS.sleep(pollingIntervalMs);
                 }
             }
             
             // 타임아웃 처리: 여전히 완료/실패 아님 → PROCESSING 유지
             log.warn("음악 생성 상태 확인 타임아웃: taskId={}", taskId);
             
+        } catch (InterruptedException e) {
+            log.warn("음악 생성 상태 폴링 중단: taskId={}", taskId);
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("음악 생성 상태 폴링 실패: taskId={}", taskId, e);
             // 즉시 실패로 전환하지 않고 PROCESSING 유지 (콜백 대기 또는 다음 배치 확인)
@@ -122,6 +153,7 @@ public class LogoSongGenerationService {
                 logoSong.setImageUrl(result.getImageUrl());
             }
             logoSongRepository.save(logoSong);
+            timelineRecorder.recordCompletion(taskId);
 
             // 완료 이벤트 발행
             eventPublisher.publishEvent(new MusicGenerationCompleteEvent(logoSong.getId(), taskId, result));
@@ -1,6 +1,5 @@
 package com.guineafigma.domain.logosong.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.guineafigma.domain.logosong.client.FastApiClient;
 import com.guineafigma.domain.logosong.dto.fastapi.GenerateResponseDto;
@@ -9,17 +8,22 @@ import com.guineafigma.domain.logosong.dto.response.GuidesResponse;
 import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -29,6 +33,13 @@ public class LogoSongLyricsService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final FastApiClient fastApiClient;
+    private final ExternalApiMetrics externalApiMetrics;
+
+    private static final Set<String> LYRICS_AND_GUIDE_FIELDS = Set.of("lyrics", "video_guideline");
+    private static final Set<String> LYRICS_FIELD = Set.of("lyrics");
+    private static final Set<String> VIDEO_GUIDE_FIELD = Set.of("video_guideline");
+
+    private OpenAiResponseExtractor responseExtractor;
 
     @Value("${openai.api.key}")
     private String openaiApiKey;
@@ -39,6 +50,11 @@ public class LogoSongLyricsService {
     @Value("${openai.api.model}")
     private String openaiModel;
 
+    @PostConstruct
+    void initResponseExtractor() {
+        this.responseExtractor = new OpenAiResponseExtractor(objectMapper.getFactory());
+    }
+
     public GuidesResponse generateLyricsAndVideoGuide(LogoSongCreateRequest request) {
         try {
             log.info("OpenAI API 호출 시작 - 모델: {}, API URL: {}", openaiModel, openaiApiUrl);
@@ -74,13 +90,10 @@ public class LogoSongLyricsService {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
             }
 
-            // OpenAI 응답이 마크다운 코드 블록으로 감싸져 있을 경우 JSON 부분만 추출
-            String jsonContent = extractJsonFromMarkdown(content);
-            log.debug("추출된 JSON: {}", jsonContent);
-            
-            JsonNode json = objectMapper.readTree(jsonContent);
-            String lyrics = json.path("lyrics").asText("");
-            String videoGuide = json.path("video_guideline").asText("");
+            // 마크다운 코드 블록 등에 감싸진 JSON에서 필요한 필드만 추출
+            Map<String, String> fields = responseExtractor.extractFields(content, LYRICS_AND_GUIDE_FIELDS);
+            String lyrics = fields.getOrDefault("lyrics", "");
+            String videoGuide = fields.getOrDefault("video_guideline", "");
 
             if (lyrics.isEmpty()) {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
@@ -130,9 +143,8 @@ public class LogoSongLyricsService {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
             }
 
-            String jsonContent = extractJsonFromMarkdown(content);
-            JsonNode json = objectMapper.readTree(jsonContent);
-            String lyrics = json.path("lyrics").asText("");
+            String lyrics = responseExtractor.extractFields(content, LYRICS_FIELD)
+                    .getOrDefault("lyrics", "");
 
             if (lyrics.isEmpty()) {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
@@ -158,9 +170,8 @@ public class LogoSongLyricsService {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
             }
 
-            String jsonContent = extractJsonFromMarkdown(content);
-            JsonNode json = objectMapper.readTree(jsonContent);
-            String videoGuide = json.path("video_guideline").asText("");
+            String videoGuide = responseExtractor.extractFields(content, VIDEO_GUIDE_FIELD)
+                    .getOrDefault("video_guideline", "");
 
             if (videoGuide.isEmpty()) {
                 throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
@@ -196,63 +207,24 @@ public class LogoSongLyricsService {
         headers.setBearerAuth(openaiApiKey);
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
-        String response = restTemplate.postForObject(openaiApiUrl, entity, String.class);
-        if (response == null) {
-            throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
-        }
-        
+        // 응답 본문을 문자열/트리로 만들지 않고 스트림에서 바로 메시지 텍스트만 추출
+        String content;
         try {
-            JsonNode root = objectMapper.readTree(response);
-            
-            // Responses API 구조: output 배열에서 type="message"인 항목의 content[0].text 추출
-            JsonNode outputArray = root.path("output");
-            if (outputArray.isArray() && outputArray.size() > 0) {
-                for (JsonNode outputItem : outputArray) {
-                    if ("message".equals(outputItem.path("type").asText(""))) {
-                        JsonNode contentArray = outputItem.path("content");
-                        if (contentArray.isArray() && contentArray.size() > 0) {
-                            String content = contentArray.get(0).path("text").asText("");
-                            if (!content.isEmpty()) {
-                                log.debug("응답에서 추출된 컨텐츠 길이: {}", content.length());
-                                return content;
-                            }
-                        }
-                    }
-                }
-            }
-            
-            log.error("OpenAI Responses API 응답에서 텍스트를 추출할 수 없음 - 응답 구조: {}", root.toPrettyString());
-            throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
-        } catch (Exception e) {
-            log.error("OpenAI 응답 파싱 실패 - 원본 응답: '{}', 에러: {}", response, e.getMessage(), e);
+            content = externalApiMetrics.record("openai", "responses", () -> restTemplate.execute(
+                    openaiApiUrl,
+                    HttpMethod.POST,
+                    restTemplate.httpEntityCallback(entity, String.class),
+                    response -> responseExtractor.extractMessageText(response.getBody())));
+        } catch (RestClientException e) {
+            log.error("OpenAI API 호출 또는 응답 파싱 실패 - 에러: {}", e.getMessage(), e);
             throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
         }
-    }
 
-    private String extractJsonFromMarkdown(String content) {
-        // 마크다운 코드 블록으로 감싸진 JSON 추출
-        if (content.startsWith("```")) {
-            // ```json 이나 ``` 으로 시작하는 경우
-            int startIndex = content.indexOf('\n') + 1;
-            int endIndex = content.lastIndexOf("```");
-            if (startIndex > 0 && endIndex > startIndex) {
-                return content.substring(startIndex, endIndex).trim();
-            }
-        }
-        
-        // 백틱으로만 감싸진 경우
-        if (content.startsWith("`") && content.endsWith("`")) {
-            return content.substring(1, content.length() - 1).trim();
-        }
-        
-        // JSON 객체 시작과 끝을 찾아서 추출
-        int jsonStart = content.indexOf('{');
-        int jsonEnd = content.lastIndexOf('}');
-        if (jsonStart >= 0 && jsonEnd > jsonStart) {
-            return content.substring(jsonStart, jsonEnd + 1);
+        if (content == null) {
+            log.error("OpenAI Responses API 응답에서 message 텍스트를 찾을 수 없음 - model: {}", model);
+            throw new BusinessException(ErrorCode.LYRICS_GENERATION_FAILED);
         }
-        
-        // 그외의 경우 원본 그대로 반환
+        log.debug("응답에서 추출된 컨텐츠 길이: {}", content.length());
         return content;
     }
 
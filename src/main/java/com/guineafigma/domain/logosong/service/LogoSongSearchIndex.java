@@ -0,0 +1,228 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongSearchDocument;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공개 로고송의 서비스명/업종/슬로건/분위기 검색용 메모리 역색인 (인스턴스별)
+// - 토큰: 단어별 2-gram (한 글자 단어는 그대로). 한국어처럼 띄어쓰기와 무관한 부분 일치를 LIKE 전체 스캔 없이 처리
+// - 동기화: updated_at 기준 증분 조회를 주기적으로 반영 (다른 인스턴스의 생성/수정/공개 전환 포함, 좋아요/조회수는 updated_at을 바꾸지 않음)
+// - 검색: 모든 질의 토큰을 포함한 문서만, 필드 가중치 합으로 정렬. 가장 짧은 포스팅의 최신 max-candidates건만 평가해 지연이 전체 건수와 무관
+@Slf4j
+@Component
+public class LogoSongSearchIndex {
+
+    static final int SERVICE_NAME_WEIGHT = 4;
+    static final int SLOGAN_WEIGHT = 2;
+    static final int INDUSTRY_WEIGHT = 2;
+    static final int MOOD_TONE_WEIGHT = 1;
+
+    // 타임스탬프 동기화 시작점 (최초 1회 전체 색인)
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LogoSongRepository logoSongRepository;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+    private final int maxCandidates;
+
+    // token -> (logoSongId -> 가중치 합), 문서 id 내림차순으로 최신 문서부터 평가
+    private final Map<String, NavigableMap<Long, Integer>> postings = new HashMap<>();
+    // logoSongId -> 색인된 토큰 (갱신/제거 시 이전 포스팅 정리)
+    private final Map<Long, Set<String>> documentTokens = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 마지막으로 반영한 updated_at (sync 스레드에서만 변경)
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+
+    public LogoSongSearchIndex(LogoSongRepository logoSongRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${logosong.search.sync-batch-size:500}") int syncBatchSize,
+                               @Value("${logosong.search.sync-overlap:5s}") Duration syncOverlap,
+                               @Value("${logosong.search.max-candidates:2000}") int maxCandidates) {
+        this.logoSongRepository = logoSongRepository;
+        this.syncBatchSize = Math.max(1, syncBatchSize);
+        this.syncOverlap = syncOverlap;
+        this.maxCandidates = Math.max(1, maxCandidates);
+        Gauge.builder("logosong.search.documents", this, LogoSongSearchIndex::size)
+                .description("검색 색인에 올라간 공개 로고송 수")
+                .register(meterRegistry);
+    }
+
+    public record Hits(List<Long> ids, long total) {
+    }
+
+    // 기동 시 전체 색인 후 증분 반영. 커밋 시각과 updated_at 사이의 차이는 overlap만큼 겹쳐 읽어 보정
+    // 한 주기 안에서는 (updated_at, id) 커서로 이어 읽어 같은 시각의 행이 배치 크기보다 많아도 빠짐없이 반영
+    @Scheduled(fixedDelayString = "${logosong.search.sync-interval-ms:2000}")
+    public synchronized void sync() {
+        LocalDateTime cursorUpdatedAt = INITIAL_WATERMARK.equals(watermark) ? watermark : watermark.minus(syncOverlap);
+        long cursorId = 0L;
+        int applied = 0;
+        while (true) {
+            List<LogoSongSearchDocument> batch = logoSongRepository.findSearchDocumentsAfter(
+                    cursorUpdatedAt, cursorId, PageRequest.of(0, syncBatchSize));
+            batch.forEach(this::apply);
+            applied += batch.size();
+            if (batch.isEmpty()) {
+                break;
+            }
+            LogoSongSearchDocument last = batch.get(batch.size() - 1);
+            if (last.updatedAt().isAfter(watermark)) {
+                watermark = last.updatedAt();
+            }
+            if (batch.size() < syncBatchSize) {
+                break;
+            }
+            cursorUpdatedAt = last.updatedAt();
+            cursorId = last.id();
+        }
+        if (applied > 0) {
+            log.debug("검색 색인 동기화: 반영 {}건, 색인 {}건, watermark={}", applied, size(), watermark);
+        }
+    }
+
+    // 공개 로고송은 색인(재색인), 비공개는 제거
+    void apply(LogoSongSearchDocument document) {
+        Map<String, Integer> tokens = Boolean.TRUE.equals(document.isPublic()) ? weightedTokens(document) : Map.of();
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = documentTokens.remove(document.id());
+            if (previous != null) {
+                for (String token : previous) {
+                    NavigableMap<Long, Integer> posting = postings.get(token);
+                    if (posting != null) {
+                        posting.remove(document.id());
+                        if (posting.isEmpty()) {
+                            postings.remove(token);
+                        }
+                    }
+                }
+            }
+            if (tokens.isEmpty()) {
+                return;
+            }
+            tokens.forEach((token, weight) ->
+                    postings.computeIfAbsent(token, key -> new TreeMap<>()).put(document.id(), weight));
+            documentTokens.put(document.id(), tokens.keySet());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수 내림차순(동점은 최신 id 우선)으로 offset부터 limit건의 로고송 id
+    public Hits search(String query, long offset, int limit) {
+        Set<String> queryTokens = new LinkedHashSet<>(tokenize(query));
+        if (queryTokens.isEmpty()) {
+            return new Hits(List.of(), 0);
+        }
+
+        List<Scored> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<NavigableMap<Long, Integer>> lists = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                NavigableMap<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    return new Hits(List.of(), 0);
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int evaluated = 0;
+            for (Map.Entry<Long, Integer> candidate : lists.get(0).descendingMap().entrySet()) {
+                if (evaluated++ >= maxCandidates) {
+                    break;
+                }
+                int score = candidate.getValue();
+                for (int i = 1; i < lists.size() && score > 0; i++) {
+                    Integer weight = lists.get(i).get(candidate.getKey());
+                    score = weight != null ? score + weight : 0;
+                }
+                if (score > 0) {
+                    matches.add(new Scored(candidate.getKey(), score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingInt(Scored::score).reversed()
+                .thenComparing(Comparator.comparingLong(Scored::id).reversed()));
+        List<Long> ids = matches.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Scored::id)
+                .toList();
+        return new Hits(ids, matches.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> weightedTokens(LogoSongSearchDocument document) {
+        Map<String, Integer> weights = new HashMap<>();
+        addField(weights, document.serviceName(), SERVICE_NAME_WEIGHT);
+        addField(weights, document.slogan(), SLOGAN_WEIGHT);
+        addField(weights, document.industry(), INDUSTRY_WEIGHT);
+        addField(weights, document.moodTone(), MOOD_TONE_WEIGHT);
+        return weights;
+    }
+
+    // 같은 토큰이 여러 필드에 있으면 가중치를 합산 (한 필드 안의 반복은 한 번만)
+    private static void addField(Map<String, Integer> weights, String text, int weight) {
+        for (String token : new LinkedHashSet<>(tokenize(text))) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    // NFKC 정규화 + 소문자, 글자/숫자가 아닌 문자로 단어를 나눈 뒤 단어별 2-gram
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    private record Scored(long id, int score) {
+    }
+}
@@ -5,22 +5,33 @@ import com.guineafigma.common.enums.MusicGenerationStatus;
 import com.guineafigma.domain.logosong.dto.request.LogoSongCreateRequest;
 import com.guineafigma.domain.logosong.dto.response.GuidesResponse;
 import com.guineafigma.domain.logosong.dto.response.LogoSongResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
 import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.domain.logosong.entity.LogoSongLike;
 import com.guineafigma.domain.logosong.repository.LogoSongLikeRepository;
 import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongSummary;
 import com.guineafigma.domain.user.entity.User;
 import com.guineafigma.domain.user.repository.UserRepository;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +39,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "logosong.service", histogram = true)
 public class LogoSongService {
 
     private final LogoSongRepository logoSongRepository;
@@ -36,9 +48,13 @@ public class LogoSongService {
     
     private final LogoSongLyricsService logoSongLyricsService;
     private final UserRepository userRepository;
+    private final LogoSongSearchIndex logoSongSearchIndex;
+
+    @Value("${logosong.search.max-query-length:50}")
+    private int maxSearchQueryLength;
 
     @Transactional
-    @CacheEvict(value = {"logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public LogoSongResponse createLogoSong(LogoSongCreateRequest request, Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -64,7 +80,7 @@ public class LogoSongService {
 
     // 테스트 및 기존 코드 호환을 위한 오버로드 (기본 사용자 생성/재사용)
     @Transactional
-    @CacheEvict(value = {"logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public LogoSongResponse createLogoSong(LogoSongCreateRequest request) {
         // 닉네임 'testUser' 사용자를 찾거나 생성
         User user = userRepository.findByNickname("testUser")
@@ -79,7 +95,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:quickStatus"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes", "logosong:quickStatus"}, allEntries = true)
     public LogoSongResponse updateLyricsAndVideoGuide(Long logoSongId, String lyrics, String videoGuideline, Long userId) {
         LogoSong logoSong = logoSongRepository.findByIdAndUser_Id(logoSongId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -91,9 +107,9 @@ public class LogoSongService {
 
     // 호환용 오버로드 (소유자 검증 없이 동작) - 테스트 코드 호환 목적
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:quickStatus"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes", "logosong:quickStatus"}, allEntries = true)
     public LogoSongResponse updateLyricsAndVideoGuide(Long logoSongId, String lyrics, String videoGuideline) {
-        LogoSong logoSong = logoSongRepository.findById(logoSongId)
+        LogoSong logoSong = logoSongRepository.findWithUserById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         logoSong.updateLyrics(lyrics);
         logoSong.updateVideoGuideline(videoGuideline);
@@ -102,7 +118,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:quickStatus", "suno:status"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes", "logosong:quickStatus", "suno:status"}, allEntries = true)
     public void setMusicStatus(Long logoSongId, MusicGenerationStatus status) {
         LogoSong logoSong = logoSongRepository.findById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -111,7 +127,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:quickStatus"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes", "logosong:quickStatus"}, allEntries = true)
     public LogoSongResponse updateLyricsOnlyAndSetPending(Long logoSongId, String lyrics, Long userId) {
         LogoSong logoSong = logoSongRepository.findByIdAndUser_Id(logoSongId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -124,9 +140,9 @@ public class LogoSongService {
 
     // 호환용 오버로드
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:quickStatus"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes", "logosong:quickStatus"}, allEntries = true)
     public LogoSongResponse updateLyricsOnlyAndSetPending(Long logoSongId, String lyrics) {
-        LogoSong logoSong = logoSongRepository.findById(logoSongId)
+        LogoSong logoSong = logoSongRepository.findWithUserById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         logoSong.updateLyrics(lyrics);
         logoSong.updateMusicStatus(null);
@@ -135,7 +151,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public LogoSongResponse updateVideoGuidelineOnly(Long logoSongId, String videoGuideline, Long userId) {
         LogoSong logoSong = logoSongRepository.findByIdAndUser_Id(logoSongId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -146,9 +162,9 @@ public class LogoSongService {
 
     // 호환용 오버로드
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public LogoSongResponse updateVideoGuidelineOnly(Long logoSongId, String videoGuideline) {
-        LogoSong logoSong = logoSongRepository.findById(logoSongId)
+        LogoSong logoSong = logoSongRepository.findWithUserById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         logoSong.updateVideoGuideline(videoGuideline);
         LogoSong saved = logoSongRepository.save(logoSong);
@@ -194,29 +210,30 @@ public class LogoSongService {
     @Transactional(readOnly = true)
     @Cacheable(value = "logosong:byId", key = "#id", sync = true)
     public LogoSongResponse getLogoSong(Long id) {
-        LogoSong logoSong = logoSongRepository.findById(id)
+        LogoSong logoSong = logoSongRepository.findWithUserById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         
         return LogoSongResponse.from(logoSong);
     }
 
+    // 조회수는 logosong_stats만 원자적으로 갱신한 뒤 조회 (목록 캐시는 TTL로 갱신, 상세 캐시만 제거)
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = "logosong:byId", key = "#id")
     public LogoSongResponse incrementViewCount(Long id) {
-        LogoSong logoSong = logoSongRepository.findById(id)
+        if (logoSongRepository.incrementViewCount(id) == 0) {
+            throw new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND);
+        }
+        LogoSong logoSong = logoSongRepository.findWithUserById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         
-        logoSong.incrementViewCount();
-        LogoSong savedLogoSong = logoSongRepository.save(logoSong);
-        
-        return LogoSongResponse.from(savedLogoSong);
+        return LogoSongResponse.from(logoSong);
     }
 
     @Transactional(readOnly = true)
     @Cacheable(value = "logosong:list", key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort", sync = true)
-    public PagedResponse<LogoSongResponse> getAllLogoSongs(Pageable pageable) {
-        Page<LogoSong> logoSongPage = logoSongRepository.findByIsPublicTrue(pageable);
-        Page<LogoSongResponse> responsePage = logoSongPage.map(LogoSongResponse::from);
+    public PagedResponse<LogoSongSummaryResponse> getAllLogoSongs(Pageable pageable) {
+        Page<LogoSongSummary> logoSongPage = logoSongRepository.findPublicSummaries(pageable);
+        Page<LogoSongSummaryResponse> responsePage = logoSongPage.map(LogoSongSummaryResponse::from);
         
         return PagedResponse.of(
                 responsePage.getContent(),
@@ -228,9 +245,9 @@ public class LogoSongService {
 
     @Transactional(readOnly = true)
     @Cacheable(value = "logosong:popular", key = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort", sync = true)
-    public PagedResponse<LogoSongResponse> getPopularLogoSongs(Pageable pageable) {
-        Page<LogoSong> logoSongPage = logoSongRepository.findByOrderByLikeCountDesc(pageable);
-        Page<LogoSongResponse> responsePage = logoSongPage.map(LogoSongResponse::from);
+    public PagedResponse<LogoSongSummaryResponse> getPopularLogoSongs(Pageable pageable) {
+        Page<LogoSongSummary> logoSongPage = findPopularSummaries(pageable);
+        Page<LogoSongSummaryResponse> responsePage = logoSongPage.map(LogoSongSummaryResponse::from);
         
         return PagedResponse.of(
                 responsePage.getContent(),
@@ -242,16 +259,10 @@ public class LogoSongService {
 
     @Transactional(readOnly = true)
     @Cacheable(value = "logosong:list", key = "'u:' + #userId + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort", sync = true)
-    public PagedResponse<LogoSongResponse> getAllLogoSongs(Pageable pageable, Long userId) {
+    public PagedResponse<LogoSongSummaryResponse> getAllLogoSongs(Pageable pageable, Long userId) {
         // 로그인 여부와 무관하게, 일반 목록은 공개된(isPublic=true) 로고송만 조회
-        Page<LogoSong> logoSongPage = logoSongRepository.findByIsPublicTrue(pageable);
-        Page<LogoSongResponse> responsePage = logoSongPage.map(logoSong -> {
-            Boolean liked = null;
-            if (userId != null) {
-                liked = logoSongLikeRepository.existsByUserIdAndLogosongId(userId, logoSong.getId());
-            }
-            return LogoSongResponse.from(logoSong, liked);
-        });
+        Page<LogoSongSummary> logoSongPage = logoSongRepository.findPublicSummaries(pageable);
+        Page<LogoSongSummaryResponse> responsePage = mapWithLikes(logoSongPage, userId);
 
         return PagedResponse.of(
                 responsePage.getContent(),
@@ -263,15 +274,29 @@ public class LogoSongService {
 
     @Transactional(readOnly = true)
     @Cacheable(value = "logosong:popular", key = "'u:' + #userId + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort", sync = true)
-    public PagedResponse<LogoSongResponse> getPopularLogoSongs(Pageable pageable, Long userId) {
-        Page<LogoSong> logoSongPage = logoSongRepository.findByOrderByLikeCountDesc(pageable);
-        Page<LogoSongResponse> responsePage = logoSongPage.map(logoSong -> {
-            Boolean liked = null;
-            if (userId != null) {
-                liked = logoSongLikeRepository.existsByUserIdAndLogosongId(userId, logoSong.getId());
-            }
-            return LogoSongResponse.from(logoSong, liked);
-        });
+    public PagedResponse<LogoSongSummaryResponse> getPopularLogoSongs(Pageable pageable, Long userId) {
+        Page<LogoSongSummary> logoSongPage = findPopularSummaries(pageable);
+        Page<LogoSongSummaryResponse> responsePage = mapWithLikes(logoSongPage, userId);
+
+        return PagedResponse.of(
+                responsePage.getContent(),
+                pageable.getPageSize(),
+                pageable.getPageNumber() + 1,
+                responsePage.getTotalPages()
+        );
+    }
+
+    // 서비스명/업종/슬로건/분위기 검색 (LogoSongSearchIndex 순위대로, 색인 반영 전 비공개 전환된 항목은 제외)
+    @Transactional(readOnly = true)
+    public PagedResponse<LogoSongSummaryResponse> searchLogoSongs(String query, Pageable pageable, Long userId) {
+        if (query == null || query.isBlank() || query.length() > maxSearchQueryLength) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        LogoSongSearchIndex.Hits hits = logoSongSearchIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+        List<LogoSongSummary> summaries = findSummariesInOrder(hits.ids()).stream()
+                .filter(summary -> Boolean.TRUE.equals(summary.isPublic()))
+                .toList();
+        Page<LogoSongSummaryResponse> responsePage = mapWithLikes(new PageImpl<>(summaries, pageable, hits.total()), userId);
 
         return PagedResponse.of(
                 responsePage.getContent(),
@@ -283,7 +308,7 @@ public class LogoSongService {
 
     @Transactional(readOnly = true)
     public LogoSongResponse getLogoSongWithLike(Long id, Long userId) {
-        LogoSong logoSong = logoSongRepository.findById(id)
+        LogoSong logoSong = logoSongRepository.findWithUserById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         // 비공개 로고송은 소유자만 접근 가능. 그 외에는 존재를 숨긴다(404)
         if (!Boolean.TRUE.equals(logoSong.getIsPublic())) {
@@ -299,9 +324,13 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = "logosong:byId", key = "#id")
     public LogoSongResponse incrementViewCountWithLike(Long id, Long userId) {
-        LogoSong logoSong = logoSongRepository.findById(id)
+        // 갱신 후 조회해야 응답에 증가된 조회수가 담김 (비공개 검증 실패 시 예외로 롤백)
+        if (logoSongRepository.incrementViewCount(id) == 0) {
+            throw new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND);
+        }
+        LogoSong logoSong = logoSongRepository.findWithUserById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
         // 비공개 로고송은 소유자만 조회 가능. 그 외에는 존재를 숨긴다(404)
         if (!Boolean.TRUE.equals(logoSong.getIsPublic())) {
@@ -310,19 +339,16 @@ public class LogoSongService {
             }
         }
 
-        logoSong.incrementViewCount();
-        LogoSong savedLogoSong = logoSongRepository.save(logoSong);
-
         boolean liked = false;
         if (userId != null) {
             liked = logoSongLikeRepository.existsByUserIdAndLogosongId(userId, id);
         }
 
-        return LogoSongResponse.from(savedLogoSong, liked);
+        return LogoSongResponse.from(logoSong, liked);
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void toggleLike(Long logoSongId, Long userId) {
         LogoSong logoSong = logoSongRepository.findById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -339,7 +365,7 @@ public class LogoSongService {
         if (exists) {
             logoSongLikeRepository.findByUserIdAndLogosongId(userId, logoSongId)
                     .ifPresent(logoSongLikeRepository::delete);
-            logoSong.decrementLikeCount();
+            logoSongRepository.decrementLikeCount(logoSongId);
             log.info("좋아요 취소: 사용자 {}, 로고송 {}", userId, logoSongId);
         } else {
             LogoSongLike logoSongLike = LogoSongLike.builder()
@@ -347,15 +373,13 @@ public class LogoSongService {
                     .logosongId(logoSongId)
                     .build();
             logoSongLikeRepository.save(logoSongLike);
-            logoSong.incrementLikeCount();
+            logoSongRepository.incrementLikeCount(logoSongId);
             log.info("좋아요 추가: 사용자 {}, 로고송 {}", userId, logoSongId);
         }
-        
-        logoSongRepository.save(logoSong);
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void like(Long logoSongId, Long userId) {
         LogoSong logoSong = logoSongRepository.findById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -376,12 +400,11 @@ public class LogoSongService {
                 .logosongId(logoSongId)
                 .build();
         logoSongLikeRepository.save(logoSongLike);
-        logoSong.incrementLikeCount();
-        logoSongRepository.save(logoSong);
+        logoSongRepository.incrementLikeCount(logoSongId);
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void unlike(Long logoSongId, Long userId) {
         LogoSong logoSong = logoSongRepository.findById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -396,9 +419,8 @@ public class LogoSongService {
         logoSongLikeRepository.findByUserIdAndLogosongId(userId, logoSongId)
                 .ifPresent(like -> {
                     logoSongLikeRepository.delete(like);
-                    logoSong.decrementLikeCount();
+                    logoSongRepository.decrementLikeCount(logoSongId);
                 });
-        logoSongRepository.save(logoSong);
     }
 
     @Transactional(readOnly = true)
@@ -407,7 +429,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void updateVisibility(Long logoSongId, boolean publicVisible, String introduction, Long userId) {
         LogoSong logoSong = logoSongRepository.findByIdAndUser_Id(logoSongId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -419,7 +441,7 @@ public class LogoSongService {
     }
 
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void updatePartial(Long logoSongId, Boolean isPublic, String introduction, Long userId) {
         LogoSong logoSong = logoSongRepository.findByIdAndUser_Id(logoSongId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -434,7 +456,7 @@ public class LogoSongService {
 
     // 호환용 오버로드
     @Transactional
-    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular"}, allEntries = true)
+    @CacheEvict(value = {"logosong:byId", "logosong:list", "logosong:popular", "logosong:pageBytes"}, allEntries = true)
     public void updateVisibility(Long logoSongId, boolean publicVisible) {
         LogoSong logoSong = logoSongRepository.findById(logoSongId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.LOGOSONG_NOT_FOUND));
@@ -443,11 +465,9 @@ public class LogoSongService {
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<LogoSongResponse> getMyLogoSongs(Long userId, Pageable pageable) {
-        // 미디어 엔티티에서 해당 사용자가 업로드한 로고송 ID들을 조회하는 방식으로 구현
-        // 실제로는 LogoSong 엔티티에 userId 필드를 추가하는 것이 더 적절할 수 있음
-        Page<LogoSong> logoSongPage = logoSongRepository.findByUser_Id(userId, pageable);
-        Page<LogoSongResponse> responsePage = logoSongPage.map(LogoSongResponse::from);
+    public PagedResponse<LogoSongSummaryResponse> getMyLogoSongs(Long userId, Pageable pageable) {
+        Page<LogoSongSummary> logoSongPage = logoSongRepository.findSummariesByUserId(userId, pageable);
+        Page<LogoSongSummaryResponse> responsePage = logoSongPage.map(LogoSongSummaryResponse::from);
         
         return PagedResponse.of(
                 responsePage.getContent(),
@@ -458,7 +478,7 @@ public class LogoSongService {
     }
 
     @Transactional(readOnly = true)
-    public PagedResponse<LogoSongResponse> getLikedLogoSongs(Long userId, Pageable pageable) {
+    public PagedResponse<LogoSongSummaryResponse> getLikedLogoSongs(Long userId, Pageable pageable) {
         List<LogoSongLike> likedSongs = logoSongLikeRepository.findByUserId(userId);
         List<Long> logoSongIds = likedSongs.stream()
                 .map(LogoSongLike::getLogosongId)
@@ -473,15 +493,14 @@ public class LogoSongService {
             );
         }
         
-        List<LogoSong> logoSongs = logoSongRepository.findAllById(logoSongIds);
-        List<LogoSongResponse> responses = logoSongs.stream()
-                .map(LogoSongResponse::from)
+        List<LogoSongSummaryResponse> responses = logoSongRepository.findSummariesByIdIn(logoSongIds).stream()
+                .map(LogoSongSummaryResponse::from)
                 .toList();
         
         // 간단한 페이지네이션 구현
         int start = (int) pageable.getOffset();
         int end = Math.min((start + pageable.getPageSize()), responses.size());
-        List<LogoSongResponse> pagedResponses = responses.subList(start, end);
+        List<LogoSongSummaryResponse> pagedResponses = responses.subList(start, end);
         
         return PagedResponse.of(
                 pagedResponses,
@@ -490,4 +509,34 @@ public class LogoSongService {
                 (int) Math.ceil((double) responses.size() / pageable.getPageSize())
         );
     }
-}
\ No newline at end of file
+
+    // 인기 순위 id 페이지를 먼저 구하고 같은 순서로 요약을 채움 (페이지 정렬 파라미터는 무시, 항상 좋아요 수 내림차순)
+    private Page<LogoSongSummary> findPopularSummaries(Pageable pageable) {
+        Page<Long> idPage = logoSongRepository.findPopularIds(
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        return new PageImpl<>(findSummariesInOrder(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
+
+    // id 순서를 유지해 요약 조회 (IN 조회 결과 순서는 보장되지 않음, 그 사이 삭제된 id는 제외)
+    private List<LogoSongSummary> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, LogoSongSummary> summaries = logoSongRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(LogoSongSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 페이지 단위로 좋아요 여부를 한 번에 조회해 매핑 (비로그인이면 liked=null)
+    private Page<LogoSongSummaryResponse> mapWithLikes(Page<LogoSongSummary> logoSongPage, Long userId) {
+        if (userId == null || logoSongPage.isEmpty()) {
+            return logoSongPage.map(summary -> LogoSongSummaryResponse.from(summary, null));
+        }
+        Set<Long> likedIds = logoSongLikeRepository.findLikedLogosongIds(
+                userId, logoSongPage.map(LogoSongSummary::id).getContent());
+        return logoSongPage.map(summary -> LogoSongSummaryResponse.from(summary, likedIds.contains(summary.id())));
+    }
+}
@@ -6,6 +6,7 @@ import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.domain.logosong.repository.LogoSongRepository;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -17,10 +18,13 @@ import java.time.LocalDateTime;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "logosong.service", histogram = true)
 public class MusicGenerationPollingService {
 
     private final LogoSongRepository logoSongRepository;
     private final SunoApiService sunoApiService;
+    private final SunoAdmissionService sunoAdmissionService;
+    private final GenerationTimelineRecorder timelineRecorder;
 
     // 웹 클라이언트 폴링을 위한 최적화된 상태 확인
     @Transactional
@@ -58,7 +62,7 @@ public class MusicGenerationPollingService {
             }
             
             if (currentStatus == MusicGenerationStatus.PENDING) {
-                return MusicGenerationStatusResponse.pending(logoSong.getId(), logoSong.getImageUrl());
+                return pendingWithQueue(logoSong);
             }
             
             // 3. PROCESSING 상태인 경우 Suno API 확인
@@ -72,6 +76,7 @@ public class MusicGenerationPollingService {
                         
                         if (result.getStatus() == MusicGenerationStatus.COMPLETED) {
                             logoSong.updateGeneratedMusicUrl(result.getAudioUrl());
+                            timelineRecorder.recordCompletion(logoSong.getSunoTaskId());
                         }
                         
                         logoSongRepository.save(logoSong);
@@ -161,7 +166,7 @@ public class MusicGenerationPollingService {
                     logoSong.getCreatedAt(),
                     logoSong.getImageUrl()
             );
-            case PENDING -> MusicGenerationStatusResponse.pending(logoSong.getId(), logoSong.getImageUrl());
+            case PENDING -> pendingWithQueue(logoSong);
             default -> MusicGenerationStatusResponse.processing(
                     logoSong.getId(),
                     logoSong.getSunoTaskId(),
@@ -171,6 +176,16 @@ public class MusicGenerationPollingService {
         };
     }
 
+    // 대기 중 응답에 Suno 수락 대기열 정보를 함께 제공
+    private MusicGenerationStatusResponse pendingWithQueue(LogoSong logoSong) {
+        return MusicGenerationStatusResponse.pending(
+                logoSong.getId(),
+                logoSong.getImageUrl(),
+                sunoAdmissionService.getQueueDepth(),
+                sunoAdmissionService.predictWaitSeconds()
+        );
+    }
+
     // 폴링 만료된 작업들 정리
     @Transactional
     public void cleanupExpiredPolling() {
@@ -184,9 +199,10 @@ public class MusicGenerationPollingService {
         
         for (LogoSong logoSong : expiredLogoSongs) {
             logoSong.updateMusicStatus(MusicGenerationStatus.FAILED);
-            logoSongRepository.save(logoSong);
             log.warn("폴링 만료로 작업 실패 처리: logoSongId={}", logoSong.getId());
         }
+        // UPDATE는 커밋 시 한 번에 flush (hibernate.jdbc.batch_size 단위 배치)
+        logoSongRepository.saveAll(expiredLogoSongs);
         
         if (!expiredLogoSongs.isEmpty()) {
             log.info("폴링 만료 작업 정리 완료: count={}", expiredLogoSongs.size());
@@ -0,0 +1,146 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// OpenAI Responses API 응답을 트리 생성 없이 스트리밍으로 파싱
+// - output[] 중 첫 번째 type="message" 항목의 content[0].text를 찾는 즉시 중단
+// - 가사/가이드 JSON은 필요한 필드만 읽고 나머지는 건너뜀
+public class OpenAiResponseExtractor {
+
+    private final JsonFactory jsonFactory;
+
+    public OpenAiResponseExtractor(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    // 응답 본문 스트림에서 메시지 텍스트 추출 (없으면 null)
+    public String extractMessageText(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return extractMessageText(parser);
+        }
+    }
+
+    public String extractMessageText(String body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return extractMessageText(parser);
+        }
+    }
+
+    private String extractMessageText(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("output".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    String text = readMessageItem(parser);
+                    if (text != null) {
+                        return text;
+                    }
+                }
+                return null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    // output 항목 하나를 읽어 message 텍스트를 반환. type이 content 뒤에 오는 경우도 처리
+    private String readMessageItem(JsonParser parser) throws IOException {
+        String type = null;
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("type".equals(field) && value == JsonToken.VALUE_STRING) {
+                type = parser.getText();
+                if (!"message".equals(type)) {
+                    // reasoning 등 다른 항목은 나머지를 건너뜀
+                    skipRestOfObject(parser);
+                    return null;
+                }
+                if (text != null) {
+                    return text;
+                }
+            } else if ("content".equals(field) && value == JsonToken.START_ARRAY) {
+                text = readFirstContentText(parser);
+                if ("message".equals(type) && text != null) {
+                    return text;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return "message".equals(type) ? text : null;
+    }
+
+    private String readFirstContentText(JsonParser parser) throws IOException {
+        String text = null;
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.END_ARRAY) {
+            return null;
+        }
+        if (first == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("text".equals(field) && value == JsonToken.VALUE_STRING) {
+                    text = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        // 두 번째 이후 content 항목은 건너뜀
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+        }
+        return text == null || text.isEmpty() ? null : text;
+    }
+
+    private void skipRestOfObject(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    // 마크다운 코드 블록 등에 감싸진 JSON 객체에서 지정한 문자열 필드만 추출
+    public Map<String, String> extractFields(String content, Set<String> fields) throws IOException {
+        Map<String, String> result = new HashMap<>();
+        int start = content.indexOf('{');
+        if (start < 0) {
+            return result;
+        }
+        StringReader reader = new StringReader(content);
+        reader.skip(start);
+        try (JsonParser parser = jsonFactory.createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return result;
+            }
+            while (result.size() < fields.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (fields.contains(field) && value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    result.put(field, parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+}
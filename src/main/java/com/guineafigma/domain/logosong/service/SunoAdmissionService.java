@@ -0,0 +1,150 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.domain.logosong.client.SunoApiClient;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Suno 음악 생성 요청 수락 제어
+// - 토큰 버킷으로 Suno 호출 속도를 제한하고, 백그라운드로 갱신되는 크레딧 잔액으로 사전 거절
+// - 요청 스레드에서 admit()으로 대기열에 등록하고, 비동기 스레드에서 awaitPermit()으로 호출 허가를 받음
+@Slf4j
+@Service
+public class SunoAdmissionService {
+
+    private final SunoApiClient sunoApiClient;
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final int maxQueueDepth;
+    private final double creditsPerGeneration;
+
+    // 토큰 버킷 상태 (this 모니터로 보호)
+    private double availablePermits;
+    private long lastRefillNanos;
+
+    // admit 이후 아직 Suno 호출 허가를 받지 못한 요청 수
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    // 마지막으로 확인된 크레딧 잔액 (null이면 알 수 없음 → 크레딧 기준 거절하지 않음)
+    private volatile Double cachedCredits;
+
+    public SunoAdmissionService(SunoApiClient sunoApiClient,
+                                @Value("${suno.admission.requests-per-minute:20}") int requestsPerMinute,
+                                @Value("${suno.admission.burst:5}") int burst,
+                                @Value("${suno.admission.max-queue-depth:50}") int maxQueueDepth,
+                                @Value("${suno.admission.credits-per-generation:12}") double creditsPerGeneration) {
+        this.sunoApiClient = sunoApiClient;
+        this.permitsPerSecond = Math.max(1, requestsPerMinute) / 60.0;
+        this.burst = Math.max(1, burst);
+        this.maxQueueDepth = Math.max(1, maxQueueDepth);
+        this.creditsPerGeneration = creditsPerGeneration;
+        this.availablePermits = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 생성 요청을 받을 수 있는 상태인지 확인 (대기열 등록 없음)
+    public void checkAdmissible() {
+        checkAdmissible(queueDepth.get());
+    }
+
+    // 생성 요청을 대기열에 등록. 수락할 수 없으면 BusinessException
+    // 확인과 증가를 한 번의 CAS로 처리해 동시 요청이 함께 확인을 통과해 상한을 넘지 않도록 함
+    public void admit() {
+        int depth = queueDepth.updateAndGet(current -> {
+            checkAdmissible(current);
+            return current + 1;
+        });
+        log.debug("Suno 생성 요청 수락: queueDepth={}", depth);
+    }
+
+    // 수락 후 비동기 작업이 실행되지 못한 경우(실행기 거절 등) 대기열 자리 반납
+    public void release() {
+        queueDepth.updateAndGet(v -> Math.max(0, v - 1));
+    }
+
+    private void checkAdmissible(int depth) {
+        if (depth >= maxQueueDepth) {
+            log.warn("Suno 생성 대기열 초과로 요청 거절: queueDepth={}, max={}", depth, maxQueueDepth);
+            throw new BusinessException(ErrorCode.SUNO_RATE_LIMITED);
+        }
+        Double credits = cachedCredits;
+        if (credits != null && credits < creditsPerGeneration * (depth + 1)) {
+            log.warn("Suno 크레딧 부족으로 요청 거절: credits={}, queueDepth={}", credits, depth);
+            throw new BusinessException(ErrorCode.SUNO_CREDITS_EXHAUSTED);
+        }
+    }
+
+    // Suno 호출 직전에 토큰을 획득할 때까지 대기하고 대기열에서 제거
+    public void awaitPermit() throws InterruptedException {
+        try {
+            long waitNanos;
+            while ((waitNanos = tryAcquire()) > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            Double credits = cachedCredits;
+            if (credits != null) {
+                // 다음 갱신 전까지는 차감된 잔액으로 판단
+                cachedCredits = Math.max(0, credits - creditsPerGeneration);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    // 토큰을 획득하면 0, 아니면 다음 토큰까지 남은 나노초
+    synchronized long tryAcquire() {
+        refill();
+        if (availablePermits >= 1) {
+            availablePermits -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - availablePermits) / permitsPerSecond * 1_000_000_000L);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond;
+        availablePermits = Math.min(burst, availablePermits + refilled);
+        lastRefillNanos = now;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    // 현재 대기열이 모두 처리되기까지의 예상 대기 시간 (초)
+    public int predictWaitSeconds() {
+        double permits;
+        synchronized (this) {
+            refill();
+            permits = availablePermits;
+        }
+        double deficit = queueDepth.get() - permits;
+        return deficit <= 0 ? 0 : (int) Math.ceil(deficit / permitsPerSecond);
+    }
+
+    public Double getCachedCredits() {
+        return cachedCredits;
+    }
+
+    @Scheduled(initialDelayString = "${suno.admission.credit-refresh-initial-delay-ms:5000}",
+            fixedDelayString = "${suno.admission.credit-refresh-interval-ms:60000}")
+    public void refreshCredits() {
+        Double credits = sunoApiClient.getRemainingCredits();
+        if (credits != null) {
+            cachedCredits = credits;
+            log.debug("Suno 크레딧 잔액 갱신: credits={}", credits);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.guineafigma.domain.logosong.service;
 
+import com.guineafigma.common.enums.GenerationStage;
 import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.util.LatencyTracker;
 import com.guineafigma.domain.logosong.client.SunoApiClient;
 import com.guineafigma.domain.logosong.client.FastApiClient;
 import com.guineafigma.domain.logosong.dto.fastapi.GenerateResponseDto;
@@ -8,20 +10,32 @@ import com.guineafigma.domain.logosong.dto.request.LogoSongCreateRequest;
 import com.guineafigma.domain.logosong.dto.request.SunoGenerateRequest;
 import com.guineafigma.domain.logosong.dto.response.MusicGenerationResult;
 import com.guineafigma.domain.logosong.dto.response.SunoGenerateResponse;
-import com.guineafigma.domain.logosong.dto.response.SunoStatusResponse;
 import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.global.config.MdcTaskDecorator;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -31,6 +45,28 @@ public class SunoApiService {
     private final LogoSongRepository logoSongRepository;
     private final FastApiClient fastApiClient;
     private final SunoParamMapper sunoParamMapper;
+    // ThreadPoolTaskExecutor 빈이 여러 개라 이름으로 지정 (lombok.config가 생성자 파라미터로 복사)
+    @Qualifier("sunoStatusExecutor")
+    private final ThreadPoolTaskExecutor sunoStatusExecutor;
+    private final GenerationTimelineRecorder timelineRecorder;
+
+    private static final int HEDGE_MIN_SAMPLES = 20;
+
+    // 조회 경로별 최근 지연 (헤지 지연 계산용)
+    private final LatencyTracker recordInfoLatency = new LatencyTracker(256);
+    private final LatencyTracker legacyLatency = new LatencyTracker(256);
+
+    @Value("${suno.status.hedge.initial-delay-ms:1500}")
+    private long hedgeInitialDelayMs;
+
+    @Value("${suno.status.hedge.min-delay-ms:200}")
+    private long hedgeMinDelayMs;
+
+    @Value("${suno.status.hedge.max-delay-ms:10000}")
+    private long hedgeMaxDelayMs;
+
+    @Value("${suno.status.hedge.timeout-ms:30000}")
+    private long hedgeTimeoutMs;
 
     @Value("${app.domain:http://localhost:8080}")
     private String appDomain;
@@ -74,7 +110,9 @@ public class SunoApiService {
                         .version(logoSong.getVersion())
                         .additionalInfo(logoSong.getAdditionalInfo())
                         .build();
+                long fastApiStart = System.nanoTime();
                 GenerateResponseDto gen = fastApiClient.fetchGenerate(genReq, requestId);
+                timelineRecorder.record(logoSong.getId(), GenerationStage.FASTAPI, (System.nanoTime() - fastApiStart) / 1_000_000);
                 try {
                     if (gen != null) {
                         int examplesCount = gen.getExamples() != null ? gen.getExamples().size() : 0;
@@ -115,9 +153,11 @@ public class SunoApiService {
                 request = SunoGenerateRequest.of(prompt, style, title, model, callBackUrl, duration);
             }
 
+            long submitStart = System.nanoTime();
             SunoGenerateResponse response = sunoApiClient.generateMusic(request);
 
             if (response.getId() != null) {
+                timelineRecorder.recordSubmitted(logoSong.getId(), response.getId(), (System.nanoTime() - submitStart) / 1_000_000);
                 logoSong.updateSunoTaskId(response.getId());
                 logoSong.updateMusicStatus(MusicGenerationStatus.PROCESSING);
                 logoSongRepository.save(logoSong);
@@ -138,45 +178,131 @@ public class SunoApiService {
         }
     }
 
+    // record-info(주 조회)를 먼저 보내고, p95 지연이 지나도 응답이 없거나 쓸 수 없는 응답이면
+    // 레거시 조회(보조)를 함께 보내 먼저 도착한 유효 응답을 사용. 남은 요청은 취소
     @Cacheable(value = "suno:status", key = "#taskId", sync = true)
     public MusicGenerationResult checkMusicStatus(String taskId) {
-        try {
-            var recordInfo = sunoApiClient.getGenerateRecordInfo(taskId);
-            if (recordInfo.getCode() != null && recordInfo.getCode() == 200 && recordInfo.getData() != null) {
-                String status = recordInfo.getData().getStatus();
-                MusicGenerationStatus mapped = switch (status) {
-                    case "SUCCESS" -> MusicGenerationStatus.COMPLETED;
-                    case "PENDING", "TEXT_SUCCESS", "FIRST_SUCCESS" -> MusicGenerationStatus.PROCESSING;
-                    default -> MusicGenerationStatus.PROCESSING;
-                };
-
-                String audioUrl = null;
-                String imageUrl = null;
-                Double duration = null;
-                if (recordInfo.getData().getResponse() != null && recordInfo.getData().getResponse().getSunoData() != null && !recordInfo.getData().getResponse().getSunoData().isEmpty()) {
-                    var first = recordInfo.getData().getResponse().getSunoData().get(0);
-                    audioUrl = first.getAudioUrl() != null ? first.getAudioUrl() : first.getStreamAudioUrl();
-                    imageUrl = first.getImageUrl();
-                    duration = first.getDuration();
-                }
+        CompletableFuture<MusicGenerationResult> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        AtomicBoolean secondaryStarted = new AtomicBoolean();
+        AtomicReference<Future<?>> secondary = new AtomicReference<>();
 
-                return MusicGenerationResult.builder()
-                        .taskId(taskId)
-                        .status(mapped)
-                        .audioUrl(audioUrl)
-                        .imageUrl(imageUrl)
-                        .duration(duration)
-                        .build();
+        Runnable startSecondary = () -> {
+            if (!winner.isDone() && secondaryStarted.compareAndSet(false, true)) {
+                log.debug("Suno 상태 보조 조회 시작: taskId={}", taskId);
+                secondary.set(sunoStatusExecutor.getThreadPoolExecutor().submit(() ->
+                        attempt(taskId, legacyLatency, () -> MusicGenerationResult.fromSunoStatus(sunoApiClient.getGenerationStatus(taskId)),
+                                winner, failures, null)));
             }
+        };
 
-            SunoStatusResponse response = sunoApiClient.getGenerationStatus(taskId);
-            return MusicGenerationResult.fromSunoStatus(response);
-        } catch (BusinessException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("음악 생성 상태 확인 중 예외 발생: taskId={}", taskId, e);
+        Future<?> primary = sunoStatusExecutor.getThreadPoolExecutor().submit(() ->
+                attempt(taskId, recordInfoLatency, () -> fetchRecordInfo(taskId), winner, failures, startSecondary));
+        long hedgeDelay = hedgeDelayMillis();
+        // 지연 실행은 공용 풀에서 돌기 때문에 호출 스레드의 traceId를 직접 넘김
+        CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS).execute(new MdcTaskDecorator().decorate(startSecondary));
+
+        try {
+            return winner.get(hedgeTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException be) {
+                throw be;
+            }
+            log.error("음악 생성 상태 확인 중 예외 발생: taskId={}", taskId, e.getCause());
             throw new BusinessException(ErrorCode.SUNO_API_ERROR);
+        } catch (TimeoutException e) {
+            log.warn("음악 생성 상태 확인 시간 초과: taskId={}, timeoutMs={}", taskId, hedgeTimeoutMs);
+            throw new BusinessException(ErrorCode.SUNO_API_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SUNO_API_ERROR);
+        } finally {
+            // 아직 진행 중인 쪽은 취소 (재시도 백오프 대기 중이면 즉시 중단됨)
+            secondaryStarted.set(true);
+            primary.cancel(true);
+            Future<?> s = secondary.get();
+            if (s != null) {
+                s.cancel(true);
+            }
+        }
+    }
+
+    // 한 경로의 조회를 실행하고 지연을 기록. 유효 응답이면 winner 완료, 아니면 fallback 실행
+    private void attempt(String taskId, LatencyTracker tracker, Supplier<MusicGenerationResult> call,
+                         CompletableFuture<MusicGenerationResult> winner, AtomicInteger failures, Runnable onUnusable) {
+        long start = System.nanoTime();
+        try {
+            MusicGenerationResult result = call.get();
+            tracker.record((System.nanoTime() - start) / 1_000_000);
+            if (result != null) {
+                winner.complete(result);
+                return;
+            }
+            if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(new BusinessException(ErrorCode.SUNO_API_ERROR));
+            }
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted() || winner.isDone()) {
+                return; // 취소된 요청
+            }
+            tracker.record((System.nanoTime() - start) / 1_000_000);
+            log.debug("Suno 상태 조회 실패: taskId={}, msg={}", taskId, e.getMessage());
+            if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(e);
+            }
+        }
+        if (onUnusable != null) {
+            onUnusable.run();
+        }
+    }
+
+    // record-info 응답을 결과로 변환. code가 200이 아니면 null (보조 조회로 넘어감)
+    private MusicGenerationResult fetchRecordInfo(String taskId) {
+        var recordInfo = sunoApiClient.getGenerateRecordInfo(taskId);
+        if (recordInfo.getCode() == null || recordInfo.getCode() != 200 || recordInfo.getData() == null) {
+            return null;
         }
+        String status = recordInfo.getData().getStatus();
+        MusicGenerationStatus mapped = switch (status) {
+            case "SUCCESS" -> MusicGenerationStatus.COMPLETED;
+            case "PENDING", "TEXT_SUCCESS", "FIRST_SUCCESS" -> MusicGenerationStatus.PROCESSING;
+            default -> MusicGenerationStatus.PROCESSING;
+        };
+
+        String audioUrl = null;
+        String imageUrl = null;
+        Double duration = null;
+        if (recordInfo.getData().getResponse() != null && recordInfo.getData().getResponse().getSunoData() != null && !recordInfo.getData().getResponse().getSunoData().isEmpty()) {
+            var first = recordInfo.getData().getResponse().getSunoData().get(0);
+            audioUrl = first.getAudioUrl() != null ? first.getAudioUrl() : first.getStreamAudioUrl();
+            imageUrl = first.getImageUrl();
+            duration = first.getDuration();
+        }
+
+        return MusicGenerationResult.builder()
+                .taskId(taskId)
+                .status(mapped)
+                .audioUrl(audioUrl)
+                .imageUrl(imageUrl)
+                .duration(duration)
+                .build();
+    }
+
+    // 주 조회 p95 기준 헤지 지연. 표본이 적으면 기본값 사용
+    long hedgeDelayMillis() {
+        if (recordInfoLatency.sampleCount() < HEDGE_MIN_SAMPLES) {
+            return hedgeInitialDelayMs;
+        }
+        long p95 = recordInfoLatency.percentile(0.95);
+        return Math.max(hedgeMinDelayMs, Math.min(hedgeMaxDelayMs, p95));
+    }
+
+    public LatencyTracker getRecordInfoLatency() {
+        return recordInfoLatency;
+    }
+
+    public LatencyTracker getLegacyLatency() {
+        return legacyLatency;
     }
 
     public void handleMusicGenerationCallback(String taskId, MusicGenerationResult result) {
@@ -188,6 +314,7 @@ public class SunoApiService {
 
             if (result.getStatus() == MusicGenerationStatus.COMPLETED) {
                 logoSong.updateGeneratedMusicUrl(result.getAudioUrl());
+                timelineRecorder.recordCompletion(taskId);
                 log.info("음악 생성 완료: logoSongId={}, taskId={}, audioUrl={}",
                         logoSong.getId(), taskId, result.getAudioUrl());
             } else if (result.getStatus() == MusicGenerationStatus.FAILED) {
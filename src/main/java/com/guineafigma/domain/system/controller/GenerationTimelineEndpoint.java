@@ -0,0 +1,41 @@
+package com.guineafigma.domain.system.controller;
+
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineResponse;
+import com.guineafigma.domain.logosong.service.GenerationTimelineRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 로고송 생성 타임라인 조회 - 콜백 위조에 쓰일 수 있는 작업 정보라 루프백 관리 포트(/actuator)에서만 제공
+@Component
+@Endpoint(id = "generationtimelines")
+@RequiredArgsConstructor
+public class GenerationTimelineEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 200;
+
+    private final GenerationTimelineRecorder timelineRecorder;
+
+    // 단계별 p50/p95/max 요약과 최근 타임라인
+    @ReadOperation
+    public Map<String, Object> timelines(@Nullable Integer limit) {
+        int size = Math.max(0, Math.min(limit == null ? DEFAULT_LIMIT : limit, MAX_LIMIT));
+        Map<String, Object> result = new HashMap<>();
+        result.put("summary", timelineRecorder.summary());
+        result.put("recent", timelineRecorder.recent(size));
+        return result;
+    }
+
+    // 기록이 없으면 null 반환 -> 액추에이터가 404로 응답
+    @ReadOperation
+    public GenerationTimelineResponse timeline(@Selector Long logoSongId) {
+        return timelineRecorder.find(logoSongId).orElse(null);
+    }
+}
@@ -1,67 +1,79 @@
 package com.guineafigma.domain.system.controller;
 
 import com.guineafigma.common.response.ApiResponse;
+import com.guineafigma.domain.system.dto.response.HealthSnapshotResponse;
+import com.guineafigma.domain.system.service.HealthProber;
 import com.guineafigma.global.config.SwaggerConfig.ApiErrorExamples;
 import com.guineafigma.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.sql.Connection;
-import java.sql.SQLException;
-import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.HashMap;
-import java.util.Map;
-
 @Tag(name = "System", description = "시스템 상태 모니터링 및 관리 API - 서비스 헬스체크, 에러 테스트, 개발 전용 도구")
 @Slf4j
 @RestController
 @RequestMapping("/system")
 @RequiredArgsConstructor
 public class SystemController {
-    private final DataSource dataSource;
+    private final HealthProber healthProber;
 
 
     @Operation(
         summary = "서비스 헬스 체크", 
         description = "로고송 서비스와 데이터베이스 연결 상태를 확인합니다. " +
-                    "서비스 전체의 건강 상태와 데이터베이스 연결 상태를 모니터링하는 데 사용됩니다."
+                    "백그라운드 프로브가 주기적으로 수집한 DB, 커넥션 풀, 외부 의존성(Suno, FastAPI, OpenAI), 비동기 실행기 적체 상태를 반환하며 " +
+                    "요청 시 DB 커넥션을 열지 않습니다."
     )
     @ApiErrorExamples({
             ErrorCode.INTERNAL_SERVER_ERROR,
     })
     @GetMapping("/health")
-    public ApiResponse<Map<String, Object>> health(HttpServletRequest request) {
-        Map<String, Object> healthInfo = new HashMap<>();
-        String dbStatus = "UNKNOWN";
-        try (Connection conn = dataSource.getConnection()) {
-            if (conn.isValid(2)) {
-                dbStatus = "UP";
-            } else {
-                dbStatus = "DOWN";
-            }
-        } catch (SQLException e) {
-            dbStatus = "DOWN";
-        }
-        healthInfo.put("status", "UP");
-        healthInfo.put("db", dbStatus);
-        healthInfo.put("timestamp", System.currentTimeMillis());
-        healthInfo.put("service", "dubidubap server");
+    public ApiResponse<HealthSnapshotResponse> health(HttpServletRequest request) {
+        HealthSnapshotResponse snapshot = healthProber.current().toBuilder()
+                .timestamp(System.currentTimeMillis())
+                .build();
 
         // ApiResponse에 path 포함하여 반환
-        return ApiResponse.<Map<String, Object>>builder()
+        return ApiResponse.<HealthSnapshotResponse>builder()
                 .timestamp(java.time.LocalDateTime.now())
                 .status(200)
                 .code("SUCCESS")
                 .message("서비스가 정상적으로 동작 중입니다.")
                 .path(request.getRequestURI())
-                .data(healthInfo)
+                .data(snapshot)
                 .build();
     }
 
+    @Operation(
+        summary = "서비스 레디니스 체크",
+        description = "DB 연결 실패, 커넥션 풀 포화, 비동기 실행기 또는 Suno 수락 대기열 포화 시 503을 반환합니다. " +
+                    "로드밸런서가 포화된 인스턴스로 트래픽을 보내지 않도록 하는 용도이며, 외부 의존성 장애는 반영하지 않습니다."
+    )
+    @ApiErrorExamples({
+            ErrorCode.SERVICE_NOT_READY,
+    })
+    @GetMapping("/ready")
+    public ResponseEntity<ApiResponse<HealthSnapshotResponse>> ready(HttpServletRequest request) {
+        HealthSnapshotResponse snapshot = healthProber.current();
+        if (snapshot.isReady()) {
+            return ResponseEntity.ok(ApiResponse.success(snapshot));
+        }
+        ErrorCode errorCode = ErrorCode.SERVICE_NOT_READY;
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(ApiResponse.<HealthSnapshotResponse>builder()
+                        .timestamp(java.time.LocalDateTime.now())
+                        .status(errorCode.getStatus().value())
+                        .code(errorCode.getCode())
+                        .message(errorCode.getMessage())
+                        .path(request.getRequestURI())
+                        .data(snapshot)
+                        .build());
+    }
+
     // removed test endpoints
     
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.guineafigma.domain.system.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "백그라운드 프로브가 마지막으로 수집한 서비스 상태")
+public class HealthSnapshotResponse {
+
+    @Schema(description = "서비스 상태 (DB 연결 기준)", example = "UP")
+    private String status;
+
+    @Schema(description = "DB 연결 상태", example = "UP")
+    private String db;
+
+    @Schema(description = "서비스 이름", example = "dubidubap server")
+    private String service;
+
+    @Schema(description = "응답 시각 (epoch millis)", example = "1735600000000")
+    private long timestamp;
+
+    @Schema(description = "상태 수집 시각")
+    private LocalDateTime checkedAt;
+
+    @Schema(description = "트래픽 수용 가능 여부 (DB, 커넥션 풀, 실행기 큐 포화 기준)", example = "true")
+    private boolean ready;
+
+    @Schema(description = "ready=false인 이유")
+    private List<String> notReadyReasons;
+
+    @Schema(description = "DB 연결 확인 소요 시간 (ms)", example = "2")
+    private long dbLatencyMillis;
+
+    @Schema(description = "DB 커넥션 풀 상태")
+    private Pool pool;
+
+    @Schema(description = "외부 의존성(suno, fastapi, openai) 상태 - 직전 프로브 이후 실제 호출 결과 기준")
+    private Map<String, Dependency> dependencies;
+
+    @Schema(description = "비동기 실행기 및 Suno 수락 대기열 적체")
+    private Map<String, Backlog> executors;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int active;
+        private int idle;
+        private int total;
+        private int max;
+        private int awaiting;
+        private boolean saturated;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Dependency {
+        // UNKNOWN(호출 기록 없음) / UP / DEGRADED / DOWN
+        private String state;
+        private long calls;
+        private long failures;
+        private double avgLatencyMillis;
+        private int failingWindows;
+        private LocalDateTime lastCallAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Backlog {
+        private int active;
+        private int maxThreads;
+        private int queued;
+        private int capacity;
+        private boolean saturated;
+    }
+}
@@ -0,0 +1,282 @@
+package com.guineafigma.domain.system.service;
+
+import com.guineafigma.domain.logosong.service.SunoAdmissionService;
+import com.guineafigma.domain.system.dto.response.HealthSnapshotResponse;
+import com.guineafigma.global.config.SchedulingConfig;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+// 헬스/레디니스 상태를 주기적으로 수집해 스냅샷으로 보관 (엔드포인트는 DB 커넥션을 열지 않고 스냅샷만 반환)
+// 외부 의존성은 별도 호출 없이 직전 프로브 이후의 external.api.calls 결과로 판단
+@Slf4j
+@Component
+public class HealthProber {
+
+    private static final String SERVICE_NAME = "dubidubap server";
+    private static final List<String> DEPENDENCIES = List.of("suno", "fastapi", "openai");
+    private static final Set<String> FAILURE_OUTCOMES = Set.of("SERVER_ERROR", "IO_ERROR", "ERROR");
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final SunoAdmissionService sunoAdmissionService;
+    private final Map<String, ThreadPoolTaskExecutor> executors = new LinkedHashMap<>();
+    private final Duration staleAfter;
+    private final double queueSaturationRatio;
+    private final double dependencyFailureRatio;
+    private final int dependencyDownAfterWindows;
+
+    private final Map<String, DependencyWindow> dependencyWindows = new HashMap<>();
+    private volatile HealthSnapshotResponse snapshot;
+
+    public HealthProber(DataSource dataSource,
+                        MeterRegistry meterRegistry,
+                        SunoAdmissionService sunoAdmissionService,
+                        Map<String, Executor> executors,
+                        @Value("${system.health.probe-interval-ms:5000}") long probeIntervalMs,
+                        @Value("${system.health.queue-saturation-ratio:0.9}") double queueSaturationRatio,
+                        @Value("${system.health.dependency-failure-ratio:0.5}") double dependencyFailureRatio,
+                        @Value("${system.health.dependency-down-after-windows:3}") int dependencyDownAfterWindows) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.sunoAdmissionService = sunoAdmissionService;
+        executors.forEach((name, executor) -> {
+            if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+                this.executors.put(name, threadPool);
+            }
+        });
+        this.staleAfter = Duration.ofMillis(probeIntervalMs * 3);
+        this.queueSaturationRatio = queueSaturationRatio;
+        this.dependencyFailureRatio = dependencyFailureRatio;
+        this.dependencyDownAfterWindows = dependencyDownAfterWindows;
+        this.snapshot = HealthSnapshotResponse.builder()
+                .status("UNKNOWN")
+                .db("UNKNOWN")
+                .service(SERVICE_NAME)
+                .timestamp(System.currentTimeMillis())
+                .ready(false)
+                .notReadyReasons(List.of("상태 수집 전"))
+                .dependencies(Map.of())
+                .executors(Map.of())
+                .build();
+    }
+
+    // 기동 직후 1회 수집해 첫 레디니스 요청부터 실제 상태를 반환
+    @EventListener(ApplicationReadyEvent.class)
+    public void probeOnStartup() {
+        probe();
+    }
+
+    @Scheduled(initialDelayString = "${system.health.probe-interval-ms:5000}",
+            fixedDelayString = "${system.health.probe-interval-ms:5000}",
+            scheduler = SchedulingConfig.PROBE_SCHEDULER)
+    public synchronized void probe() {
+        List<String> notReadyReasons = new ArrayList<>();
+
+        long dbStart = System.nanoTime();
+        String db = probeDatabase();
+        long dbLatencyMillis = (System.nanoTime() - dbStart) / 1_000_000;
+        if (!"UP".equals(db)) {
+            notReadyReasons.add("DB 연결 실패");
+        }
+
+        HealthSnapshotResponse.Pool pool = probePool();
+        if (pool != null && pool.isSaturated()) {
+            notReadyReasons.add("DB 커넥션 풀 포화");
+        }
+
+        Map<String, HealthSnapshotResponse.Backlog> backlogs = probeExecutors();
+        backlogs.forEach((name, backlog) -> {
+            if (backlog.isSaturated()) {
+                notReadyReasons.add(name + " 대기열 포화");
+            }
+        });
+
+        HealthSnapshotResponse previous = snapshot;
+        snapshot = HealthSnapshotResponse.builder()
+                .status("UP".equals(db) ? "UP" : "DOWN")
+                .db(db)
+                .service(SERVICE_NAME)
+                .timestamp(System.currentTimeMillis())
+                .checkedAt(LocalDateTime.now())
+                .ready(notReadyReasons.isEmpty())
+                .notReadyReasons(List.copyOf(notReadyReasons))
+                .dbLatencyMillis(dbLatencyMillis)
+                .pool(pool)
+                .dependencies(probeDependencies())
+                .executors(backlogs)
+                .build();
+
+        if (previous.isReady() != snapshot.isReady()) {
+            if (snapshot.isReady()) {
+                log.info("서비스 레디니스 복구");
+            } else {
+                log.warn("서비스 레디니스 해제: {}", notReadyReasons);
+            }
+        }
+    }
+
+    // 마지막 스냅샷 반환. 프로브가 멈춘 경우(스케줄러 적체 등) ready=false로 표시
+    public HealthSnapshotResponse current() {
+        HealthSnapshotResponse current = snapshot;
+        if (current.getCheckedAt() != null && current.getCheckedAt().plus(staleAfter).isBefore(LocalDateTime.now())) {
+            List<String> reasons = new ArrayList<>(current.getNotReadyReasons());
+            reasons.add("상태 수집 지연");
+            return current.toBuilder().ready(false).notReadyReasons(reasons).build();
+        }
+        return current;
+    }
+
+    private String probeDatabase() {
+        try (Connection conn = dataSource.getConnection()) {
+            return conn.isValid(2) ? "UP" : "DOWN";
+        } catch (SQLException e) {
+            log.warn("DB 상태 확인 실패: {}", e.getMessage());
+            return "DOWN";
+        }
+    }
+
+    private HealthSnapshotResponse.Pool probePool() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return null;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean poolBean = hikari.getHikariPoolMXBean();
+            if (poolBean == null) {
+                return null;
+            }
+            int active = poolBean.getActiveConnections();
+            int awaiting = poolBean.getThreadsAwaitingConnection();
+            int max = hikari.getMaximumPoolSize();
+            return HealthSnapshotResponse.Pool.builder()
+                    .active(active)
+                    .idle(poolBean.getIdleConnections())
+                    .total(poolBean.getTotalConnections())
+                    .max(max)
+                    .awaiting(awaiting)
+                    .saturated(active >= max && awaiting > 0)
+                    .build();
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private Map<String, HealthSnapshotResponse.Backlog> probeExecutors() {
+        Map<String, HealthSnapshotResponse.Backlog> backlogs = new LinkedHashMap<>();
+        executors.forEach((name, executor) -> {
+            int active = executor.getActiveCount();
+            int maxThreads = executor.getMaxPoolSize();
+            int queued = executor.getQueueSize();
+            int capacity = executor.getQueueCapacity();
+            backlogs.put(name, HealthSnapshotResponse.Backlog.builder()
+                    .active(active)
+                    .maxThreads(maxThreads)
+                    .queued(queued)
+                    .capacity(capacity)
+                    .saturated(saturated(active, maxThreads, queued, capacity))
+                    .build());
+        });
+
+        int admissionQueued = sunoAdmissionService.getQueueDepth();
+        int admissionCapacity = sunoAdmissionService.getMaxQueueDepth();
+        backlogs.put("sunoAdmission", HealthSnapshotResponse.Backlog.builder()
+                .queued(admissionQueued)
+                .capacity(admissionCapacity)
+                .saturated(admissionQueued >= admissionCapacity * queueSaturationRatio)
+                .build());
+        return backlogs;
+    }
+
+    private boolean saturated(int active, int maxThreads, int queued, int capacity) {
+        if (capacity <= 0) {
+            return active >= maxThreads;
+        }
+        return active >= maxThreads && queued >= capacity * queueSaturationRatio;
+    }
+
+    // 직전 프로브 이후 호출의 실패 비율로 상태 판단. 실패 구간이 연속되면 DOWN, 호출이 없으면 이전 상태 유지
+    private Map<String, HealthSnapshotResponse.Dependency> probeDependencies() {
+        Map<String, HealthSnapshotResponse.Dependency> dependencies = new LinkedHashMap<>();
+        for (String client : DEPENDENCIES) {
+            long calls = 0;
+            long failures = 0;
+            double totalMillis = 0;
+            for (Timer timer : meterRegistry.find(ExternalApiMetrics.METRIC_NAME).tag("client", client).timers()) {
+                calls += timer.count();
+                totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+                if (FAILURE_OUTCOMES.contains(timer.getId().getTag("outcome"))) {
+                    failures += timer.count();
+                }
+            }
+
+            DependencyWindow window = dependencyWindows.computeIfAbsent(client, c -> new DependencyWindow());
+            long windowCalls = calls - window.calls;
+            long windowFailures = failures - window.failures;
+            double windowMillis = totalMillis - window.totalMillis;
+            window.calls = calls;
+            window.failures = failures;
+            window.totalMillis = totalMillis;
+
+            if (windowCalls > 0) {
+                window.lastCallAt = LocalDateTime.now();
+                window.avgLatencyMillis = windowMillis / windowCalls;
+                window.windowCalls = windowCalls;
+                window.windowFailures = windowFailures;
+                if ((double) windowFailures / windowCalls >= dependencyFailureRatio) {
+                    window.failingWindows++;
+                    window.state = window.failingWindows >= dependencyDownAfterWindows ? "DOWN" : "DEGRADED";
+                } else {
+                    window.failingWindows = 0;
+                    window.state = "UP";
+                }
+            }
+
+            dependencies.put(client, HealthSnapshotResponse.Dependency.builder()
+                    .state(window.state)
+                    .calls(window.windowCalls)
+                    .failures(window.windowFailures)
+                    .avgLatencyMillis(window.avgLatencyMillis)
+                    .failingWindows(window.failingWindows)
+                    .lastCallAt(window.lastCallAt)
+                    .build());
+        }
+        return dependencies;
+    }
+
+    // 의존성별 누적 카운터와 마지막으로 호출이 있었던 구간의 결과
+    private static final class DependencyWindow {
+        private long calls;
+        private long failures;
+        private double totalMillis;
+        private String state = "UNKNOWN";
+        private long windowCalls;
+        private long windowFailures;
+        private double avgLatencyMillis;
+        private int failingWindows;
+        private LocalDateTime lastCallAt;
+    }
+}
@@ -4,15 +4,18 @@ import com.guineafigma.common.response.ApiResponse;
 import com.guineafigma.domain.user.dto.request.LoginRequest;
 import com.guineafigma.domain.user.dto.response.LoginResponse;
 import com.guineafigma.domain.user.dto.response.UserResponse;
+import com.guineafigma.domain.user.service.LoginThrottle;
 import com.guineafigma.domain.user.service.UserService;
 import com.guineafigma.global.config.SwaggerConfig.ApiErrorExamples;
 import com.guineafigma.global.config.SwaggerConfig.ApiSuccessResponse;
 import com.guineafigma.global.config.security.CustomUserPrincipal;
+import com.guineafigma.global.config.security.jwt.JwtTokenProvider;
 import com.guineafigma.global.exception.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
     @ResponseStatus(HttpStatus.OK)
@@ -50,11 +54,15 @@ public class AuthController {
             ErrorCode.USER_NOT_ACTIVE,
             ErrorCode.NICKNAME_TOO_SHORT,
             ErrorCode.NICKNAME_TOO_LONG,
-            ErrorCode.PASSWORD_TOO_SHORT
+            ErrorCode.PASSWORD_TOO_SHORT,
+            ErrorCode.LOGIN_TOO_MANY_ATTEMPTS,
+            ErrorCode.LOGIN_BUSY
     })
     public ApiResponse<LoginResponse> login(
         @Parameter(description = "로그인 요청 정보 - 닉네임과 비밀번호 포함", required = true)
-        @Valid @RequestBody LoginRequest request) {
+        @Valid @RequestBody LoginRequest request,
+        HttpServletRequest httpRequest) {
+        loginThrottle.acquire(request.getNickname(), httpRequest.getRemoteAddr());
         LoginResponse response = userService.authenticateUser(request);
         return ApiResponse.success(response);
     }
@@ -72,8 +80,9 @@ public class AuthController {
             ErrorCode.INVALID_TOKEN,
             ErrorCode.USER_NOT_FOUND
     })
-    public ApiResponse<Void> logout(@AuthenticationPrincipal CustomUserPrincipal userPrincipal) {
-        userService.logoutUser(userPrincipal.getId());
+    public ApiResponse<Void> logout(@AuthenticationPrincipal CustomUserPrincipal userPrincipal,
+                                    HttpServletRequest request) {
+        userService.logoutUser(userPrincipal.getId(), JwtTokenProvider.resolveToken(request));
         return ApiResponse.success();
     }
 
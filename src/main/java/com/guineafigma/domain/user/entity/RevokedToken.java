@@ -0,0 +1,59 @@
+package com.guineafigma.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// 로그아웃으로 폐기된 access token (인스턴스 간 공유 + 재시작 후 복구용, 만료 시각이 지나면 삭제)
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        // 인스턴스별 증분 동기화 (revoked_at, token_id) 키셋
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at, token_id"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken implements Persistable<String> {
+
+    // jti (이전 발급 토큰은 토큰 문자열의 SHA-256)
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    // 키를 직접 지정하므로 save()가 merge(SELECT 후 INSERT)로 가지 않도록 새 엔티티 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    public RevokedToken(String tokenId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @Override
+    public String getId() {
+        return tokenId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        newEntity = false;
+    }
+}
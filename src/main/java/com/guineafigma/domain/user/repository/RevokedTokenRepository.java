@@ -0,0 +1,32 @@
+package com.guineafigma.domain.user.repository;
+
+import com.guineafigma.domain.user.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    // 폐기 목록 증분 동기화 ((revoked_at, token_id) 키셋, 만료된 항목 제외)
+    @Query("SELECT r FROM RevokedToken r "
+            + "WHERE r.revokedAt >= :revokedAt AND (r.revokedAt > :revokedAt OR r.tokenId > :tokenId) "
+            + "AND r.expiresAt > :now "
+            + "ORDER BY r.revokedAt, r.tokenId")
+    List<RevokedToken> findActiveAfter(@Param("revokedAt") LocalDateTime revokedAt,
+                                       @Param("tokenId") String tokenId,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package com.guineafigma.domain.user.service;
+
+import com.guineafigma.common.util.StripedTokenBucket;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 로그인 시도 제한 (닉네임별 + IP별 토큰 버킷)
+// 자동 가입 때문에 존재하지 않는 닉네임도 BCrypt 해싱을 유발하므로 해싱 전에 차단
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final StripedTokenBucket byNickname;
+    private final StripedTokenBucket byIp;
+
+    public LoginThrottle(@Value("${auth.login-throttle.stripes:4096}") int stripes,
+                         @Value("${auth.login-throttle.nickname-per-minute:10}") int nicknamePerMinute,
+                         @Value("${auth.login-throttle.nickname-burst:5}") int nicknameBurst,
+                         @Value("${auth.login-throttle.ip-per-minute:60}") int ipPerMinute,
+                         @Value("${auth.login-throttle.ip-burst:20}") int ipBurst) {
+        this.byNickname = new StripedTokenBucket(stripes, nicknamePerMinute, nicknameBurst);
+        this.byIp = new StripedTokenBucket(stripes, ipPerMinute, ipBurst);
+    }
+
+    public void acquire(String nickname, String clientIp) {
+        if (clientIp != null && !byIp.tryAcquire(clientIp)) {
+            log.warn("IP별 로그인 시도 제한 초과: ip={}", clientIp);
+            throw new BusinessException(ErrorCode.LOGIN_TOO_MANY_ATTEMPTS);
+        }
+        if (nickname != null && !byNickname.tryAcquire(nickname)) {
+            log.warn("닉네임별 로그인 시도 제한 초과: nickname={}", nickname);
+            throw new BusinessException(ErrorCode.LOGIN_TOO_MANY_ATTEMPTS);
+        }
+    }
+}
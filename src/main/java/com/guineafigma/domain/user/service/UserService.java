@@ -9,7 +9,7 @@ public interface UserService {
     
     LoginResponse authenticateUser(LoginRequest request);
     
-    void logoutUser(Long userId);
+    void logoutUser(Long userId, String accessToken);
     
     UserResponse getUserById(Long userId);
     
@@ -5,6 +5,7 @@ import com.guineafigma.domain.user.dto.response.LoginResponse;
 import com.guineafigma.domain.user.dto.response.UserResponse;
 import com.guineafigma.domain.user.entity.User;
 import com.guineafigma.domain.user.repository.UserRepository;
+import com.guineafigma.global.config.security.CustomUserDetailsService;
 import com.guineafigma.global.config.security.jwt.JwtTokenProvider;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
@@ -24,6 +25,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService userDetailsService;
 
     @Override
     @Transactional
@@ -44,6 +46,7 @@ public class UserServiceImpl implements UserService {
             if (!Boolean.TRUE.equals(user.getIsActive())) {
                 user.activate();
                 userRepository.save(user);
+                userDetailsService.evictPrincipal(user.getId());
                 log.info("비활성 사용자 자동 활성화: {}", nickname);
             }
 
@@ -83,20 +86,10 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    @Transactional
-    public void logoutUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        
-        if (!user.getIsActive()) {
-            log.info("이미 비활성 사용자 로그아웃 요청: {}", user.getNickname());
-            return;
-        }
-        
-        // 로그아웃 시 계정을 비활성화하여 기존 토큰 무효화
-        user.deactivate();
-        userRepository.save(user);
-        log.info("사용자 로그아웃: {} (계정 비활성화)", user.getNickname());
+    public void logoutUser(Long userId, String accessToken) {
+        // 계정은 활성 상태로 두고 현재 토큰만 폐기 (DB 쓰기 없음)
+        jwtTokenProvider.revokeToken(accessToken);
+        log.info("사용자 로그아웃: userId={} (토큰 폐기)", userId);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.guineafigma.global.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -15,17 +16,20 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class AsyncConfig {
 
     @Bean(name = "musicGenerationExecutor")
-    public Executor musicGenerationExecutor() {
+    public Executor musicGenerationExecutor(
+            @Value("${async.music-generation.core-pool-size:2}") int corePoolSize,
+            @Value("${async.music-generation.max-pool-size:5}") int maxPoolSize,
+            @Value("${async.music-generation.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 코어 스레드 수
-        executor.setCorePoolSize(2);
+        executor.setCorePoolSize(corePoolSize);
         
         // 최대 스레드 수
-        executor.setMaxPoolSize(5);
+        executor.setMaxPoolSize(maxPoolSize);
         
         // 큐 용량
-        executor.setQueueCapacity(100);
+        executor.setQueueCapacity(queueCapacity);
         
         // 스레드 이름 접두사
         executor.setThreadNamePrefix("MusicGen-");
@@ -50,8 +54,9 @@ public class AsyncConfig {
             return thread;
         });
         
-        // 태스크 데코레이터 설정 (로깅)
-        executor.setTaskDecorator(runnable -> () -> {
+        // 태스크 데코레이터 설정 (요청 traceId 전파 + 로깅)
+        MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+        executor.setTaskDecorator(runnable -> mdcTaskDecorator.decorate(() -> {
             String threadName = Thread.currentThread().getName();
             log.debug("음악 생성 비동기 작업 시작: thread={}", threadName);
             try {
@@ -62,7 +67,7 @@ public class AsyncConfig {
             } finally {
                 log.debug("음악 생성 비동기 작업 종료: thread={}", threadName);
             }
-        });
+        }));
         
         executor.initialize();
         
@@ -72,14 +77,66 @@ public class AsyncConfig {
         return executor;
     }
 
+    // Suno 상태 조회 헤지 요청 전용 (record-info / 레거시 조회를 병렬 실행)
+    @Bean(name = "sunoStatusExecutor")
+    public ThreadPoolTaskExecutor sunoStatusExecutor(
+            @Value("${async.suno-status.core-pool-size:4}") int corePoolSize,
+            @Value("${async.suno-status.max-pool-size:16}") int maxPoolSize,
+            @Value("${async.suno-status.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("SunoStatus-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setKeepAliveSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+
+        log.info("Suno Status Executor 초기화 완료: core={}, max={}", executor.getCorePoolSize(), executor.getMaxPoolSize());
+
+        return executor;
+    }
+
+    // BCrypt 해싱 전용 (CPU 바운드이므로 코어 수 이하로 제한, 큐 포화 시 호출자 실행 없이 거절)
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password-hash.pool-size:0}") int poolSize,
+            @Value("${auth.password-hash.queue-capacity:32}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PasswordHash-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+
+        log.info("Password Hash Executor 초기화 완료: threads={}, queue={}", threads, queueCapacity);
+
+        return executor;
+    }
+
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(
+            @Value("${async.task.core-pool-size:3}") int corePoolSize,
+            @Value("${async.task.max-pool-size:10}") int maxPoolSize,
+            @Value("${async.task.queue-capacity:200}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(200);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix("Async-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
         executor.setKeepAliveSeconds(60);
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
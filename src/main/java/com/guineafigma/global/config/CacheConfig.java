@@ -1,66 +1,62 @@
 package com.guineafigma.global.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.time.Duration;
 import java.util.List;
 
+// 캐시별 TTL/최대 크기는 cache.specs.<key>.ttl / maximum-size 로 덮어쓸 수 있음 (부하 테스트 튜닝용)
 @EnableCaching
 @Configuration
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private final Environment environment;
+
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCache logosongList = new CaffeineCache(
-                "logosong:list",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofSeconds(60))
-                        .maximumSize(1_000)
-                        .build()
-        );
+        CaffeineCache logosongList = caffeineCache("logosong:list", "logosong-list", Duration.ofSeconds(60), 1_000);
 
-        CaffeineCache logosongPopular = new CaffeineCache(
-                "logosong:popular",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofSeconds(60))
-                        .maximumSize(1_000)
-                        .build()
-        );
+        CaffeineCache logosongPopular = caffeineCache("logosong:popular", "logosong-popular", Duration.ofSeconds(60), 1_000);
 
-        CaffeineCache quickStatus = new CaffeineCache(
-                "logosong:quickStatus",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofSeconds(3))
-                        .maximumSize(100_000)
-                        .build()
-        );
+        // 비로그인 목록/인기 페이지의 직렬화된 JSON(+gzip) byte[], 무효화는 logosong:list/popular와 같이 처리
+        CaffeineCache logosongPageBytes = caffeineCache("logosong:pageBytes", "logosong-page-bytes", Duration.ofSeconds(60), 500);
 
-        CaffeineCache sunoStatus = new CaffeineCache(
-                "suno:status",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofSeconds(5))
-                        .maximumSize(100_000)
-                        .build()
-        );
+        CaffeineCache quickStatus = caffeineCache("logosong:quickStatus", "logosong-quick-status", Duration.ofSeconds(3), 100_000);
 
-        CaffeineCache byId = new CaffeineCache(
-                "logosong:byId",
-                Caffeine.newBuilder()
-                        .expireAfterWrite(Duration.ofMinutes(5))
-                        .maximumSize(100_000)
-                        .build()
-        );
+        CaffeineCache sunoStatus = caffeineCache("suno:status", "suno-status", Duration.ofSeconds(5), 100_000);
+
+        CaffeineCache byId = caffeineCache("logosong:byId", "logosong-by-id", Duration.ofMinutes(5), 100_000);
+
+        // 인증 principal: 로그아웃/활성 상태 변경 시 즉시 evict, TTL은 다른 인스턴스의 변경 반영 상한
+        CaffeineCache authPrincipal = caffeineCache("auth:principal", "auth-principal", Duration.ofSeconds(30), 100_000);
 
         SimpleCacheManager manager = new SimpleCacheManager();
-        manager.setCaches(List.of(logosongList, logosongPopular, quickStatus, sunoStatus, byId));
+        manager.setCaches(List.of(logosongList, logosongPopular, logosongPageBytes, quickStatus, sunoStatus, byId, authPrincipal));
         return manager;
     }
-}
 
+    // maximum-size를 0으로 주면 사실상 캐시 비활성화 (캐시 유무 비교용)
+    private CaffeineCache caffeineCache(String name, String key, Duration defaultTtl, long defaultMaximumSize) {
+        String prefix = "cache.specs." + key;
+        Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, defaultTtl);
+        long maximumSize = environment.getProperty(prefix + ".maximum-size", Long.class, defaultMaximumSize);
 
+        return new CaffeineCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumSize(maximumSize)
+                        .recordStats()
+                        .build()
+        );
+    }
+}
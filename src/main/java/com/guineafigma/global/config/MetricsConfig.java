@@ -0,0 +1,44 @@
+package com.guineafigma.global.config;
+
+import com.guineafigma.domain.logosong.service.SunoAdmissionService;
+import com.guineafigma.global.config.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Actuator 자동 바인딩(HTTP 서버, ThreadPoolTaskExecutor, Hikari, Caffeine 캐시) 외 애플리케이션 고유 지표
+// 서비스 메서드 타이머는 @Timed, 외부 API 호출은 ExternalApiMetrics에서 기록
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder passwordHashMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("auth.password.hash.queue.depth", passwordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("BCrypt 해싱 대기 중인 요청 수")
+                    .register(registry);
+            Gauge.builder("auth.password.hash.latency.p99", passwordEncoder, e -> e.getHashLatency().percentile(0.99))
+                    .description("최근 BCrypt 해싱 시간 p99 (ms)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            Gauge.builder("auth.password.hash.queue.wait.p99", passwordEncoder, e -> e.getQueueWait().percentile(0.99))
+                    .description("최근 BCrypt 해싱 큐 대기 시간 p99 (ms)")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder sunoAdmissionMetrics(SunoAdmissionService sunoAdmissionService) {
+        return registry -> {
+            Gauge.builder("suno.admission.queue.depth", sunoAdmissionService, SunoAdmissionService::getQueueDepth)
+                    .description("Suno 호출 허가 대기 중인 생성 요청 수")
+                    .register(registry);
+            Gauge.builder("suno.credits.cached", sunoAdmissionService,
+                            s -> s.getCachedCredits() != null ? s.getCachedCredits() : Double.NaN)
+                    .description("마지막으로 조회한 Suno 크레딧 잔액")
+                    .register(registry);
+        };
+    }
+}
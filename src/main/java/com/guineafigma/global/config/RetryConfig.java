@@ -1,5 +1,8 @@
 package com.guineafigma.global.config;
 
+import com.guineafigma.domain.logosong.service.GenerationTimelineRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.annotation.EnableRetry;
 
@@ -7,4 +10,10 @@ import org.springframework.retry.annotation.EnableRetry;
 @EnableRetry
 public class RetryConfig {
     // @Retryable 어노테이션 활성화
-}
\ No newline at end of file
+
+    // listeners를 지정하지 않은 모든 @Retryable에 전역으로 적용됨
+    @Bean
+    public TracingRetryListener tracingRetryListener(GenerationTimelineRecorder timelineRecorder, MeterRegistry meterRegistry) {
+        return new TracingRetryListener(timelineRecorder, meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.guineafigma.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Slf4j
+@Configuration
+public class SchedulingConfig {
+
+    public static final String PROBE_SCHEDULER = "probeScheduler";
+
+    // 기본 @Scheduled 스케줄러 (크레딧 갱신, 검색 색인 동기화 등, spring.task.scheduling.pool.size)
+    // 다른 TaskScheduler 빈이 있으면 부트 자동 구성이 빠지므로 직접 등록 (이름으로 기본 스케줄러 선택)
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        ThreadPoolTaskScheduler scheduler = builder.build();
+        log.info("기본 Task Scheduler 초기화 완료: poolSize={}", scheduler.getPoolSize());
+        return scheduler;
+    }
+
+    // 헬스/복제본 지연 프로브 전용 - 기본 스케줄러의 느린 작업(외부 API 타임아웃 등)에 막혀
+    // 스냅샷이 오래되어 레디니스가 해제되지 않도록 분리 (fixedDelay 작업당 스레드 1개)
+    @Bean(name = PROBE_SCHEDULER)
+    public ThreadPoolTaskScheduler probeScheduler(
+            @Value("${system.health.probe-scheduler-pool-size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("Probe-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+
+        log.info("Probe Scheduler 초기화 완료: poolSize={}", poolSize);
+
+        return scheduler;
+    }
+}
@@ -0,0 +1,63 @@
+package com.guineafigma.global.config;
+
+import com.guineafigma.common.util.TraceIdGenerator;
+import com.guineafigma.domain.logosong.service.GenerationTimelineRecorder;
+import com.guineafigma.global.intercepter.LoggingInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+// @Retryable 호출 전체(최초 시도 + 재시도)에 traceId를 유지하고, 실패한 시도를 로그/지표/생성 타임라인에 남김
+// 요청이나 비동기 작업 밖(배치 등)에서 시작된 호출은 traceId가 없으므로 새로 발급
+@Slf4j
+public class TracingRetryListener implements RetryListener {
+
+    public static final String METRIC_NAME = "retry.failed.attempts";
+    private static final String OWNS_TRACE_ID = "tracing.ownsTraceId";
+
+    private final GenerationTimelineRecorder timelineRecorder;
+    private final MeterRegistry meterRegistry;
+    private final TraceIdGenerator traceIdGenerator = new TraceIdGenerator("retry");
+
+    public TracingRetryListener(GenerationTimelineRecorder timelineRecorder, MeterRegistry meterRegistry) {
+        this.timelineRecorder = timelineRecorder;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        if (MDC.get(LoggingInterceptor.TRACE_ID) == null) {
+            MDC.put(LoggingInterceptor.TRACE_ID, traceIdGenerator.next());
+            context.setAttribute(OWNS_TRACE_ID, Boolean.TRUE);
+        }
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        String name = String.valueOf(context.getAttribute(RetryContext.NAME));
+        String logoSongId = MDC.get(GenerationTimelineRecorder.LOGOSONG_ID);
+        log.warn("재시도 대상 호출 실패: name={}, attempt={}, logoSongId={}, error={}",
+                name, context.getRetryCount(), logoSongId, throwable.getMessage());
+
+        Counter.builder(METRIC_NAME)
+                .description("@Retryable 호출의 실패한 시도 수")
+                .tag("name", name)
+                .register(meterRegistry)
+                .increment();
+        if (logoSongId != null) {
+            timelineRecorder.recordRetry(Long.valueOf(logoSongId));
+        }
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (Boolean.TRUE.equals(context.getAttribute(OWNS_TRACE_ID))) {
+            MDC.remove(LoggingInterceptor.TRACE_ID);
+        }
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 
@@ -56,7 +55,8 @@ public class WebConfig implements WebMvcConfigurer {
         configurer.setDefaultTimeout(300_000L);        
         Executor executor = Executors.newCachedThreadPool();
         Executor securityContextExecutor = new DelegatingSecurityContextExecutor(executor);
-        AsyncTaskExecutor asyncTaskExecutor = new TaskExecutorAdapter(securityContextExecutor);
+        TaskExecutorAdapter asyncTaskExecutor = new TaskExecutorAdapter(securityContextExecutor);
+        asyncTaskExecutor.setTaskDecorator(new MdcTaskDecorator());
         configurer.setTaskExecutor(asyncTaskExecutor);
     }
 } 
\ No newline at end of file
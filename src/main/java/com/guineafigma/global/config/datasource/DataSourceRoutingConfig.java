@@ -0,0 +1,82 @@
+package com.guineafigma.global.config.datasource;
+
+import com.guineafigma.global.config.security.CustomUserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// datasource.routing.enabled=true 일 때만 활성화. spring.datasource.* 는 primary, datasource.replica.* 는 복제본
+// 비활성화 상태에서는 Spring Boot 기본 DataSource 자동 설정을 그대로 사용
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${datasource.replica.max-lag:2s}") Duration maxLag,
+                                               @Value("${datasource.replica.lag-query:}") String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, maxLag, lagQuery, meterRegistry);
+        // 첫 스케줄 실행 전까지 복제본을 쓰지 않도록 기동 시 한 번 확인
+        monitor.probe();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.routing.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor, readYourWritesTracker,
+                DataSourceRoutingConfig::currentUserId, meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    // read-your-writes 기준은 로그인 사용자 (익명 요청은 sticky 없이 max-lag 이내 지연만 허용)
+    private static Object currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.guineafigma.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+// 사용자별 마지막 쓰기 커밋 시점 기록. 창(sticky-window) 안의 읽기는 복제 지연과 무관하게 primary로 보냄
+public class ReadYourWritesTracker {
+
+    private final Cache<Object, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void markWrite(Object identity) {
+        if (identity != null) {
+            recentWriters.put(identity, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(Object identity) {
+        return identity != null && recentWriters.getIfPresent(identity) != null;
+    }
+}
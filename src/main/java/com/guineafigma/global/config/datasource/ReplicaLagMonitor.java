@@ -0,0 +1,99 @@
+package com.guineafigma.global.config.datasource;
+
+import com.guineafigma.global.config.SchedulingConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+// 복제본 지연을 주기적으로 확인해 라우팅 가능 여부를 보관 (요청 경로에서는 플래그만 읽음)
+// lag-query가 비어 있으면 연결 확인만 하고 지연 0으로 간주 (로컬 H2 두 개로 실행할 때)
+@Slf4j
+public class ReplicaLagMonitor {
+
+    public static final String LAG_METRIC = "datasource.replica.lag";
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, String lagQuery, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        Gauge.builder(LAG_METRIC, this, monitor -> monitor.lagSeconds)
+                .description("복제본 지연(초), 확인 실패 시 NaN")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.probe-interval-ms:1000}", scheduler = SchedulingConfig.PROBE_SCHEDULER)
+    public void probe() {
+        boolean wasAvailable = available;
+        try {
+            double lag = currentLagSeconds();
+            lagSeconds = lag;
+            available = !Double.isNaN(lag) && lag <= maxLag.toMillis() / 1000.0;
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            available = false;
+            if (wasAvailable) {
+                log.warn("복제본 상태 확인 실패, 읽기 전용 트랜잭션을 primary로 전환: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasAvailable != available) {
+            log.info("복제본 라우팅 {}: lag={}s, maxLag={}", available ? "재개" : "중단", lagSeconds, maxLag);
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    // 복제가 멈춘 경우(MySQL Seconds_Behind_Source = NULL)는 NaN
+    private double currentLagSeconds() throws SQLException {
+        try (Connection connection = replicaDataSource.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(1) ? 0 : Double.NaN;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    // 복제 설정이 없는 인스턴스 (SHOW REPLICA STATUS 결과 없음)
+                    return Double.NaN;
+                }
+                double lag = resultSet.getDouble(lagColumn(resultSet.getMetaData()));
+                return resultSet.wasNull() ? Double.NaN : lag;
+            }
+        }
+    }
+
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String name : LAG_COLUMNS) {
+                if (name.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+        return 1;
+    }
+}
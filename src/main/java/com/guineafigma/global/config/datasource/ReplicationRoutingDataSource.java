@@ -0,0 +1,87 @@
+package com.guineafigma.global.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// readOnly 트랜잭션은 복제본, 그 외는 primary로 라우팅
+// 커넥션 획득 시점에 readOnly 여부가 확정돼 있어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String ROUTE_METRIC = "datasource.routing";
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Supplier<Object> currentIdentity;
+    private final Map<Route, Counter> routeCounters = new EnumMap<>(Route.class);
+
+    public ReplicationRoutingDataSource(DataSource primary,
+                                        DataSource replica,
+                                        ReplicaLagMonitor lagMonitor,
+                                        ReadYourWritesTracker readYourWrites,
+                                        Supplier<Object> currentIdentity,
+                                        MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.currentIdentity = currentIdentity;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        for (Route route : Route.values()) {
+            routeCounters.put(route, Counter.builder(ROUTE_METRIC)
+                    .description("커넥션 라우팅 대상별 획득 수")
+                    .tag("target", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Route route = resolveRoute();
+        routeCounters.get(route).increment();
+        return route;
+    }
+
+    private Route resolveRoute() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        Object identity = currentIdentity.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit(identity);
+            return Route.PRIMARY;
+        }
+        // 직전 쓰기가 아직 복제되지 않았을 수 있는 사용자, 지연이 큰 복제본은 primary에서 읽음
+        if (readYourWrites.isSticky(identity) || !lagMonitor.isAvailable()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    // 커밋 이후부터 sticky 창을 시작 (롤백된 쓰기는 기록하지 않음)
+    private void markWriteOnCommit(Object identity) {
+        if (identity == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(readYourWrites)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(readYourWrites, identity);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(readYourWrites);
+                if (status == STATUS_COMMITTED) {
+                    readYourWrites.markWrite(identity);
+                }
+            }
+        });
+    }
+}
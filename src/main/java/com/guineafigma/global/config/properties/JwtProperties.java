@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Component
 @Getter
 @Setter
@@ -23,6 +25,9 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String secretKey = "defaultSecretKeyWhichIsSufficientlyLongForHMAC";
     private Expiration expiration = new Expiration();
+    // 서명 검증을 마친 토큰 캐시 최대 개수 (0이면 비활성화)
+    private Integer verifiedTokenCacheSize = 10_000;
+    private Revocation revocation = new Revocation();
 
     @Getter
     @Setter
@@ -30,4 +35,16 @@ public class JwtProperties {
         private Long access = 14400000L;  // 기본값 (4시간)
         private Long refresh = 604800000L;  // 기본값 (7일)
     }
+
+    // 로그아웃 토큰 폐기 목록 (access token TTL을 buckets개의 시간 버킷으로 분할)
+    // 공유 기록(revoked_tokens)은 sync-interval-ms마다 sync-batch-size건씩 증분 반영, sync-overlap만큼 겹쳐 읽음
+    @Getter
+    @Setter
+    public static class Revocation {
+        private Integer buckets = 8;
+        private Integer expectedPerBucket = 10_000;
+        private Integer exactCapacityPerBucket = 50_000;
+        private Integer syncBatchSize = 1_000;
+        private Duration syncOverlap = Duration.ofSeconds(5);
+    }
 }
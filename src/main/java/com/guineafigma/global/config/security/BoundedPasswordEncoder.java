@@ -0,0 +1,116 @@
+package com.guineafigma.global.config.security;
+
+import com.guineafigma.common.util.LatencyTracker;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// BCrypt 해싱을 요청 스레드가 아닌 전용 제한 풀에서 실행
+// 큐가 가득 차거나 큐 대기가 maxQueueWaitMillis를 넘으면 해싱하지 않고 LOGIN_BUSY로 거절
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueWaitMillis;
+
+    private final LatencyTracker hashLatency = new LatencyTracker(512);
+    private final LatencyTracker queueWait = new LatencyTracker(512);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, long maxQueueWaitMillis) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedAt);
+                queueWait.record(waited);
+                if (waited > maxQueueWaitMillis) {
+                    throw new QueueWaitExceededException();
+                }
+                long start = System.nanoTime();
+                try {
+                    return hashing.call();
+                } finally {
+                    hashLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 큐 포화로 요청 거절: queueDepth={}", getQueueDepth());
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        }
+
+        try {
+            // 큐 대기 상한 + 해싱 자체 시간 여유
+            return future.get(maxQueueWaitMillis + Math.max(1_000, hashLatency.percentile(0.99) * 4), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해싱 대기 시간 초과: queueDepth={}", getQueueDepth());
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.LOGIN_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof QueueWaitExceededException) {
+                log.warn("비밀번호 해싱 큐 대기 한도 초과로 요청 거절: limit={}ms", maxQueueWaitMillis);
+                throw new BusinessException(ErrorCode.LOGIN_BUSY);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public LatencyTracker getHashLatency() {
+        return hashLatency;
+    }
+
+    public LatencyTracker getQueueWait() {
+        return queueWait;
+    }
+
+    private static final class QueueWaitExceededException extends RuntimeException {
+        QueueWaitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
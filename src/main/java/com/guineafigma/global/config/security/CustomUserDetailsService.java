@@ -5,6 +5,8 @@ import com.guineafigma.domain.user.repository.UserRepository;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -23,4 +25,20 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         return new CustomUserPrincipal(user);
     }
-}
\ No newline at end of file
+
+    // 인증 요청마다 DB를 조회하지 않도록 활성 사용자 principal을 userId 기준으로 짧게 캐시
+    // (비활성/미존재 사용자는 예외로 끝나므로 캐시되지 않음)
+    @Cacheable(value = "auth:principal", key = "#userId")
+    public CustomUserPrincipal loadActivePrincipal(Long userId) {
+        User user = userRepository.findById(userId)
+                .filter(u -> Boolean.TRUE.equals(u.getIsActive()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        return new CustomUserPrincipal(user);
+    }
+
+    // 로그아웃/활성 상태 변경 시 즉시 무효화
+    @CacheEvict(value = "auth:principal", key = "#userId")
+    public void evictPrincipal(Long userId) {
+    }
+}
@@ -25,6 +25,16 @@ public class CustomUserPrincipal implements UserDetails {
             new SimpleGrantedAuthority("ROLE_USER")
         );
     }
+
+    // 검증된 토큰 Claims로 생성 (DB 조회 없음)
+    public CustomUserPrincipal(Long id, String nickname) {
+        this.id = id;
+        this.nickname = nickname;
+        this.isActive = true;
+        this.authorities = Collections.singleton(
+            new SimpleGrantedAuthority("ROLE_USER")
+        );
+    }
     
     // UserDetails 구현 메서드들
     @Override
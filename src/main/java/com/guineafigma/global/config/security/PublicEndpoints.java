@@ -0,0 +1,18 @@
+package com.guineafigma.global.config.security;
+
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.regex.Pattern;
+
+// 인증 없이 접근 가능한 공개 조회 엔드포인트 (로그인 시 isLiked 등 표시만 달라짐)
+public final class PublicEndpoints {
+
+    // GET /api/v1/logosongs, /api/v1/logosongs/popular, /api/v1/logosongs/search, /api/v1/logosongs/{id}
+    private static final Pattern READ_PATH = Pattern.compile("^/api/v1/logosongs(/popular|/search|/\\d+)?/?$");
+
+    public static final RequestMatcher READ = request ->
+            "GET".equals(request.getMethod()) && READ_PATH.matcher(request.getRequestURI()).matches();
+
+    private PublicEndpoints() {
+    }
+}
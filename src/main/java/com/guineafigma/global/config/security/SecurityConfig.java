@@ -5,12 +5,18 @@ import com.guineafigma.global.config.security.jwt.JwtAuthenticationFilter;
 import com.guineafigma.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
@@ -32,6 +38,32 @@ public class SecurityConfig {
         SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_INHERITABLETHREADLOCAL);
     }
 
+    // 공개 조회 전용 경량 체인: 세션/CSRF/익명 인증/인가 필터 없이 JWT 필터(지연 해석)만 통과
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "security.public-read-fast-path", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(PublicEndpoints.READ)
+                .csrf(csrf -> csrf.disable())
+                .logout(logout -> logout.disable())
+                .requestCache(requestCache -> requestCache.disable())
+                .servletApi(servletApi -> servletApi.disable())
+                .anonymous(anonymous -> anonymous.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()))
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .build();
+    }
+
+    // JwtAuthenticationFilter는 보안 체인 안에서만 실행 (서블릿 필터 자동 등록 방지)
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
@@ -96,8 +128,10 @@ public class SecurityConfig {
         };
     }
 
+    // BCrypt 해싱은 요청 스레드 대신 passwordHashExecutor에서 실행
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                                                  @Value("${auth.password-hash.max-queue-wait-ms:1000}") long maxQueueWaitMs) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor.getThreadPoolExecutor(), maxQueueWaitMs);
     }
 }
\ No newline at end of file
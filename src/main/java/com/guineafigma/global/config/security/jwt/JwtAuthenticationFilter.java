@@ -2,20 +2,26 @@ package com.guineafigma.global.config.security.jwt;
 
 import com.guineafigma.common.response.ApiResponse;
 import com.guineafigma.global.config.properties.Constants;
+import com.guineafigma.global.config.security.PublicEndpoints;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -28,6 +34,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
 
+    // 공개 조회 요청은 토큰 해석을 principal이 실제로 필요할 때까지 미룸
+    @Value("${security.public-read-fast-path:true}")
+    private boolean publicReadFastPath = true;
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
@@ -36,13 +46,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String requestURI = request.getRequestURI();
         log.debug("JWT 필터 처리 시작 - URI: {}", requestURI);
+
+        if (publicReadFastPath && PublicEndpoints.READ.matches(request)) {
+            deferAuthentication(request);
+            filterChain.doFilter(request, response);
+            return;
+        }
         
         try {
             String token = resolveToken(request);
             log.debug("추출된 토큰: {}", token != null ? "토큰 존재" : "토큰 없음");
 
-            if(StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            // 토큰은 요청당 한 번만 파싱/검증
+            Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.parseAndValidate(token) : null;
+            if(claims != null) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims, token);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 log.debug("SecurityContext에 인증 정보 설정 완료 - 사용자: {}", authentication.getName());
             } else {
@@ -62,6 +80,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 공개 조회: @AuthenticationPrincipal 등으로 SecurityContext를 처음 읽을 때 한 번만 토큰 해석
+    // 공개 엔드포인트이므로 토큰이 유효하지 않으면 오류 응답 대신 비로그인으로 처리
+    private void deferAuthentication(HttpServletRequest request) {
+        String token = resolveToken(request);
+        if (!StringUtils.hasText(token)) {
+            return;
+        }
+        SecurityContextHolderStrategy strategy = SecurityContextHolder.getContextHolderStrategy();
+        strategy.setDeferredContext(SingletonSupplier.of(() -> {
+            SecurityContext context = strategy.createEmptyContext();
+            try {
+                Claims claims = jwtTokenProvider.parseAndValidate(token);
+                if (claims != null) {
+                    context.setAuthentication(jwtTokenProvider.getAuthentication(claims, token));
+                }
+            } catch (BusinessException e) {
+                log.debug("공개 조회 요청의 토큰 무시: {}", e.getMessage());
+            }
+            return context;
+        }));
+    }
+
     // 인증 예외 처리 정형화된 구조로 응답하도록 설정 (GlobalExceptionHandler로 처리 불가 해서 직접 처리)
     private void handleJwtException(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode) {
         try {
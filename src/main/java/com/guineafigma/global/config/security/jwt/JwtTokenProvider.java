@@ -3,12 +3,18 @@ package com.guineafigma.global.config.security.jwt;
 import com.guineafigma.global.config.properties.Constants;
 import com.guineafigma.global.config.properties.JwtProperties;
 import com.guineafigma.global.config.security.CustomUserDetailsService;
+import com.guineafigma.global.config.security.CustomUserPrincipal;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,6 +26,8 @@ import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -27,9 +35,49 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationStore revocationStore;
+
+    // 서명 키와 파서는 불변이므로 한 번만 생성해 재사용
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // 서명 검증을 마친 토큰 → Claims (토큰 만료 시각까지 보관)
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        int cacheSize = jwtProperties.getVerifiedTokenCacheSize() != null ? jwtProperties.getVerifiedTokenCacheSize() : 0;
+        this.verifiedTokens = cacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(cacheSize)
+                        .expireAfter(new Expiry<String, Claims>() {
+                            @Override
+                            public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                                Date exp = claims.getExpiration();
+                                long millis = exp == null ? 0 : exp.getTime() - System.currentTimeMillis();
+                                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+                            }
+
+                            @Override
+                            public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                                return currentDuration;
+                            }
+
+                            @Override
+                            public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                                return currentDuration;
+                            }
+                        })
+                        .build()
+                : null;
+    }
 
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        return signingKey;
     }
 
     public String generateToken(Authentication authentication) {
@@ -46,6 +94,7 @@ public class JwtTokenProvider {
 
     public String generateAccessToken(Long userId, String nickname) {
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(nickname)
                 .claim("userId", userId)
                 .claim("nickname", nickname)
@@ -59,31 +108,77 @@ public class JwtTokenProvider {
         return jwtProperties.getExpiration().getAccess() / 1000;
     }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+    // 토큰을 한 번만 파싱/검증하여 Claims 반환. 유효하지 않거나 폐기(로그아웃)된 토큰이면 null
+    public Claims parseAndValidate(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        Claims claims = verifiedTokens != null ? verifiedTokens.getIfPresent(token) : null;
+        if (claims == null) {
+            try {
+                claims = jwtParser.parseClaimsJws(token).getBody();
+            } catch (JwtException | IllegalArgumentException e) {
+                return null;
+            }
+            if (verifiedTokens != null) {
+                verifiedTokens.put(token, claims);
+            }
         }
+        if (revocationStore.isRevoked(tokenIdOf(claims, token), claims.getExpiration().getTime())) {
+            return null;
+        }
+        return claims;
+    }
+
+    // 로그아웃: 계정 상태는 건드리지 않고 해당 토큰만 만료 시각까지 폐기
+    public void revokeToken(String token) {
+        Claims claims = parseAndValidate(token);
+        if (claims == null) {
+            return;
+        }
+        revocationStore.revoke(tokenIdOf(claims, token), claims.getExpiration().getTime());
+        if (verifiedTokens != null) {
+            verifiedTokens.invalidate(token);
+        }
+    }
+
+    // jti가 없는 이전 발급 토큰은 토큰 문자열 자체를 식별자로 사용
+    private static String tokenIdOf(Claims claims, String token) {
+        return claims.getId() != null ? claims.getId() : token;
+    }
+
+    public boolean validateToken(String token) {
+        return parseAndValidate(token) != null;
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseAndValidate(token);
+        if (claims == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        return getAuthentication(claims, token);
+    }
 
+    // 이미 검증된 Claims로 인증 객체 생성 (필터에서 재파싱 방지)
+    public Authentication getAuthentication(Claims claims, String token) {
         String nickname = claims.getSubject();
         Long userId = claims.get("userId", Long.class);
+
+        // jti가 있는 토큰은 로그아웃이 폐기 목록으로 처리되므로 DB 조회 없이 Claims로 principal 구성
+        if (claims.getId() != null && userId != null) {
+            CustomUserPrincipal principal = new CustomUserPrincipal(userId, nickname);
+            return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+        }
         
         try {
-            // 사용자 활성 상태 확인까지 포함
-            UserDetails userDetails = userDetailsService.loadUserByUsername(nickname);
+            // jti 도입 이전 토큰: 로그아웃이 계정 비활성화로 처리되었으므로 활성 상태 확인 유지
+            // userId가 있으면 캐시된 principal 사용
+            UserDetails userDetails = userId != null
+                    ? userDetailsService.loadActivePrincipal(userId)
+                    : userDetailsService.loadUserByUsername(nickname);
+            if (!userDetails.getUsername().equals(nickname)) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+            }
             return new UsernamePasswordAuthenticationToken(userDetails, token, userDetails.getAuthorities());
         } catch (BusinessException e) {
             throw new BusinessException(ErrorCode.USER_NOT_ACTIVE);
@@ -91,22 +186,18 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
+        Claims claims = parseAndValidate(token);
+        if (claims == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
         return claims.get("userId", Long.class);
     }
 
     public String getNicknameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
+        Claims claims = parseAndValidate(token);
+        if (claims == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
         return claims.getSubject();
     }
 
@@ -120,10 +211,11 @@ public class JwtTokenProvider {
 
     public Authentication extractAuthentication(HttpServletRequest request){
         String accessToken = resolveToken(request);
-        if(accessToken == null || !validateToken(accessToken)) {
+        Claims claims = parseAndValidate(accessToken);
+        if(claims == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
-        return getAuthentication(accessToken);
+        return getAuthentication(claims, accessToken);
     }
 
 }
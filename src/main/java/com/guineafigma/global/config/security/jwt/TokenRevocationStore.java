@@ -0,0 +1,261 @@
+package com.guineafigma.global.config.security.jwt;
+
+import com.guineafigma.domain.user.entity.RevokedToken;
+import com.guineafigma.domain.user.repository.RevokedTokenRepository;
+import com.guineafigma.global.config.properties.JwtProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃된 access token(jti) 폐기 목록.
+ *
+ * 토큰 만료 시각 기준으로 시간 버킷을 나누고, 버킷마다 Bloom 필터 + 상한이 있는 정확 집합을 둔다.
+ * 만료 시각이 지난 버킷은 통째로 버리므로 메모리는 access token TTL 동안의 로그아웃 수에 비례한다.
+ * 정확 집합이 가득 찬 버킷은 Bloom 필터만으로 판정한다 (오탐 시 재로그인만 요구되므로 안전한 방향).
+ *
+ * 폐기는 revoked_tokens 테이블에도 기록해 다른 인스턴스와 재시작 후에도 유지한다.
+ * 판정은 요청마다 DB를 조회하지 않고 메모리 필터만 사용하며, 기동 시 전체 로드 후 sync-interval-ms마다 증분 반영한다
+ * (다른 인스턴스의 로그아웃은 최대 한 주기 늦게 반영).
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final int HASH_COUNT = 7;
+    private static final int MAX_TOKEN_ID_LENGTH = 64;
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final long bucketMillis;
+    private final int bloomBits;
+    private final int exactCapacity;
+    private final ConcurrentMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+
+    // null이면 메모리 전용 (단위 테스트)
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int syncBatchSize;
+    private final Duration syncOverlap;
+
+    // 마지막으로 반영한 revoked_at (sync 스레드에서만 변경)
+    private LocalDateTime watermark = INITIAL_WATERMARK;
+
+    TokenRevocationStore(JwtProperties jwtProperties) {
+        this(jwtProperties, null);
+    }
+
+    @Autowired
+    public TokenRevocationStore(JwtProperties jwtProperties, RevokedTokenRepository revokedTokenRepository) {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        long accessTtl = jwtProperties.getExpiration().getAccess();
+        this.bucketMillis = Math.max(60_000L, accessTtl / Math.max(1, revocation.getBuckets()));
+        // 항목당 10비트, 해시 7개 → 오탐률 약 1%
+        this.bloomBits = Math.max(1_024, revocation.getExpectedPerBucket() * 10);
+        this.exactCapacity = revocation.getExactCapacityPerBucket();
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.syncBatchSize = Math.max(1, revocation.getSyncBatchSize());
+        this.syncOverlap = revocation.getSyncOverlap();
+    }
+
+    // 기동 직후 공유 폐기 목록을 로드해 첫 요청부터 재시작 이전의 로그아웃을 반영
+    @PostConstruct
+    public void loadOnStartup() {
+        sync();
+    }
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        String id = storageId(tokenId);
+        addLocal(id, expiresAtMillis);
+        if (revokedTokenRepository == null) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(new RevokedToken(id, toDateTime(expiresAtMillis), LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // 이미 폐기된 토큰 (중복 로그아웃)
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 기록 실패 - 이 인스턴스에서만 폐기됨: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAtMillis) {
+        Bucket bucket = buckets.get(bucketOf(expiresAtMillis));
+        return bucket != null && bucket.contains(storageId(tokenId));
+    }
+
+    // 다른 인스턴스의 폐기를 (revoked_at, token_id) 키셋으로 증분 반영. 커밋 시각과 revoked_at 차이는 overlap만큼 겹쳐 읽어 보정
+    @Scheduled(initialDelayString = "${jwt.revocation.sync-interval-ms:2000}",
+            fixedDelayString = "${jwt.revocation.sync-interval-ms:2000}")
+    public synchronized void sync() {
+        if (revokedTokenRepository == null) {
+            return;
+        }
+        LocalDateTime cursorRevokedAt = INITIAL_WATERMARK.equals(watermark) ? watermark : watermark.minus(syncOverlap);
+        String cursorTokenId = "";
+        LocalDateTime now = LocalDateTime.now();
+        int applied = 0;
+        try {
+            while (true) {
+                List<RevokedToken> batch = revokedTokenRepository.findActiveAfter(
+                        cursorRevokedAt, cursorTokenId, now, PageRequest.of(0, syncBatchSize));
+                for (RevokedToken token : batch) {
+                    addLocal(token.getTokenId(), toEpochMillis(token.getExpiresAt()));
+                }
+                applied += batch.size();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                RevokedToken last = batch.get(batch.size() - 1);
+                if (last.getRevokedAt().isAfter(watermark)) {
+                    watermark = last.getRevokedAt();
+                }
+                if (batch.size() < syncBatchSize) {
+                    break;
+                }
+                cursorRevokedAt = last.getRevokedAt();
+                cursorTokenId = last.getTokenId();
+            }
+        } catch (DataAccessException e) {
+            log.warn("토큰 폐기 목록 동기화 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+        if (applied > 0) {
+            log.debug("토큰 폐기 목록 동기화: 반영 {}건, watermark={}", applied, watermark);
+        }
+    }
+
+    // 만료된 폐기 기록 정리 (모든 인스턴스가 실행해도 같은 결과)
+    @Scheduled(initialDelayString = "${jwt.revocation.purge-interval-ms:600000}",
+            fixedDelayString = "${jwt.revocation.purge-interval-ms:600000}")
+    public void purgeExpiredRecords() {
+        if (revokedTokenRepository == null) {
+            return;
+        }
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("만료된 토큰 폐기 기록 {}건 삭제", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료된 토큰 폐기 기록 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void addLocal(String id, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        purgeExpired(now);
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), k -> new Bucket(bloomBits)).add(id, exactCapacity);
+    }
+
+    // jti가 없는 이전 발급 토큰은 토큰 문자열이라 컬럼 길이를 넘으므로 SHA-256 hex로 저장
+    static String storageId(String tokenId) {
+        if (tokenId.length() <= MAX_TOKEN_ID_LENGTH) {
+            return tokenId;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(tokenId.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private long bucketOf(long expiresAtMillis) {
+        return expiresAtMillis / bucketMillis;
+    }
+
+    private void purgeExpired(long now) {
+        long current = bucketOf(now);
+        buckets.keySet().removeIf(key -> key < current);
+    }
+
+    private static final class Bucket {
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean saturated = new AtomicBoolean();
+
+        Bucket(int bitCount) {
+            this.bitCount = bitCount;
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void add(String tokenId, int exactCapacity) {
+            int h1 = tokenId.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                int word = bit >>> 6;
+                long mask = 1L << bit;
+                long prev;
+                do {
+                    prev = bits.get(word);
+                } while ((prev & mask) == 0 && !bits.compareAndSet(word, prev, prev | mask));
+            }
+            if (!saturated.get()) {
+                if (exact.size() < exactCapacity) {
+                    exact.add(tokenId);
+                } else if (saturated.compareAndSet(false, true)) {
+                    log.warn("토큰 폐기 버킷 정확 집합 상한 도달 - Bloom 필터 단독 판정 전환 (상한: {})", exactCapacity);
+                }
+            }
+        }
+
+        boolean contains(String tokenId) {
+            int h1 = tokenId.hashCode();
+            int h2 = mix(h1);
+            for (int i = 0; i < HASH_COUNT; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return saturated.get() || exact.contains(tokenId);
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h | 1;
+        }
+    }
+}
@@ -12,6 +12,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "COMMON_001", "잘못된 입력값입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON_002", "지원하지 않는 HTTP 메서드입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "COMMON_003", "서버 내부 오류가 발생했습니다."),
+    SERVICE_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "COMMON_004", "서비스가 요청을 받을 준비가 되지 않았습니다."),
 
     // 실제 사용되는 검증 에러들
     VALIDATION_ERROR(HttpStatus.BAD_REQUEST, "VALIDATION_001", "입력값 검증에 실패했습니다."),
@@ -25,6 +26,8 @@ public enum ErrorCode {
     NICKNAME_TOO_SHORT(HttpStatus.BAD_REQUEST, "USER_005", "닉네임은 2자 이상이어야 합니다."),
     NICKNAME_TOO_LONG(HttpStatus.BAD_REQUEST, "USER_006", "닉네임은 20자 이하여야 합니다."),
     PASSWORD_TOO_SHORT(HttpStatus.BAD_REQUEST, "USER_007", "비밀번호는 4자 이상이어야 합니다."),
+    LOGIN_TOO_MANY_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "USER_008", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "USER_009", "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // 로고송 관련 에러코드
     LOGOSONG_NOT_FOUND(HttpStatus.NOT_FOUND, "LOGOSONG_001", "로고송을 찾을 수 없습니다."),
@@ -61,7 +64,9 @@ public enum ErrorCode {
     MUSIC_GENERATION_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "SUNO_005", "음악 생성 시간 초과"),
     MUSIC_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SUNO_006", "음악 생성 실패"),
     MUSIC_GENERATION_IN_PROGRESS(HttpStatus.CONFLICT, "SUNO_007", "이미 음악 생성이 진행 중입니다."),
-    LYRICS_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SUNO_008", "가사 생성 실패");
+    LYRICS_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SUNO_008", "가사 생성 실패"),
+    SUNO_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "SUNO_009", "음악 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    SUNO_CREDITS_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "SUNO_010", "음악 생성 크레딧이 부족합니다.");
     private final HttpStatus status;
     private final String code;
     private final String message;
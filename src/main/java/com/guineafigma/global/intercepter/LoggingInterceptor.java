@@ -1,58 +1,79 @@
 package com.guineafigma.global.intercepter;
 
+import com.guineafigma.common.util.TraceIdGenerator;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-// 모든 HTTP 요청을 가로채서 로그를 남기는 역할, 컨트롤러 실행 전후에 자동으로 실행
-@Slf4j
+// 모든 HTTP 요청을 가로채서 요청당 한 줄의 접근 로그를 남기는 역할, 컨트롤러 실행 전후에 자동으로 실행
+// 오류(4xx/5xx, 예외)와 느린 요청은 항상 기록하고, 정상 요청은 sample-rate 비율만 기록
 @Component
 public class LoggingInterceptor implements HandlerInterceptor {
 
+    public static final String TRACE_ID = "traceId";
+    private static final String START_NANOS = LoggingInterceptor.class.getName() + ".startNanos";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    private final TraceIdGenerator traceIdGenerator;
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+
+    public LoggingInterceptor(@Value("${logging.access.node-id:}") String nodeId,
+                              @Value("${logging.access.sample-rate:1.0}") double sampleRate,
+                              @Value("${logging.access.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.traceIdGenerator = new TraceIdGenerator(nodeId);
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
     // 컨트롤러 메서드가 실행되기 직전
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
-        
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        
         // 스레드별 전역 저장소 traceId 저장 같은 요청에서 발생한 로그 추척 가능
-        MDC.put("traceId", traceId);
-        
-        request.setAttribute("startTime", System.currentTimeMillis());
-
-        log.info("=== 요청 시작 ===");
-        log.info("Method: {}", request.getMethod());
-        log.info("URI: {}", request.getRequestURI());
-        log.info("Query String: {}", request.getQueryString());
-        log.info("Client IP: {}", request.getRemoteAddr());
+        MDC.put(TRACE_ID, traceIdGenerator.next());
+        request.setAttribute(START_NANOS, System.nanoTime());
         return true;
     }
 
     // 컨트롤러 실행 및 모든 처리가 완료된 후
     @Override
     public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, @Nullable Exception ex) {
+        try {
+            Long startNanos = (Long) request.getAttribute(START_NANOS);
+            long elapsedMillis = startNanos != null ? (System.nanoTime() - startNanos) / 1_000_000 : -1;
+            int status = response.getStatus();
 
-        // 실행시간 계산
-        Long startTime = (Long) request.getAttribute("startTime");
-        Long executionTime = System.currentTimeMillis() - startTime;
-
-
-        log.info("Status: {}", response.getStatus());
-        log.info("Execution Time: {}ms", executionTime);
-        if (ex != null) {
-            log.error("Exception: {}", ex.getMessage());
+            boolean failed = ex != null || status >= 400;
+            if (failed || elapsedMillis >= slowThresholdMillis || sampled()) {
+                String query = request.getQueryString();
+                if (ex != null) {
+                    accessLog.warn("method={} uri={} query={} status={} timeMs={} ip={} error=\"{}\"",
+                            request.getMethod(), request.getRequestURI(), query, status, elapsedMillis,
+                            request.getRemoteAddr(), ex.getMessage());
+                } else {
+                    accessLog.info("method={} uri={} query={} status={} timeMs={} ip={}",
+                            request.getMethod(), request.getRequestURI(), query, status, elapsedMillis,
+                            request.getRemoteAddr());
+                }
+            }
+        } finally {
+            // 스레드 재사용 시 이전 요청 traceId가 남지 않도록 정리
+            MDC.remove(TRACE_ID);
         }
-        log.info("=== 요청 종료 ===\n");
+    }
 
-        // 메모리 누수 방지 MDC 정리
-        MDC.clear();
+    private boolean sampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.guineafigma.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 외부 API(Suno, FastAPI, OpenAI) 호출 1건 단위 지연/결과 기록
+// external.api.calls{client, operation, outcome} 타이머 (히스토그램은 management.metrics.distribution 설정으로 활성화)
+@Component
+@RequiredArgsConstructor
+public class ExternalApiMetrics {
+
+    public static final String METRIC_NAME = "external.api.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String client, String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("외부 API 호출 지연")
+                    .tag("client", client)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String outcomeOf(RuntimeException e) {
+        if (e instanceof HttpStatusCodeException statusException) {
+            return statusException.getStatusCode().is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+        }
+        if (e instanceof ResourceAccessException) {
+            return "IO_ERROR";
+        }
+        return "ERROR";
+    }
+}
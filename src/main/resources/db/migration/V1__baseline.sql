@@ -0,0 +1,49 @@
+-- 기존 Hibernate DDL로 만들어진 스키마 (운영 DB는 baseline-on-migrate로 이 버전을 적용된 것으로 표시)
+create table users (
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    nickname varchar(20) not null,
+    password varchar(255) not null,
+    primary key (id),
+    constraint uk_users_nickname unique (nickname)
+) engine=InnoDB;
+
+create table logosongs (
+    is_public BOOLEAN DEFAULT FALSE,
+    like_count integer,
+    view_count integer,
+    created_at datetime(6) not null,
+    generated_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    user_id bigint not null,
+    additional_info TEXT,
+    generated_music_url varchar(255),
+    image_url varchar(255),
+    industry varchar(255),
+    introduction TEXT,
+    lyrics TEXT,
+    marketing_item varchar(255),
+    mood_tone varchar(255),
+    music_genre varchar(255) not null,
+    service_name varchar(255) not null,
+    slogan varchar(255),
+    suno_task_id varchar(255),
+    target_customer varchar(255),
+    video_guideline TEXT,
+    music_status enum ('COMPLETED','FAILED','PENDING','PROCESSING'),
+    version enum ('LONG','SHORT') not null,
+    primary key (id),
+    constraint fk_logosongs_user foreign key (user_id) references users (id)
+) engine=InnoDB;
+
+create table logosong_likes (
+    created_at datetime(6),
+    logosong_id bigint not null,
+    user_id bigint not null,
+    primary key (logosong_id, user_id),
+    constraint fk_logosong_likes_logosong foreign key (logosong_id) references logosongs (id),
+    constraint fk_logosong_likes_user foreign key (user_id) references users (id)
+) engine=InnoDB;
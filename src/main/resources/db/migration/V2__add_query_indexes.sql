@@ -0,0 +1,28 @@
+-- 조회/정렬 컬럼 보조 인덱스 (엔티티 @Table(indexes)와 이름을 맞춰 dev/test의 Hibernate DDL과 동일하게 유지)
+
+-- findByIsPublicTrue (공개 목록, created_at 정렬)
+create index idx_logosongs_public_created on logosongs (is_public, created_at);
+
+-- findByOrderByLikeCountDesc (인기 목록)
+create index idx_logosongs_like_count on logosongs (like_count);
+
+-- findBySunoTaskId (콜백/폴링마다 호출), 작업 ID는 로고송당 하나
+-- 기존 데이터에 같은 작업 ID가 여러 행에 있으면 유니크 인덱스 생성이 실패하므로 가장 최근 행만 남기고 비움
+-- (중복 행은 이미 단건 조회가 실패해 콜백이 반영되지 않던 상태. MySQL은 갱신 대상 테이블을 파생 테이블로 한 번 감싸야 참조 가능)
+update logosongs set suno_task_id = null
+where suno_task_id is not null
+  and id not in (
+      select keep_id from (
+          select max(id) as keep_id from logosongs where suno_task_id is not null group by suno_task_id
+      ) latest
+  );
+create unique index uk_logosongs_suno_task_id on logosongs (suno_task_id);
+
+-- findByMusicStatus + 만료 정리 (updated_at 비교)
+create index idx_logosongs_status_updated on logosongs (music_status, updated_at);
+
+-- findByUser_Id (/my, created_at 정렬)
+create index idx_logosongs_user_created on logosongs (user_id, created_at);
+
+-- findByUserId (좋아요 목록). logosong_id 조회는 PK (logosong_id, user_id) 선두 컬럼으로 처리
+create index idx_logosong_likes_user_created on logosong_likes (user_id, created_at);
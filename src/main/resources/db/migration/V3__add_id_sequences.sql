@@ -0,0 +1,14 @@
+-- BaseEntity id를 IDENTITY에서 시퀀스(allocationSize 50, pooled)로 전환
+-- MySQL은 시퀀스가 없어 Hibernate가 <table>_seq 테이블의 next_val을 50씩 증가시켜 사용
+-- pooled는 읽은 값 V에 대해 (V-49 ~ V)를 할당하므로 기존 최대 id보다 allocationSize 이상 크게 시작
+-- 기존 auto_increment 속성은 남겨 두지만 Hibernate가 id를 직접 넣으므로 사용되지 않음
+
+create table users_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into users_seq select coalesce(max(id), 0) + 100 from users;
+
+create table logosongs_seq (
+    next_val bigint
+) engine=InnoDB;
+insert into logosongs_seq select coalesce(max(id), 0) + 100 from logosongs;
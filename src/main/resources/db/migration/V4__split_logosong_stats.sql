@@ -0,0 +1,22 @@
+-- 좋아요/조회수를 logosongs에서 좁은 logosong_stats 행으로 분리 (LogoSong @SecondaryTable)
+-- 카운터 갱신은 UPDATE logosong_stats SET like_count = like_count + 1 형태의 원자적 문장만 사용
+-- 인기 목록 정렬은 idx_logosong_stats_like_count에서 시작해 logosongs를 PK로 조인
+
+create table logosong_stats (
+    logosong_id bigint not null,
+    like_count integer not null,
+    view_count integer not null,
+    primary key (logosong_id),
+    constraint fk_logosong_stats_logosong foreign key (logosong_id) references logosongs (id)
+) engine=InnoDB;
+
+insert into logosong_stats (logosong_id, like_count, view_count)
+select id, coalesce(like_count, 0), coalesce(view_count, 0) from logosongs;
+
+create index idx_logosong_stats_like_count on logosong_stats (like_count);
+
+drop index idx_logosongs_like_count on logosongs;
+
+alter table logosongs drop column like_count;
+
+alter table logosongs drop column view_count;
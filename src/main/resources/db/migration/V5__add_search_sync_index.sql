@@ -0,0 +1,3 @@
+-- 검색 색인 증분 동기화 (findSearchDocumentsUpdatedSince, updated_at 범위 + 정렬)
+-- 좋아요/조회수는 logosong_stats에서 갱신되므로 updated_at은 검색 필드/공개 여부/생성 상태 변경 시에만 바뀜
+create index idx_logosongs_updated_at on logosongs (updated_at);
@@ -0,0 +1,13 @@
+-- 로그아웃 토큰 폐기 목록 (TokenRevocationStore가 메모리 필터와 함께 기록, 인스턴스마다 revoked_at 기준으로 증분 동기화)
+-- token_id는 jti(UUID), 이전 발급 토큰은 토큰 문자열의 SHA-256 hex
+create table revoked_tokens (
+    token_id varchar(64) not null,
+    expires_at datetime(6) not null,
+    revoked_at datetime(6) not null,
+    primary key (token_id)
+) engine=InnoDB;
+
+create index idx_revoked_tokens_revoked_at on revoked_tokens (revoked_at, token_id);
+
+-- 만료 항목 정리
+create index idx_revoked_tokens_expires_at on revoked_tokens (expires_at);
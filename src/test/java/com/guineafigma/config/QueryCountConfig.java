@@ -0,0 +1,17 @@
+package com.guineafigma.config;
+
+import com.guineafigma.utils.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// 쿼리 수 검증 테스트용: SqlStatementCounter를 Hibernate StatementInspector로 등록
+@TestConfiguration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
@@ -1,5 +1,6 @@
 package com.guineafigma.controller;
 
+import com.guineafigma.common.response.ApiResponse;
 import com.guineafigma.domain.user.dto.request.LoginRequest;
 import com.guineafigma.domain.user.dto.response.LoginResponse;
 import com.guineafigma.domain.user.entity.User;
@@ -82,11 +83,11 @@ class AuthControllerTest {
         HttpEntity<LoginRequest> request = new HttpEntity<>(loginRequest, headers);
 
         // When
-        ResponseEntity<LoginResponse> response = restTemplate.exchange(
+        ResponseEntity<ApiResponse<LoginResponse>> response = restTemplate.exchange(
                 baseUrl + "/api/v1/auth/login",
                 HttpMethod.POST,
                 request,
-                LoginResponse.class
+                new ParameterizedTypeReference<ApiResponse<LoginResponse>>() {}
         );
 
         // Then
@@ -97,7 +98,7 @@ class AuthControllerTest {
         assertNotNull(response.getBody());
 
         if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-            LoginResponse loginResponse = Objects.requireNonNull(response.getBody());
+            LoginResponse loginResponse = Objects.requireNonNull(response.getBody().getData());
             assertNotNull(loginResponse.getUserId());
             assertEquals("testUser", loginResponse.getNickname());
             assertNotNull(loginResponse.getAccessToken());
@@ -0,0 +1,146 @@
+package com.guineafigma.controller;
+
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.config.TestConfig;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.service.LogoSongService;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ETag/If-None-Match 조건부 GET (304는 본문 없음, 상세 재검증은 조회수를 올리지 않음)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:logosong-conditional-get;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("로고송 조건부 GET 테스트")
+class LogoSongConditionalGetTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private LogoSongService logoSongService;
+
+    private String baseUrl;
+    private LogoSong logoSong;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/v1/logosongs";
+        User owner = userRepository.save(User.builder()
+                .nickname("et" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .isActive(true)
+                .build());
+        logoSong = logoSongRepository.save(LogoSong.builder()
+                .user(owner)
+                .serviceName("조건부 조회 카페")
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .lyrics("긴 가사 ".repeat(200))
+                .isPublic(false)
+                .build());
+        // 공개 전환으로 목록 캐시 무효화
+        logoSongService.updateVisibility(logoSong.getId(), true);
+    }
+
+    @Test
+    @DisplayName("목록 - 같은 ETag면 304, 로고송 변경 후에는 200")
+    void listRevalidation() {
+        String url = baseUrl + "?page=0&size=10";
+        ResponseEntity<String> first = get(url, null);
+        String etag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).startsWith("\"");
+        assertThat(first.getHeaders().getVary()).contains(HttpHeaders.AUTHORIZATION);
+
+        ResponseEntity<String> revalidated = get(url, etag);
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getBody()).isNull();
+
+        logoSongService.updatePartial(logoSong.getId(), null, "소개글 변경", logoSong.getUser().getId());
+
+        ResponseEntity<String> changed = get(url, etag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("상세 - 재검증 304는 조회수를 올리지 않고, 다른 조회로 버전이 바뀌면 200")
+    void detailRevalidation() {
+        String url = baseUrl + "/" + logoSong.getId();
+        ResponseEntity<String> first = get(url, null);
+        String etag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).isNotNull();
+
+        ResponseEntity<String> revalidated = get(url, etag);
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(revalidated.getBody()).isNull();
+        assertThat(viewCount()).isEqualTo(1);
+
+        // 다른 클라이언트의 조회로 조회수 변경
+        get(url, null);
+        ResponseEntity<String> stale = get(url, etag);
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(stale.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(viewCount()).isEqualTo(3);
+
+        // 200 응답의 ETag는 실제 본문(조회수 증가 후) 기준이라 다음 재검증은 304
+        ResponseEntity<String> refreshed = get(url, stale.getHeaders().getETag());
+        assertThat(refreshed.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(viewCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상세 - 비공개 로고송은 ETag가 있어도 404")
+    void privateDetailIsNotRevalidated() {
+        String url = baseUrl + "/" + logoSong.getId();
+        String etag = get(url, null).getHeaders().getETag();
+        logoSongService.updateVisibility(logoSong.getId(), false);
+
+        assertThat(get(url, etag).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<String> get(String url, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private int viewCount() {
+        return logoSongRepository.findById(logoSong.getId()).orElseThrow().getViewCount();
+    }
+}
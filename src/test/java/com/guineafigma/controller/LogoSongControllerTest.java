@@ -407,4 +407,27 @@ class LogoSongControllerTest {
             System.out.println("단건 조회 접근 가능 확인 완료!");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로고송 검색 - 비로그인 접근 가능, 빈 검색어는 400")
+    void searchLogoSongs_RealAPI() {
+        // When
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                baseUrl + "/api/v1/logosongs/search?q=카페&page=0&size=10",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+        ResponseEntity<Map<String, Object>> blank = restTemplate.exchange(
+                baseUrl + "/api/v1/logosongs/search?q= ",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(Objects.requireNonNull(response.getBody()).containsKey("data"));
+        assertEquals(HttpStatus.BAD_REQUEST, blank.getStatusCode());
+    }
+}
@@ -0,0 +1,171 @@
+package com.guineafigma.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.config.TestConfig;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.service.LogoSongService;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 비로그인 목록/인기 응답의 byte[] 캐시 (gzip 협상, 로고송 변경 시 무효화)
+// TestRestTemplate의 HTTP 클라이언트는 gzip을 자동 해제할 수 있어 java.net.http로 원본 응답 확인
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:logosong-page-bytes;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "logosong.page-cache.gzip-min-bytes=0"
+        })
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("로고송 목록 응답 byte[] 캐시 테스트")
+class LogoSongPageResponseCacheTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private LogoSongService logoSongService;
+
+    private String baseUrl;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/v1/logosongs";
+        owner = userRepository.save(User.builder()
+                .nickname("pb" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .isActive(true)
+                .build());
+        publish("바이트 캐시 카페");
+    }
+
+    @Test
+    @DisplayName("목록/인기 - 두 번째 요청은 저장된 byte[] 그대로, ApiResponse 형식 유지")
+    void servesSameBytes() throws Exception {
+        for (String url : new String[]{baseUrl + "?page=0&size=5", baseUrl + "/popular?page=0&size=5"}) {
+            HttpResponse<byte[]> first = get(url, null);
+            HttpResponse<byte[]> second = get(url, null);
+
+            assertThat(first.statusCode()).isEqualTo(200);
+            assertThat(first.headers().firstValue("Content-Type")).hasValueSatisfying(
+                    type -> assertThat(type).startsWith("application/json"));
+            assertThat(first.headers().firstValue("ETag")).isPresent();
+            assertThat(second.body()).isEqualTo(first.body());
+
+            JsonNode body = objectMapper.readTree(first.body());
+            assertThat(body.path("code").asText()).isEqualTo("SUCCESS");
+            assertThat(body.path("data").path("content").isArray()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding: gzip - 미리 압축한 본문, 해제하면 원본과 동일")
+    void servesGzipWhenAccepted() throws Exception {
+        String url = baseUrl + "?page=0&size=5";
+        HttpResponse<byte[]> plain = get(url, null);
+        HttpResponse<byte[]> gzipped = get(url, "gzip, deflate");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.headers().allValues("Vary").toString()).contains("Accept-Encoding");
+        assertThat(gunzip(gzipped.body())).isEqualTo(plain.body());
+        assertThat(get(url, "gzip;q=0").headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본/gzip 표현은 서로 다른 ETag, 어느 쪽으로 재검증해도 304")
+    void etagPerEncoding() throws Exception {
+        String url = baseUrl + "?page=0&size=5";
+        String plainEtag = get(url, null).headers().firstValue("ETag").orElseThrow();
+        String gzipEtag = get(url, "gzip").headers().firstValue("ETag").orElseThrow();
+
+        assertThat(gzipEtag).isNotEqualTo(plainEtag)
+                .isEqualTo(plainEtag.substring(0, plainEtag.length() - 1) + "-gzip\"");
+
+        for (String etag : new String[]{plainEtag, gzipEtag}) {
+            HttpResponse<byte[]> revalidated = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                    .header("Accept-Encoding", "gzip")
+                    .header("If-None-Match", etag)
+                    .GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(revalidated.statusCode()).isEqualTo(304);
+            assertThat(revalidated.headers().firstValue("ETag")).hasValue(etag);
+        }
+    }
+
+    @Test
+    @DisplayName("로고송 변경 시 캐시된 byte[] 무효화")
+    void evictedOnMutation() throws Exception {
+        String url = baseUrl + "?page=0&size=5";
+        byte[] before = get(url, null).body();
+
+        LogoSong created = publish("새로 공개된 빵집");
+
+        byte[] after = get(url, null).body();
+        assertThat(after).isNotEqualTo(before);
+        assertThat(new String(after, StandardCharsets.UTF_8)).contains("새로 공개된 빵집");
+
+        logoSongService.updateVisibility(created.getId(), false);
+
+        assertThat(new String(get(url, null).body(), StandardCharsets.UTF_8)).doesNotContain("새로 공개된 빵집");
+    }
+
+    private LogoSong publish(String serviceName) {
+        LogoSong logoSong = logoSongRepository.save(LogoSong.builder()
+                .user(owner)
+                .serviceName(serviceName)
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .isPublic(false)
+                .build());
+        logoSongService.updateVisibility(logoSong.getId(), true);
+        return logoSong;
+    }
+
+    private HttpResponse<byte[]> get(String url, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).GET();
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -132,4 +132,25 @@ class SystemControllerTest {
         
         System.out.println("응답 구조 검증 테스트 완료!");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("레디니스 - 기동 후 프로브 스냅샷 기준 200")
+    void ready_AfterStartup() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                baseUrl + "/api/v1/system/ready",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<Map<String, Object>>() {}
+        );
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        Map<String, Object> body = response.getBody();
+        assertNotNull(body);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) body.get("data");
+        assertEquals(true, data.get("ready"));
+        assertEquals("UP", data.get("db"));
+        assertTrue(data.containsKey("executors"));
+        assertTrue(data.containsKey("dependencies"));
+    }
+}
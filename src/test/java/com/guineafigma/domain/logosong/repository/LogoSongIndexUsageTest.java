@@ -0,0 +1,176 @@
+package com.guineafigma.domain.logosong.repository;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.config.QueryCountConfig;
+import com.guineafigma.utils.SqlStatementCounter;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// db/migration 스크립트를 H2(MySQL 모드)에 적용한 뒤, 리포지토리가 실제로 생성하는 SQL의 실행 계획이 인덱스를 타는지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+@DisplayName("리포지토리 쿼리 인덱스 사용 테스트")
+class LogoSongIndexUsageTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private static JdbcTemplate migrated;
+    private static MigrateResult migrateResult;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private LogoSongLikeRepository logoSongLikeRepository;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-explain;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        migrateResult = Flyway.configure().dataSource(dataSource).load().migrate();
+        migrated = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("마이그레이션이 순서대로 적용되고 보조 인덱스가 생성됨")
+    void migrationsApplied() {
+        assertThat(migrateResult.success).isTrue();
+        assertThat(migrateResult.migrations).extracting(m -> m.version).containsExactly("1", "2", "3", "4", "5", "6");
+
+        List<String> indexes = migrated.queryForList(
+                "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = 'PUBLIC'", String.class);
+        assertThat(indexes).contains(
+                "idx_logosongs_public_created",
+                "idx_logosong_stats_like_count",
+                "uk_logosongs_suno_task_id",
+                "idx_logosongs_status_updated",
+                "idx_logosongs_user_created",
+                "idx_logosong_likes_user_created",
+                "idx_logosongs_updated_at");
+    }
+
+    @Test
+    @DisplayName("V2 - 기존 데이터에 중복 작업 ID가 있어도 최신 행만 남기고 유니크 인덱스 생성")
+    void migrationToleratesDuplicateSunoTaskIds() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migration-duplicates;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (id, nickname, password, created_at) VALUES (1, 'dup', 'pw', NOW())");
+        for (long id = 1; id <= 3; id++) {
+            jdbc.update("INSERT INTO logosongs (id, user_id, service_name, music_genre, version, suno_task_id, created_at) "
+                    + "VALUES (?, 1, 'dup', 'POP', 'SHORT', ?, NOW())", id, id < 3 ? "task-dup" : "task-3");
+        }
+
+        MigrateResult result = Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(jdbc.queryForList("SELECT id FROM logosongs WHERE suno_task_id = 'task-dup'", Long.class))
+                .containsExactly(2L);
+        assertThat(jdbc.queryForObject("SELECT suno_task_id FROM logosongs WHERE id = 3", String.class))
+                .isEqualTo("task-3");
+        assertThat(jdbc.queryForObject("SELECT suno_task_id FROM logosongs WHERE id = 1", String.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 목록 - (is_public, created_at)")
+    void publicList() {
+        assertUsesIndex("idx_logosongs_public_created", List.of(), () ->
+                logoSongRepository.findPublicSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending())));
+    }
+
+    @Test
+    @DisplayName("인기 목록 - logosong_stats (like_count)")
+    void popular() {
+        assertUsesIndex("idx_logosong_stats_like_count", List.of(), () ->
+                logoSongRepository.findPopularIds(PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("작업 ID 조회 - unique (suno_task_id)")
+    void bySunoTaskId() {
+        assertUsesIndex("uk_logosongs_suno_task_id", List.of("task-1"), () ->
+                logoSongRepository.findBySunoTaskId("task-1"));
+    }
+
+    @Test
+    @DisplayName("상태별 조회 - (music_status, updated_at)")
+    void byMusicStatus() {
+        assertUsesIndex("idx_logosongs_status_updated", List.of(MusicGenerationStatus.PROCESSING.name()), () ->
+                logoSongRepository.findByMusicStatus(MusicGenerationStatus.PROCESSING));
+    }
+
+    @Test
+    @DisplayName("내 로고송 - (user_id, created_at)")
+    void myLogoSongs() {
+        assertUsesIndex(List.of("idx_logosongs_user_created", "fk_logosongs_user"), List.of(1L), () ->
+                logoSongRepository.findSummariesByUserId(1L, PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending())));
+    }
+
+    @Test
+    @DisplayName("검색 색인 동기화 - (updated_at)")
+    void searchSync() {
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        assertUsesIndex("idx_logosongs_updated_at", List.of(updatedAt, updatedAt, updatedAt, 1L), () ->
+                logoSongRepository.findSearchDocumentsAfter(updatedAt, 1L, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    @Test
+    @DisplayName("좋아요 - 사용자별 (user_id, created_at), 로고송별 PK 선두 컬럼")
+    void likes() {
+        assertUsesIndex(List.of("idx_logosong_likes_user_created", "fk_logosong_likes_user"), List.of(1L), () ->
+                logoSongLikeRepository.findByUserId(1L));
+        assertUsesIndex(List.of("primary_key", "fk_logosong_likes_logosong"), List.of(1L), () ->
+                logoSongLikeRepository.findByLogosongId(1L));
+        assertUsesIndex(List.of("primary_key", "fk_logosong_likes_logosong"), List.of(1L), () ->
+                logoSongLikeRepository.countByLogosongId(1L));
+        assertUsesIndex(List.of("primary_key", "fk_logosong_likes_logosong"), List.of(1L, 1L), () ->
+                logoSongLikeRepository.existsByUserIdAndLogosongId(1L, 1L));
+    }
+
+    // 리포지토리 호출의 첫 SQL을 마이그레이션 스키마에서 EXPLAIN (남는 파라미터는 페이지 크기로 채움)
+    // H2는 FK마다 자동 인덱스를 만들어 같은 선두 컬럼이면 그쪽을 고를 수 있음 (MySQL은 선두 컬럼이 같은 인덱스가 생기면 FK 인덱스를 대체)
+    private static void assertUsesIndex(String index, List<Object> params, Runnable query) {
+        assertUsesIndex(List.of(index), params, query);
+    }
+
+    private static void assertUsesIndex(List<String> indexes, List<Object> params, Runnable query) {
+        SqlStatementCounter.Captured<Object> captured = SqlStatementCounter.capture(() -> {
+            query.run();
+            return null;
+        });
+        assertThat(captured.statements()).isNotEmpty();
+        String sql = captured.statements().get(0);
+
+        List<Object> args = new ArrayList<>(params);
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        while (args.size() < placeholders) {
+            args.add(PAGE_SIZE);
+        }
+        String plan = String.join("\n", migrated.queryForList("EXPLAIN " + sql, String.class, args.toArray()))
+                .toLowerCase(Locale.ROOT);
+
+        assertThat(indexes).as("SQL: %s\n계획: %s", sql, plan)
+                .anyMatch(index -> plan.contains(index.toLowerCase(Locale.ROOT)));
+        assertThat(plan).as("SQL: %s", sql).doesNotContain("tablescan");
+    }
+}
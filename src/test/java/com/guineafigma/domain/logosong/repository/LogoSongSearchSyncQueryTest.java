@@ -0,0 +1,82 @@
+package com.guineafigma.domain.logosong.repository;
+
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.config.TestConfig;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 색인 동기화 쿼리의 (updated_at, id) 키셋 페이징 - 같은 updated_at 행이 배치 크기보다 많은 경우
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:logosong-search-sync;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("검색 색인 동기화 쿼리 테스트")
+class LogoSongSearchSyncQueryTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 updated_at 5건을 배치 2건씩 - 누락/중복 없이 id 순으로 모두 조회")
+    void pagesThroughSameTimestamp() {
+        User owner = userRepository.save(User.builder()
+                .nickname("syncowner")
+                .password("password")
+                .isActive(true)
+                .build());
+        LocalDateTime updatedAt = LocalDateTime.of(2099, 1, 1, 0, 0);
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            LogoSong logoSong = logoSongRepository.save(LogoSong.builder()
+                    .user(owner)
+                    .serviceName("동시 수정 카페 " + i)
+                    .musicGenre("POP")
+                    .version(VersionType.SHORT)
+                    .isPublic(true)
+                    .build());
+            jdbcTemplate.update("UPDATE logosongs SET updated_at = ? WHERE id = ?",
+                    Timestamp.valueOf(updatedAt), logoSong.getId());
+            expected.add(logoSong.getId());
+        }
+
+        List<Long> read = new ArrayList<>();
+        LocalDateTime cursorUpdatedAt = updatedAt;
+        long cursorId = 0L;
+        while (true) {
+            List<LogoSongSearchDocument> batch = logoSongRepository.findSearchDocumentsAfter(
+                    cursorUpdatedAt, cursorId, PageRequest.of(0, BATCH_SIZE));
+            batch.forEach(document -> read.add(document.id()));
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            LogoSongSearchDocument last = batch.get(batch.size() - 1);
+            cursorUpdatedAt = last.updatedAt();
+            cursorId = last.id();
+        }
+
+        assertThat(read).containsExactlyElementsOf(expected.stream().sorted().toList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.GenerationStage;
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineResponse;
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineSummaryResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GenerationTimelineRecorder 단위 테스트")
+class GenerationTimelineRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GenerationTimelineRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new GenerationTimelineRecorder(meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("단계별 시간과 생성 요청 traceId를 기록하고 완료 시 전체 시간 계산")
+    void recordsPipeline() {
+        MDC.put("traceId", "node-7");
+        recorder.record(1L, GenerationStage.OPENAI, 8_000);
+        recorder.recordQueued(1L);
+        MDC.clear();
+
+        recorder.recordDequeued(1L);
+        recorder.record(1L, GenerationStage.FASTAPI, 400);
+        recorder.recordSubmitted(1L, "task-1", 900);
+        recorder.recordFirstPoll("task-1");
+        recorder.recordCompletion("task-1");
+
+        GenerationTimelineResponse timeline = recorder.find(1L).orElseThrow();
+        assertEquals("node-7", timeline.getTraceId());
+        assertEquals("****", timeline.getTaskId());
+        assertEquals(8_000L, timeline.getStages().get("OPENAI"));
+        assertEquals(900L, timeline.getStages().get("SUNO_SUBMIT"));
+        assertTrue(timeline.getStages().keySet().containsAll(
+                List.of("QUEUE", "FASTAPI", "FIRST_POLL", "COMPLETION")));
+        assertNotNull(timeline.getTotalMillis());
+        assertEquals("OPENAI", timeline.getDominantStage());
+
+        assertEquals(1, meterRegistry.get(GenerationTimelineRecorder.METRIC_NAME).tag("stage", "OPENAI").timer().count());
+    }
+
+    @Test
+    @DisplayName("완료가 여러 경로(폴링/콜백/상태 조회)에서 감지돼도 첫 기록만 유지")
+    void completionRecordedOnce() {
+        recorder.recordSubmitted(2L, "task-2", 100);
+        recorder.recordCompletion("task-2");
+        Long first = recorder.find(2L).orElseThrow().getStages().get("COMPLETION");
+
+        recorder.recordCompletion("task-2");
+
+        assertEquals(first, recorder.find(2L).orElseThrow().getStages().get("COMPLETION"));
+        assertEquals(1, meterRegistry.get(GenerationTimelineRecorder.METRIC_NAME).tag("stage", "COMPLETION").timer().count());
+    }
+
+    @Test
+    @DisplayName("완료된 로고송을 다시 생성하면 새 타임라인으로 시작")
+    void regenerationStartsNewTimeline() {
+        recorder.record(3L, GenerationStage.FASTAPI, 500);
+        recorder.recordSubmitted(3L, "task-3", 100);
+        recorder.recordCompletion("task-3");
+
+        recorder.recordQueued(3L);
+
+        GenerationTimelineResponse timeline = recorder.find(3L).orElseThrow();
+        assertFalse(timeline.getStages().containsKey("FASTAPI"));
+        assertNull(timeline.getTotalMillis());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 taskId와 null id는 무시")
+    void ignoresUnknown() {
+        recorder.recordFirstPoll("unknown");
+        recorder.recordCompletion("unknown");
+        recorder.record(null, GenerationStage.OPENAI, 10);
+
+        assertTrue(recorder.recent(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("요약은 보관 중인 타임라인의 단계별 분포를 파이프라인 순서로 반환")
+    void summary() {
+        for (long id = 1; id <= 10; id++) {
+            recorder.record(id, GenerationStage.OPENAI, id * 100);
+            recorder.record(id, GenerationStage.FASTAPI, 50);
+        }
+
+        GenerationTimelineSummaryResponse summary = recorder.summary();
+
+        assertEquals(10, summary.getTimelines());
+        assertEquals(List.of("OPENAI", "FASTAPI"), List.copyOf(summary.getStages().keySet()));
+        GenerationTimelineSummaryResponse.StageStat openAi = summary.getStages().get("OPENAI");
+        assertEquals(10, openAi.getCount());
+        assertEquals(550, openAi.getAvgMillis());
+        assertEquals(500, openAi.getP50Millis());
+        assertEquals(1_000, openAi.getP95Millis());
+        assertEquals(1_000, openAi.getMaxMillis());
+        assertEquals(10, recorder.recent(20).size());
+    }
+
+    @Test
+    @DisplayName("조회 응답의 taskId는 앞뒤 4자만 노출")
+    void maskTaskId() {
+        assertEquals("5c79****be8e", GenerationTimelineRecorder.maskTaskId("5c79a1d2e3f4be8e"));
+        assertEquals("****", GenerationTimelineRecorder.maskTaskId("short"));
+        assertNull(GenerationTimelineRecorder.maskTaskId(null));
+    }
+}
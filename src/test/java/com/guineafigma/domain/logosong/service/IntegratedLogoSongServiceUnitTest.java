@@ -0,0 +1,76 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntegratedLogoSongService 단위 테스트")
+class IntegratedLogoSongServiceUnitTest {
+
+    @Mock
+    private LogoSongRepository logoSongRepository;
+
+    @Mock
+    private LogoSongGenerationService logoSongGenerationService;
+
+    @Mock
+    private SunoAdmissionService sunoAdmissionService;
+
+    @Mock
+    private GenerationTimelineRecorder timelineRecorder;
+
+    @InjectMocks
+    private IntegratedLogoSongService integratedLogoSongService;
+
+    @Test
+    @DisplayName("음악 생성 트리거 - 수락 후 비동기 디스패치")
+    void triggerMusicGeneration_AdmitsThenDispatches() {
+        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(logoSongWithLyrics()));
+
+        integratedLogoSongService.triggerMusicGeneration(1L);
+
+        InOrder inOrder = inOrder(sunoAdmissionService, logoSongGenerationService);
+        inOrder.verify(sunoAdmissionService).admit();
+        inOrder.verify(logoSongGenerationService).generateLogoSongAsync(1L);
+        verify(sunoAdmissionService, never()).release();
+    }
+
+    @Test
+    @DisplayName("음악 생성 트리거 - 실행기 거절 시 대기열 자리 반납 후 SUNO_RATE_LIMITED")
+    void triggerMusicGeneration_ExecutorRejected() {
+        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(logoSongWithLyrics()));
+        doThrow(new TaskRejectedException("포화")).when(logoSongGenerationService).generateLogoSongAsync(1L);
+
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> integratedLogoSongService.triggerMusicGeneration(1L));
+
+        assertEquals(ErrorCode.SUNO_RATE_LIMITED, e.getErrorCode());
+        verify(sunoAdmissionService).admit();
+        verify(sunoAdmissionService).release();
+    }
+
+    private static LogoSong logoSongWithLyrics() {
+        return LogoSong.builder()
+                .serviceName("테스트 카페")
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .lyrics("두비두밥")
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongLikeRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 로고송에 동시에 좋아요/조회가 몰려도 카운터가 유실되지 않는지 확인 (엔티티 load-save 방식에서는 마지막 저장만 남음)
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("로고송 카운터 동시성 테스트")
+class LogoSongCounterConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private LogoSongService logoSongService;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private LogoSongLikeRepository logoSongLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private LogoSong logoSong;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i <= THREADS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .nickname("cc" + UUID.randomUUID().toString().substring(0, 8))
+                    .password("password")
+                    .isActive(true)
+                    .build()));
+        }
+        logoSong = logoSongRepository.save(LogoSong.builder()
+                .user(users.get(0))
+                .serviceName("동시성 테스트")
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .isPublic(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        users.forEach(user -> logoSongLikeRepository.deleteAll(logoSongLikeRepository.findByUserId(user.getId())));
+        logoSongRepository.delete(logoSong);
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("서로 다른 사용자의 동시 좋아요/조회는 모두 반영")
+    void concurrentLikesAndViews() throws Exception {
+        Long id = logoSong.getId();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users.subList(1, users.size())) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    logoSongService.like(id, user.getId());
+                    logoSongService.incrementViewCount(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        LogoSong reloaded = logoSongRepository.findById(id).orElseThrow();
+        assertThat(reloaded.getLikeCount()).isEqualTo(THREADS);
+        assertThat(reloaded.getViewCount()).isEqualTo(THREADS);
+    }
+}
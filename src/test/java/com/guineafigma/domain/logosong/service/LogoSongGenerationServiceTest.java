@@ -0,0 +1,64 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogoSongGenerationService 단위 테스트")
+class LogoSongGenerationServiceTest {
+
+    @Mock
+    private SunoApiService sunoApiService;
+
+    @Mock
+    private LogoSongRepository logoSongRepository;
+
+    @Mock
+    private SunoAdmissionService sunoAdmissionService;
+
+    @Mock
+    private GenerationTimelineRecorder timelineRecorder;
+
+    @InjectMocks
+    private LogoSongGenerationService logoSongGenerationService;
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("토큰 대기 중 인터럽트 - FAILED 기록 후 인터럽트 플래그 복원")
+    void generateLogoSongAsync_InterruptedWhileWaiting() throws InterruptedException {
+        LogoSong logoSong = LogoSong.builder()
+                .serviceName("테스트 카페")
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .lyrics("두비두밥")
+                .build();
+        doThrow(new InterruptedException()).when(sunoAdmissionService).awaitPermit();
+        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(logoSong));
+
+        logoSongGenerationService.generateLogoSongAsync(1L);
+
+        assertTrue(Thread.currentThread().isInterrupted());
+        assertEquals(MusicGenerationStatus.FAILED, logoSong.getMusicStatus());
+        verify(logoSongRepository).save(logoSong);
+        verify(sunoApiService, never()).generateMusic(any());
+    }
+}
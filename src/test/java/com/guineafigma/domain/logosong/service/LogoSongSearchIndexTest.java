@@ -0,0 +1,157 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongSearchDocument;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogoSongSearchIndex 테스트")
+class LogoSongSearchIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 8, 1, 12, 0);
+
+    @Mock
+    private LogoSongRepository logoSongRepository;
+
+    private LogoSongSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LogoSongSearchIndex(logoSongRepository, new SimpleMeterRegistry(), 2, Duration.ofSeconds(5), 100);
+    }
+
+    @Test
+    @DisplayName("2-gram 토큰화 - 띄어쓰기/대소문자/전각 문자와 무관")
+    void tokenize() {
+        assertThat(LogoSongSearchIndex.tokenize("카페라떼")).containsExactly("카페", "페라", "라떼");
+        assertThat(LogoSongSearchIndex.tokenize("Ｃafe 빵")).containsExactly("ca", "af", "fe", "빵");
+        assertThat(LogoSongSearchIndex.tokenize(" !! ")).isEmpty();
+        assertThat(LogoSongSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 일치 + 모든 토큰 포함 문서만, 서비스명 일치가 우선")
+    void searchRanksByFieldWeight() {
+        index.apply(document(1L, "동네 빵집", "베이커리", "매일 구운 카페라떼", "따뜻한", true));
+        index.apply(document(2L, "라떼하우스", "카페", "하루의 시작", "밝은", true));
+        index.apply(document(3L, "헬스장", "운동", "건강한 하루", "신나는", true));
+
+        LogoSongSearchIndex.Hits hits = index.search("라떼", 0, 10);
+
+        assertThat(hits.ids()).containsExactly(2L, 1L);
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(index.search("라떼 하루", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("없는검색어", 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("페이지네이션 - 동점은 최신 id 우선")
+    void searchPaginates() {
+        for (long id = 1; id <= 5; id++) {
+            index.apply(document(id, "카페 " + id, null, null, null, true));
+        }
+
+        LogoSongSearchIndex.Hits firstPage = index.search("카페", 0, 2);
+        LogoSongSearchIndex.Hits secondPage = index.search("카페", 2, 2);
+
+        assertThat(firstPage.ids()).containsExactly(5L, 4L);
+        assertThat(secondPage.ids()).containsExactly(3L, 2L);
+        assertThat(firstPage.total()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("비공개 전환/내용 변경 시 이전 토큰 제거")
+    void reindexRemovesStaleTokens() {
+        index.apply(document(1L, "카페라떼", null, null, null, true));
+        index.apply(document(1L, "헬스장", null, null, null, true));
+
+        assertThat(index.search("라떼", 0, 10).ids()).isEmpty();
+        assertThat(index.search("헬스", 0, 10).ids()).containsExactly(1L);
+
+        index.apply(document(1L, "헬스장", null, null, null, false));
+
+        assertThat(index.search("헬스", 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("평가 문서 수 상한 - 가장 드문 토큰의 최신 문서부터 max-candidates건만")
+    void searchBoundsCandidates() {
+        LogoSongSearchIndex bounded = new LogoSongSearchIndex(
+                logoSongRepository, new SimpleMeterRegistry(), 2, Duration.ofSeconds(5), 3);
+        for (long id = 1; id <= 10; id++) {
+            bounded.apply(document(id, "카페", null, null, null, true));
+        }
+
+        LogoSongSearchIndex.Hits hits = bounded.search("카페", 0, 10);
+
+        assertThat(hits.ids()).containsExactly(10L, 9L, 8L);
+        assertThat(hits.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동기화 - 배치 단위로 끝까지 읽고, 다음 주기는 마지막 updated_at - overlap부터")
+    void syncIsIncremental() {
+        LocalDateTime initial = LocalDateTime.of(1970, 1, 1, 0, 0);
+        when(logoSongRepository.findSearchDocumentsAfter(eq(initial), eq(0L), any())).thenReturn(List.of(
+                document(1L, "카페", T0, true), document(2L, "빵집", T0.plusSeconds(1), true)));
+        when(logoSongRepository.findSearchDocumentsAfter(eq(T0.plusSeconds(1)), eq(2L), any())).thenReturn(List.of(
+                document(3L, "꽃집", T0.plusSeconds(2), true)));
+
+        index.sync();
+
+        assertThat(index.size()).isEqualTo(3);
+
+        when(logoSongRepository.findSearchDocumentsAfter(eq(T0.minusSeconds(3)), eq(0L), any())).thenReturn(List.of(
+                document(1L, "카페", T0.plusSeconds(10), false)));
+
+        index.sync();
+
+        verify(logoSongRepository).findSearchDocumentsAfter(T0.minusSeconds(3), 0L, PageRequest.of(0, 2));
+        assertThat(index.search("카페", 0, 10).ids()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동기화 - 같은 updated_at 행이 배치 크기보다 많아도 (updated_at, id) 커서로 모두 반영")
+    void syncPagesThroughSameTimestamp() {
+        LocalDateTime initial = LocalDateTime.of(1970, 1, 1, 0, 0);
+        when(logoSongRepository.findSearchDocumentsAfter(eq(initial), eq(0L), any())).thenReturn(List.of(
+                document(1L, "카페 1", T0, true), document(2L, "카페 2", T0, true)));
+        when(logoSongRepository.findSearchDocumentsAfter(eq(T0), eq(2L), any())).thenReturn(List.of(
+                document(3L, "카페 3", T0, true), document(4L, "카페 4", T0, true)));
+        when(logoSongRepository.findSearchDocumentsAfter(eq(T0), eq(4L), any())).thenReturn(List.of(
+                document(5L, "카페 5", T0, true)));
+
+        index.sync();
+
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.search("카페", 0, 10).ids()).containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    private static LogoSongSearchDocument document(Long id, String serviceName, LocalDateTime updatedAt, boolean isPublic) {
+        return new LogoSongSearchDocument(id, serviceName, null, null, null, isPublic, updatedAt);
+    }
+
+    private static LogoSongSearchDocument document(Long id, String serviceName, String industry, String slogan,
+                                                   String moodTone, boolean isPublic) {
+        return new LogoSongSearchDocument(id, serviceName, industry, slogan, moodTone, isPublic, T0);
+    }
+}
@@ -54,7 +54,7 @@ class LogoSongServiceCacheTest {
 
         // then
         assertThat(first.getId()).isEqualTo(second.getId());
-        verify(logoSongRepository, times(1)).findById(logoSongId);
+        verify(logoSongRepository, times(1)).findWithUserById(logoSongId);
     }
 
     @Test
@@ -72,8 +72,8 @@ class LogoSongServiceCacheTest {
         logoSongService.getAllLogoSongs(pageable);
         logoSongService.getAllLogoSongs(pageable);
 
-        // then: findByIsPublicTrue가 호출되어야 함 (공개만 조회)
-        verify(logoSongRepository, times(1)).findByIsPublicTrue(pageable);
+        // then: findPublicSummaries가 호출되어야 함 (공개만 조회)
+        verify(logoSongRepository, times(1)).findPublicSummaries(pageable);
     }
 
     @Test
@@ -82,15 +82,16 @@ class LogoSongServiceCacheTest {
         // given: 단건 캐시 적중 상태를 만들기
         logoSongService.getLogoSong(logoSongId);
         logoSongService.getLogoSong(logoSongId);
-        verify(logoSongRepository, times(1)).findById(logoSongId);
+        verify(logoSongRepository, times(1)).findWithUserById(logoSongId);
         Mockito.clearInvocations(logoSongRepository);
 
         // when: 좋아요 토글 → 캐시 무효화
         logoSongService.toggleLike(logoSongId, 123L);
 
-        // then: toggleLike 내부에서 1회, 이후 조회에서 1회 → 총 2회
+        // then: toggleLike 내부에서 1회, 이후 조회는 캐시가 아닌 DB에서 1회
         logoSongService.getLogoSong(logoSongId);
-        verify(logoSongRepository, times(2)).findById(logoSongId);
+        verify(logoSongRepository, times(1)).findById(logoSongId);
+        verify(logoSongRepository, times(1)).findWithUserById(logoSongId);
     }
 
     @Test
@@ -109,7 +110,7 @@ class LogoSongServiceCacheTest {
         var pageable = PageRequest.of(0, 10, Sort.by("createdAt").descending());
         logoSongService.getAllLogoSongs(pageable);
         logoSongService.getAllLogoSongs(pageable);
-        verify(logoSongRepository, times(1)).findByIsPublicTrue(pageable);
+        verify(logoSongRepository, times(1)).findPublicSummaries(pageable);
         Mockito.clearInvocations(logoSongRepository);
 
         // when: 공개 여부 변경 → 캐시 무효화
@@ -117,7 +118,7 @@ class LogoSongServiceCacheTest {
 
         // then: 이후 목록 조회는 DB 재조회
         logoSongService.getAllLogoSongs(pageable);
-        verify(logoSongRepository, times(1)).findByIsPublicTrue(pageable);
+        verify(logoSongRepository, times(1)).findPublicSummaries(pageable);
     }
 
     @Test
@@ -149,7 +150,7 @@ class LogoSongServiceCacheTest {
         boolean hasPublicLogoSong = result.getContent().stream()
                 .anyMatch(logoSong -> logoSong.getServiceName().equals("공개 테스트 서비스"));
         assertThat(hasPublicLogoSong).isTrue();
-        verify(logoSongRepository, times(1)).findByIsPublicTrue(pageable);
+        verify(logoSongRepository, times(1)).findPublicSummaries(pageable);
     }
 
     @Test
@@ -183,7 +184,7 @@ class LogoSongServiceCacheTest {
                 .anyMatch(logoSong -> logoSong.getServiceName().equals("비공개 테스트 서비스"));
         assertThat(hasPublicLogoSong).isTrue();
         assertThat(hasPrivateLogoSong).isTrue();
-        verify(logoSongRepository, times(1)).findByUser_Id(ownerId, pageable);
+        verify(logoSongRepository, times(1)).findSummariesByUserId(ownerId, pageable);
     }
 }
 
@@ -0,0 +1,285 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.common.enums.VersionType;
+import com.guineafigma.common.response.PagedResponse;
+import com.guineafigma.config.QueryCountConfig;
+import com.guineafigma.domain.logosong.dto.response.LogoSongResponse;
+import com.guineafigma.domain.logosong.dto.response.LogoSongSummaryResponse;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.entity.LogoSongLike;
+import com.guineafigma.domain.logosong.repository.LogoSongLikeRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.domain.user.repository.UserRepository;
+import com.guineafigma.utils.SqlStatementCounter;
+import com.guineafigma.utils.SqlStatementCounter.Captured;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static com.guineafigma.utils.SqlStatementCounter.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스 호출당 SQL 수 상한 검증 (N+1 회귀 시 빌드 실패). 캐시를 비운 상태에서 DB 경로만 측정
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(QueryCountConfig.class)
+@DisplayName("LogoSongService 쿼리 수 테스트")
+class LogoSongServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int LARGE_PAGE_SIZE = 50;
+    private static final int BULK_SIZE = 120;
+
+    @Autowired
+    private LogoSongService logoSongService;
+
+    @Autowired
+    private MusicGenerationPollingService pollingService;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private LogoSongLikeRepository logoSongLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<LogoSong> logoSongs = new ArrayList<>();
+    private User viewer;
+
+    @BeforeEach
+    void setUp() {
+        User owner1 = userRepository.save(user());
+        User owner2 = userRepository.save(user());
+        viewer = userRepository.save(user());
+        users.addAll(List.of(owner1, owner2, viewer));
+
+        List<LogoSong> seeded = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            seeded.add(logoSong(i % 2 == 0 ? owner1 : owner2, i));
+        }
+        logoSongs.addAll(logoSongRepository.saveAll(seeded));
+        logoSongLikeRepository.saveAll(logoSongs.subList(0, 3).stream()
+                .map(logoSong -> like(viewer, logoSong))
+                .toList());
+        clearCaches();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logoSongLikeRepository.deleteAll(logoSongLikeRepository.findByUserId(viewer.getId()));
+        logoSongRepository.deleteAll(logoSongs);
+        userRepository.deleteAll(users);
+        clearCaches();
+    }
+
+    @Test
+    @DisplayName("공개 목록 - 좋아요 여부는 페이지당 한 번에 조회")
+    void listWithLikes() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending());
+
+        Captured<PagedResponse<LogoSongSummaryResponse>> anonymous = SqlStatementCounter.capture(
+                () -> logoSongService.getAllLogoSongs(pageable));
+        // 목록(소유자 조인) + count, 소유자 수와 무관
+        assertMaxStatements(2, anonymous);
+        assertThat(anonymous.result().getContent()).allSatisfy(item -> assertThat(item.getUserNickname()).isNotNull());
+
+        clearCaches();
+        Captured<PagedResponse<LogoSongSummaryResponse>> loggedIn = SqlStatementCounter.capture(
+                () -> logoSongService.getAllLogoSongs(pageable, viewer.getId()));
+        // + 좋아요 여부 IN 조회 1회 (행 수와 무관)
+        assertMaxStatements(3, loggedIn);
+        assertThat(loggedIn.result().getContent())
+                .filteredOn(LogoSongSummaryResponse::isLiked)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("인기 목록 - 좋아요 여부는 페이지당 한 번에 조회")
+    void popularWithLikes() {
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+
+        Captured<PagedResponse<LogoSongSummaryResponse>> loggedIn = SqlStatementCounter.capture(
+                () -> logoSongService.getPopularLogoSongs(pageable, viewer.getId()));
+
+        // 순위 id(logosong_stats 인덱스) + count + 요약 PK IN 조회 + 좋아요 여부 IN 조회
+        assertMaxStatements(4, loggedIn);
+        assertThat(loggedIn.result().getContent()).hasSize(PAGE_SIZE)
+                .filteredOn(LogoSongSummaryResponse::isLiked)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("50건 페이지 - 소유자가 모두 달라도 문장 수 일정")
+    void largePageWithDistinctOwners() {
+        for (int i = 0; i < LARGE_PAGE_SIZE; i++) {
+            User owner = userRepository.save(user());
+            users.add(owner);
+            logoSongs.add(logoSongRepository.save(logoSong(owner, PAGE_SIZE + i)));
+        }
+        Pageable pageable = PageRequest.of(0, LARGE_PAGE_SIZE, Sort.by("createdAt").descending());
+
+        Captured<PagedResponse<LogoSongSummaryResponse>> summaries = SqlStatementCounter.capture(
+                () -> logoSongService.getAllLogoSongs(pageable, viewer.getId()));
+        assertMaxStatements(3, summaries);
+        assertThat(summaries.result().getContent()).hasSize(LARGE_PAGE_SIZE);
+
+        // 엔티티 목록 경로도 소유자를 같은 쿼리에서 로드 (트랜잭션 밖에서 변환해도 지연 로딩 없음)
+        Captured<List<LogoSongResponse>> entities = SqlStatementCounter.capture(
+                () -> logoSongRepository.findByIsPublicTrue(pageable).map(LogoSongResponse::from).getContent());
+        assertMaxStatements(2, entities);
+        assertThat(entities.result()).hasSize(LARGE_PAGE_SIZE)
+                .allSatisfy(response -> assertThat(response.getUserNickname()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("대량 저장 - id는 allocationSize(50)당 시퀀스 1회, 좋아요 저장은 사전 SELECT 없음")
+    void bulkInsert() {
+        User owner = users.get(0);
+        List<LogoSong> batch = new ArrayList<>();
+        for (int i = 0; i < BULK_SIZE; i++) {
+            batch.add(logoSong(owner, PAGE_SIZE + i));
+        }
+
+        Captured<List<LogoSong>> savedSongs = SqlStatementCounter.capture(() -> logoSongRepository.saveAll(batch));
+        logoSongs.addAll(savedSongs.result());
+        assertThat(savedSongs.statements())
+                .filteredOn(sql -> sql.contains("logosongs_seq"))
+                .hasSizeLessThanOrEqualTo(BULK_SIZE / 50 + 1);
+        // 배치에서는 같은 INSERT를 재사용하므로 준비된 문장 수가 행 수보다 훨씬 적음 (배치가 꺼지면 행마다 1개)
+        // 카운터 행(logosong_stats)도 같은 배치 규칙으로 함께 insert
+        assertThat(savedSongs.statements())
+                .filteredOn(sql -> sql.toLowerCase().startsWith("insert into logosongs "))
+                .hasSizeLessThanOrEqualTo(BULK_SIZE / 50 + 1);
+        assertThat(savedSongs.statements())
+                .filteredOn(sql -> sql.toLowerCase().startsWith("insert into logosong_stats "))
+                .hasSizeLessThanOrEqualTo(BULK_SIZE / 50 + 1);
+
+        Captured<List<LogoSongLike>> savedLikes = SqlStatementCounter.capture(() -> logoSongLikeRepository.saveAll(
+                savedSongs.result().stream().map(logoSong -> like(viewer, logoSong)).toList()));
+        assertThat(savedLikes.statements())
+                .allSatisfy(sql -> assertThat(sql.toLowerCase()).startsWith("insert"));
+    }
+
+    @Test
+    @DisplayName("상세 조회 - 로고송(소유자 조인) + 좋아요 여부")
+    void detail() {
+        Long id = logoSongs.get(0).getId();
+
+        LogoSongResponse response = assertMaxStatements(2, () -> logoSongService.getLogoSongWithLike(id, viewer.getId()));
+        assertThat(response.isLiked()).isTrue();
+        assertThat(response.getUserNickname()).isNotNull();
+
+        assertMaxStatements(1, () -> logoSongService.getLogoSong(id));
+    }
+
+    @Test
+    @DisplayName("조회수 증가 상세 조회 - 조회 + 갱신 + 좋아요 여부")
+    void detailWithViewCount() {
+        Long id = logoSongs.get(0).getId();
+
+        assertMaxStatements(3, () -> logoSongService.incrementViewCountWithLike(id, viewer.getId()));
+    }
+
+    @Test
+    @DisplayName("좋아요/취소/토글 - 행 수와 무관한 고정 쿼리 수")
+    void likeAndUnlike() {
+        Long id = logoSongs.get(5).getId();
+
+        // 로고송 조회 + 존재 확인 + 좋아요 insert + 카운터 UPDATE
+        assertMaxStatements(4, () -> logoSongService.like(id, viewer.getId()));
+        // 로고송 조회 + 좋아요 조회 + delete + 카운터 갱신
+        assertMaxStatements(4, () -> logoSongService.unlike(id, viewer.getId()));
+        assertMaxStatements(5, () -> logoSongService.toggleLike(id, viewer.getId()));
+    }
+
+    @Test
+    @DisplayName("좋아요/조회수 - logosongs 행은 다시 쓰지 않고 logosong_stats만 원자적으로 갱신")
+    void countersTouchStatsRowOnly() {
+        Long id = logoSongs.get(6).getId();
+
+        Captured<?> liked = SqlStatementCounter.capture(() -> {
+            logoSongService.like(id, viewer.getId());
+            return null;
+        });
+        Captured<LogoSongResponse> viewed = SqlStatementCounter.capture(
+                () -> logoSongService.incrementViewCountWithLike(id, viewer.getId()));
+
+        assertThat(liked.statements()).noneMatch(sql -> sql.toLowerCase().startsWith("update logosongs "))
+                .anyMatch(sql -> sql.toLowerCase().contains("like_count = like_count + 1"));
+        assertThat(viewed.statements()).noneMatch(sql -> sql.toLowerCase().startsWith("update logosongs "))
+                .anyMatch(sql -> sql.toLowerCase().contains("view_count = view_count + 1"));
+        assertThat(viewed.result().getLikeCount()).isEqualTo(1);
+        assertThat(viewed.result().getViewCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태 조회 - 단건 조회 1회")
+    void quickStatus() {
+        Long id = logoSongs.get(1).getId();
+
+        Captured<?> captured = SqlStatementCounter.capture(() -> pollingService.getQuickPollingStatus(id));
+
+        // 정확히 1회: StatementInspector가 연결되어 있는지도 함께 확인
+        assertThat(captured.count()).isEqualTo(1);
+
+        // 두 번째 호출은 캐시 적중
+        assertMaxStatements(0, () -> pollingService.getQuickPollingStatus(id));
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    private static User user() {
+        return User.builder()
+                .nickname("qc" + UUID.randomUUID().toString().substring(0, 8))
+                .password("password")
+                .isActive(true)
+                .build();
+    }
+
+    private static LogoSongLike like(User user, LogoSong logoSong) {
+        return LogoSongLike.builder()
+                .userId(user.getId())
+                .logosongId(logoSong.getId())
+                .build();
+    }
+
+    private static LogoSong logoSong(User owner, int index) {
+        return LogoSong.builder()
+                .user(owner)
+                .serviceName("쿼리 수 테스트 " + index)
+                .slogan("테스트 슬로건")
+                .industry("카페")
+                .moodTone("밝은")
+                .musicGenre("POP")
+                .version(VersionType.SHORT)
+                .lyrics("테스트 가사")
+                .videoGuideline("테스트 비디오 가이드라인")
+                .musicStatus(MusicGenerationStatus.COMPLETED)
+                .isPublic(true)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.guineafigma.domain.logosong.entity.LogoSong;
 import com.guineafigma.domain.logosong.entity.LogoSongLike;
 import com.guineafigma.domain.logosong.repository.LogoSongLikeRepository;
 import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.repository.LogoSongSummary;
 import com.guineafigma.domain.user.entity.User;
 import com.guineafigma.domain.user.repository.UserRepository;
 import com.guineafigma.global.exception.BusinessException;
@@ -106,7 +107,7 @@ class LogoSongServiceUnitTest {
     @DisplayName("로고송 조회 성공")
     void getLogoSong_Success() {
         // given
-        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
+        when(logoSongRepository.findWithUserById(1L)).thenReturn(Optional.of(testLogoSong));
 
         // when
         LogoSongResponse response = logoSongService.getLogoSong(1L);
@@ -116,14 +117,14 @@ class LogoSongServiceUnitTest {
         assertEquals(1L, response.getId());
         assertEquals("Test Service", response.getServiceName());
 
-        verify(logoSongRepository).findById(1L);
+        verify(logoSongRepository).findWithUserById(1L);
     }
 
     @Test
     @DisplayName("로고송 조회 실패 - 존재하지 않는 ID")
     void getLogoSong_Failure_NotFound() {
         // given
-        when(logoSongRepository.findById(999L)).thenReturn(Optional.empty());
+        when(logoSongRepository.findWithUserById(999L)).thenReturn(Optional.empty());
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
@@ -131,7 +132,7 @@ class LogoSongServiceUnitTest {
 
         assertEquals(ErrorCode.LOGOSONG_NOT_FOUND, exception.getErrorCode());
 
-        verify(logoSongRepository).findById(999L);
+        verify(logoSongRepository).findWithUserById(999L);
     }
 
     @Test
@@ -140,22 +141,20 @@ class LogoSongServiceUnitTest {
         // given
         when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
         when(logoSongLikeRepository.existsByUserIdAndLogosongId(1L, 1L)).thenReturn(false);
-        when(logoSongRepository.save(any(LogoSong.class))).thenReturn(testLogoSong);
 
         // when
         logoSongService.toggleLike(1L, 1L);
 
         // then
         verify(logoSongLikeRepository).save(any(LogoSongLike.class));
-        verify(logoSongRepository).save(any(LogoSong.class));
-        assertEquals(1, testLogoSong.getLikeCount());
+        verify(logoSongRepository).incrementLikeCount(1L);
+        verify(logoSongRepository, never()).save(any(LogoSong.class));
     }
 
     @Test
     @DisplayName("좋아요 토글 - 좋아요 취소")
     void toggleLike_RemoveLike() {
         // given
-        testLogoSong.setLikeCount(1);
         when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
         when(logoSongLikeRepository.existsByUserIdAndLogosongId(1L, 1L)).thenReturn(true);
 
@@ -165,15 +164,14 @@ class LogoSongServiceUnitTest {
                 .build();
         when(logoSongLikeRepository.findByUserIdAndLogosongId(1L, 1L))
                 .thenReturn(Optional.of(existingLike));
-        when(logoSongRepository.save(any(LogoSong.class))).thenReturn(testLogoSong);
 
         // when
         logoSongService.toggleLike(1L, 1L);
 
         // then
         verify(logoSongLikeRepository).delete(existingLike);
-        verify(logoSongRepository).save(any(LogoSong.class));
-        assertEquals(0, testLogoSong.getLikeCount());
+        verify(logoSongRepository).decrementLikeCount(1L);
+        verify(logoSongRepository, never()).save(any(LogoSong.class));
     }
 
     @Test
@@ -192,6 +190,7 @@ class LogoSongServiceUnitTest {
         verify(logoSongRepository).findById(1L);
         verify(logoSongLikeRepository, never()).save(any());
         verify(logoSongLikeRepository, never()).delete(any());
+        verify(logoSongRepository, never()).incrementLikeCount(any());
     }
 
     @Test
@@ -201,32 +200,45 @@ class LogoSongServiceUnitTest {
         testLogoSong.setIsPublic(false);
         when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
         when(logoSongLikeRepository.existsByUserIdAndLogosongId(1L, 1L)).thenReturn(false);
-        when(logoSongRepository.save(any(LogoSong.class))).thenReturn(testLogoSong);
 
         // when
         logoSongService.toggleLike(1L, 1L); // 소유자 ID
 
         // then
         verify(logoSongLikeRepository).save(any(LogoSongLike.class));
-        verify(logoSongRepository).save(any(LogoSong.class));
+        verify(logoSongRepository).incrementLikeCount(1L);
     }
 
     @Test
     @DisplayName("조회수 증가 성공")
     void incrementViewCount_Success() {
         // given
-        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
-        when(logoSongRepository.save(any(LogoSong.class))).thenReturn(testLogoSong);
+        when(logoSongRepository.incrementViewCount(1L)).thenReturn(1);
+        when(logoSongRepository.findWithUserById(1L)).thenReturn(Optional.of(testLogoSong));
 
         // when
         LogoSongResponse response = logoSongService.incrementViewCount(1L);
 
         // then
         assertNotNull(response);
-        assertEquals(1, testLogoSong.getViewCount());
 
-        verify(logoSongRepository).findById(1L);
-        verify(logoSongRepository).save(any(LogoSong.class));
+        verify(logoSongRepository).incrementViewCount(1L);
+        verify(logoSongRepository).findWithUserById(1L);
+        verify(logoSongRepository, never()).save(any(LogoSong.class));
+    }
+
+    @Test
+    @DisplayName("조회수 증가 - 존재하지 않는 로고송")
+    void incrementViewCount_NotFound() {
+        // given
+        when(logoSongRepository.incrementViewCount(999L)).thenReturn(0);
+
+        // when & then
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> logoSongService.incrementViewCount(999L));
+
+        assertEquals(ErrorCode.LOGOSONG_NOT_FOUND, exception.getErrorCode());
+        verify(logoSongRepository, never()).findWithUserById(any());
     }
 
     @Test
@@ -234,10 +246,10 @@ class LogoSongServiceUnitTest {
     void getAllLogoSongs_PublicOnly() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        List<LogoSong> logoSongs = Arrays.asList(testLogoSong);
-        Page<LogoSong> page = new PageImpl<>(logoSongs, pageable, 1);
+        List<LogoSongSummary> logoSongs = Arrays.asList(LogoSongSummary.from(testLogoSong));
+        Page<LogoSongSummary> page = new PageImpl<>(logoSongs, pageable, 1);
 
-        when(logoSongRepository.findByIsPublicTrue(pageable)).thenReturn(page);
+        when(logoSongRepository.findPublicSummaries(pageable)).thenReturn(page);
 
         // when
         var response = logoSongService.getAllLogoSongs(pageable);
@@ -247,36 +259,48 @@ class LogoSongServiceUnitTest {
         assertEquals(1, response.getContent().size());
         assertEquals(1L, response.getContent().get(0).getId());
 
-        verify(logoSongRepository).findByIsPublicTrue(pageable);
+        verify(logoSongRepository).findPublicSummaries(pageable);
     }
 
     @Test
-    @DisplayName("인기 로고송 목록 조회")
+    @DisplayName("인기 로고송 목록 조회 - 순위 id 순서대로 요약을 채움")
     void getPopularLogoSongs_Success() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
         testLogoSong.setLikeCount(10);
-        List<LogoSong> logoSongs = Arrays.asList(testLogoSong);
-        Page<LogoSong> page = new PageImpl<>(logoSongs, pageable, 1);
+        LogoSong secondLogoSong = LogoSong.builder()
+                .user(testUser)
+                .serviceName("두 번째 로고송")
+                .musicGenre("POP")
+                .version(com.guineafigma.common.enums.VersionType.SHORT)
+                .likeCount(3)
+                .isPublic(true)
+                .build();
+        secondLogoSong.setId(2L);
 
-        when(logoSongRepository.findByOrderByLikeCountDesc(pageable)).thenReturn(page);
+        when(logoSongRepository.findPopularIds(pageable)).thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, 2));
+        // IN 조회 결과 순서는 보장되지 않음
+        when(logoSongRepository.findSummariesByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(LogoSongSummary.from(secondLogoSong), LogoSongSummary.from(testLogoSong)));
 
         // when
         var response = logoSongService.getPopularLogoSongs(pageable);
 
         // then
         assertNotNull(response);
-        assertEquals(1, response.getContent().size());
+        assertEquals(2, response.getContent().size());
+        assertEquals(1L, response.getContent().get(0).getId());
         assertEquals(10, response.getContent().get(0).getLikeCount());
+        assertEquals(2L, response.getContent().get(1).getId());
 
-        verify(logoSongRepository).findByOrderByLikeCountDesc(pageable);
+        verify(logoSongRepository).findPopularIds(pageable);
     }
 
     @Test
     @DisplayName("사용자별 좋아요 상태 포함 조회")
     void getLogoSongWithLike_Success() {
         // given
-        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
+        when(logoSongRepository.findWithUserById(1L)).thenReturn(Optional.of(testLogoSong));
         when(logoSongLikeRepository.existsByUserIdAndLogosongId(1L, 1L)).thenReturn(true);
 
         // when
@@ -286,7 +310,7 @@ class LogoSongServiceUnitTest {
         assertNotNull(response);
         assertTrue(response.isLiked());
 
-        verify(logoSongRepository).findById(1L);
+        verify(logoSongRepository).findWithUserById(1L);
         verify(logoSongLikeRepository).existsByUserIdAndLogosongId(1L, 1L);
     }
 
@@ -295,7 +319,7 @@ class LogoSongServiceUnitTest {
     void getLogoSongWithLike_PrivateSong_NonOwner() {
         // given
         testLogoSong.setIsPublic(false);
-        when(logoSongRepository.findById(1L)).thenReturn(Optional.of(testLogoSong));
+        when(logoSongRepository.findWithUserById(1L)).thenReturn(Optional.of(testLogoSong));
 
         // when & then
         BusinessException exception = assertThrows(BusinessException.class,
@@ -303,7 +327,7 @@ class LogoSongServiceUnitTest {
 
         assertEquals(ErrorCode.LOGOSONG_NOT_FOUND, exception.getErrorCode());
 
-        verify(logoSongRepository).findById(1L);
+        verify(logoSongRepository).findWithUserById(1L);
     }
 
     @Test
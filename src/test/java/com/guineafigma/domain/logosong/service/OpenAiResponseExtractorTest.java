@@ -0,0 +1,84 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenAiResponseExtractor 단위 테스트")
+class OpenAiResponseExtractorTest {
+
+    private final OpenAiResponseExtractor extractor = new OpenAiResponseExtractor(new JsonFactory());
+
+    @Test
+    @DisplayName("reasoning 항목을 건너뛰고 첫 message의 content[0].text 추출")
+    void extractMessageText_SkipsReasoning() throws Exception {
+        String body = """
+                {"id":"resp_1","object":"response","output":[
+                  {"id":"rs_1","type":"reasoning","summary":[{"type":"summary_text","text":"생각 중"}]},
+                  {"id":"msg_1","type":"message","status":"completed","role":"assistant",
+                   "content":[{"type":"output_text","text":"첫 번째","annotations":[]},{"type":"output_text","text":"두 번째"}]},
+                  {"id":"msg_2","type":"message","content":[{"type":"output_text","text":"무시됨"}]}
+                ],"usage":{"input_tokens":10}}
+                """;
+
+        String text = extractor.extractMessageText(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("첫 번째", text);
+    }
+
+    @Test
+    @DisplayName("type 필드가 content 뒤에 와도 추출")
+    void extractMessageText_TypeAfterContent() throws Exception {
+        String body = """
+                {"output":[{"content":[{"text":"가사"}],"type":"message"}]}
+                """;
+
+        assertEquals("가사", extractor.extractMessageText(body));
+    }
+
+    @Test
+    @DisplayName("message 항목이 없으면 null")
+    void extractMessageText_NoMessage() throws Exception {
+        String body = """
+                {"output":[{"type":"reasoning","content":[{"text":"x"}]}],"status":"incomplete"}
+                """;
+
+        assertNull(extractor.extractMessageText(body));
+        assertNull(extractor.extractMessageText("{\"error\":{\"message\":\"bad\"}}"));
+    }
+
+    @Test
+    @DisplayName("마크다운 코드 블록에 감싸진 JSON에서 필요한 필드만 추출")
+    void extractFields_FromMarkdown() throws Exception {
+        String content = """
+                ```json
+                {
+                  "title": "무시",
+                  "meta": {"lyrics": "중첩은 무시"},
+                  "lyrics": "두비두밥\\n두비두밥",
+                  "video_guideline": "씬 1: 로고",
+                  "extra": [1, 2, 3]
+                }
+                ```
+                """;
+
+        Map<String, String> fields = extractor.extractFields(content, Set.of("lyrics", "video_guideline"));
+
+        assertEquals("두비두밥\n두비두밥", fields.get("lyrics"));
+        assertEquals("씬 1: 로고", fields.get("video_guideline"));
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 없거나 값이 null이면 빈 결과")
+    void extractFields_Missing() throws Exception {
+        assertTrue(extractor.extractFields("가사를 생성할 수 없습니다.", Set.of("lyrics")).isEmpty());
+        assertTrue(extractor.extractFields("{\"lyrics\": null}", Set.of("lyrics")).isEmpty());
+    }
+}
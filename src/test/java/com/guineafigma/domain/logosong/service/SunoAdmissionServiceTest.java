@@ -0,0 +1,165 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.domain.logosong.client.SunoApiClient;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SunoAdmissionService 단위 테스트")
+class SunoAdmissionServiceTest {
+
+    @Mock
+    private SunoApiClient sunoApiClient;
+
+    private SunoAdmissionService newService(int requestsPerMinute, int burst, int maxQueueDepth) {
+        return new SunoAdmissionService(sunoApiClient, requestsPerMinute, burst, maxQueueDepth, 10);
+    }
+
+    @Test
+    @DisplayName("버스트 크기만큼 즉시 토큰 획득 후 대기 필요")
+    void tryAcquire_BurstThenWait() {
+        SunoAdmissionService service = newService(60, 3, 10);
+
+        assertEquals(0, service.tryAcquire());
+        assertEquals(0, service.tryAcquire());
+        assertEquals(0, service.tryAcquire());
+
+        long waitNanos = service.tryAcquire();
+        assertTrue(waitNanos > 0);
+        assertTrue(waitNanos <= 1_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("대기열 초과 시 SUNO_RATE_LIMITED")
+    void admit_QueueFull() {
+        SunoAdmissionService service = newService(60, 1, 2);
+
+        service.admit();
+        service.admit();
+
+        BusinessException e = assertThrows(BusinessException.class, service::admit);
+        assertEquals(ErrorCode.SUNO_RATE_LIMITED, e.getErrorCode());
+        assertEquals(2, service.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("크레딧 잔액이 대기열을 감당하지 못하면 SUNO_CREDITS_EXHAUSTED")
+    void admit_CreditsExhausted() {
+        when(sunoApiClient.getRemainingCredits()).thenReturn(15.0);
+        SunoAdmissionService service = newService(60, 1, 10);
+        service.refreshCredits();
+
+        service.admit();
+
+        BusinessException e = assertThrows(BusinessException.class, service::admit);
+        assertEquals(ErrorCode.SUNO_CREDITS_EXHAUSTED, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("동시 수락 - 대기열 상한과 크레딧 예산을 넘지 않음")
+    void admit_ConcurrentNeverExceedsLimits() throws InterruptedException {
+        when(sunoApiClient.getRemainingCredits()).thenReturn(1_000.0);
+        SunoAdmissionService queueBound = newService(60, 1, 20);
+        SunoAdmissionService creditBound = newService(60, 1, 1_000);
+        queueBound.refreshCredits();
+        creditBound.refreshCredits();
+
+        assertEquals(20, admitConcurrently(queueBound, 200));
+        // 크레딧 1000, 건당 10 → 최대 100건
+        assertEquals(100, admitConcurrently(creditBound, 200));
+        assertEquals(100, creditBound.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("release - 대기열 자리 반납, 0 미만으로 내려가지 않음")
+    void release_ReturnsSlot() {
+        SunoAdmissionService service = newService(60, 1, 1);
+        service.admit();
+
+        service.release();
+        service.release();
+
+        assertEquals(0, service.getQueueDepth());
+        assertDoesNotThrow(service::admit);
+    }
+
+    @Test
+    @DisplayName("크레딧 조회 실패 시 기존 잔액 유지")
+    void refreshCredits_KeepsLastKnownOnFailure() {
+        when(sunoApiClient.getRemainingCredits()).thenReturn(100.0, (Double) null);
+        SunoAdmissionService service = newService(60, 1, 10);
+
+        service.refreshCredits();
+        service.refreshCredits();
+
+        assertEquals(100.0, service.getCachedCredits());
+    }
+
+    @Test
+    @DisplayName("토큰 획득 시 대기열 감소 및 크레딧 차감")
+    void awaitPermit_DequeuesAndDebits() throws InterruptedException {
+        when(sunoApiClient.getRemainingCredits()).thenReturn(100.0);
+        SunoAdmissionService service = newService(60, 2, 10);
+        service.refreshCredits();
+
+        service.admit();
+        service.admit();
+        assertEquals(2, service.getQueueDepth());
+
+        service.awaitPermit();
+
+        assertEquals(1, service.getQueueDepth());
+        assertEquals(90.0, service.getCachedCredits());
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간은 대기열과 토큰 잔량으로 계산")
+    void predictWaitSeconds() {
+        SunoAdmissionService service = newService(60, 1, 10);
+        assertEquals(0, service.predictWaitSeconds());
+
+        service.admit();
+        service.admit();
+        service.admit();
+
+        // 토큰 1개 보유, 대기 3건 → 나머지 2건은 초당 1개씩
+        assertEquals(2, service.predictWaitSeconds());
+    }
+
+    private static int admitConcurrently(SunoAdmissionService service, int requests) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        for (int i = 0; i < requests; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    service.admit();
+                    admitted.incrementAndGet();
+                } catch (BusinessException ignored) {
+                    // 거절
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        return admitted.get();
+    }
+}
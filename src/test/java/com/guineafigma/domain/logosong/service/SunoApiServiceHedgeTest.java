@@ -0,0 +1,145 @@
+package com.guineafigma.domain.logosong.service;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.domain.logosong.client.FastApiClient;
+import com.guineafigma.domain.logosong.client.SunoApiClient;
+import com.guineafigma.domain.logosong.dto.response.MusicGenerationResult;
+import com.guineafigma.domain.logosong.dto.response.SunoGenerateRecordInfoResponse;
+import com.guineafigma.domain.logosong.dto.response.SunoStatusResponse;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SunoApiService 헤지 상태 조회 단위 테스트")
+class SunoApiServiceHedgeTest {
+
+    @Mock
+    private SunoApiClient sunoApiClient;
+
+    @Mock
+    private LogoSongRepository logoSongRepository;
+
+    @Mock
+    private FastApiClient fastApiClient;
+
+    @Mock
+    private SunoParamMapper sunoParamMapper;
+
+    private ThreadPoolTaskExecutor executor;
+    private SunoApiService sunoApiService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        sunoApiService = new SunoApiService(sunoApiClient, logoSongRepository, fastApiClient, sunoParamMapper, executor,
+                new GenerationTimelineRecorder(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1)));
+        ReflectionTestUtils.setField(sunoApiService, "hedgeInitialDelayMs", 50L);
+        ReflectionTestUtils.setField(sunoApiService, "hedgeMinDelayMs", 10L);
+        ReflectionTestUtils.setField(sunoApiService, "hedgeMaxDelayMs", 1000L);
+        ReflectionTestUtils.setField(sunoApiService, "hedgeTimeoutMs", 3000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static SunoGenerateRecordInfoResponse recordInfo(String status) {
+        return SunoGenerateRecordInfoResponse.builder()
+                .code(200)
+                .data(SunoGenerateRecordInfoResponse.Data.builder().taskId("task-1").status(status).build())
+                .build();
+    }
+
+    private static SunoStatusResponse legacyCompleted() {
+        return SunoStatusResponse.builder()
+                .id("task-1")
+                .status("complete")
+                .audioUrl("https://cdn/legacy.mp3")
+                .build();
+    }
+
+    @Test
+    @DisplayName("주 조회가 빠르면 보조 조회 없이 반환")
+    void primaryWins() {
+        when(sunoApiClient.getGenerateRecordInfo("task-1")).thenReturn(recordInfo("SUCCESS"));
+
+        MusicGenerationResult result = sunoApiService.checkMusicStatus("task-1");
+
+        assertEquals(MusicGenerationStatus.COMPLETED, result.getStatus());
+        verify(sunoApiClient, after(150).never()).getGenerationStatus(anyString());
+    }
+
+    @Test
+    @DisplayName("주 조회가 헤지 지연보다 느리면 보조 조회 결과 사용")
+    void hedgeWinsWhenPrimarySlow() {
+        when(sunoApiClient.getGenerateRecordInfo("task-1")).thenAnswer(inv -> {
+            TimeUnit.MILLISECONDS.sleep(2000);
+            return recordInfo("PENDING");
+        });
+        when(sunoApiClient.getGenerationStatus("task-1")).thenReturn(legacyCompleted());
+
+        long start = System.nanoTime();
+        MusicGenerationResult result = sunoApiService.checkMusicStatus("task-1");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(MusicGenerationStatus.COMPLETED, result.getStatus());
+        assertEquals("https://cdn/legacy.mp3", result.getAudioUrl());
+        assertTrue(elapsedMs < 1000, "헤지 응답은 느린 주 조회를 기다리지 않아야 함: " + elapsedMs + "ms");
+    }
+
+    @Test
+    @DisplayName("주 조회가 200이 아니면 즉시 보조 조회")
+    void fallbackOnUnusablePrimary() {
+        ReflectionTestUtils.setField(sunoApiService, "hedgeInitialDelayMs", 5000L);
+        when(sunoApiClient.getGenerateRecordInfo("task-1")).thenReturn(
+                SunoGenerateRecordInfoResponse.builder().code(422).build());
+        when(sunoApiClient.getGenerationStatus("task-1")).thenReturn(legacyCompleted());
+
+        MusicGenerationResult result = sunoApiService.checkMusicStatus("task-1");
+
+        assertEquals(MusicGenerationStatus.COMPLETED, result.getStatus());
+    }
+
+    @Test
+    @DisplayName("두 조회가 모두 실패하면 마지막 BusinessException 전파")
+    void bothFail() {
+        when(sunoApiClient.getGenerateRecordInfo("task-1")).thenThrow(new BusinessException(ErrorCode.SUNO_API_ERROR));
+        when(sunoApiClient.getGenerationStatus("task-1")).thenThrow(new BusinessException(ErrorCode.SUNO_TASK_NOT_FOUND));
+
+        BusinessException e = assertThrows(BusinessException.class, () -> sunoApiService.checkMusicStatus("task-1"));
+        assertEquals(ErrorCode.SUNO_TASK_NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("표본이 쌓이면 헤지 지연은 주 조회 p95를 따름")
+    void hedgeDelayFollowsP95() {
+        assertEquals(50L, sunoApiService.hedgeDelayMillis());
+
+        for (int i = 1; i <= 100; i++) {
+            sunoApiService.getRecordInfoLatency().record(i * 2L);
+        }
+
+        assertEquals(190L, sunoApiService.hedgeDelayMillis());
+    }
+}
@@ -0,0 +1,76 @@
+package com.guineafigma.domain.system.service;
+
+import com.guineafigma.config.TestConfig;
+import com.guineafigma.domain.system.dto.response.HealthSnapshotResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 기본 스케줄러(스레드 1개)를 점유한 작업이 있어도 헬스 프로브는 전용 스케줄러에서 계속 실행
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:health-prober-scheduling;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.task.scheduling.pool.size=1",
+        "system.health.probe-interval-ms=200"
+})
+@ActiveProfiles("test")
+@Import({TestConfig.class, HealthProberSchedulingTest.BlockingTaskConfig.class})
+@DisplayName("HealthProber 스케줄러 분리 테스트")
+class HealthProberSchedulingTest {
+
+    private static final CountDownLatch BLOCKED = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @Autowired
+    private HealthProber healthProber;
+
+    @AfterEach
+    void tearDown() {
+        RELEASE.countDown();
+    }
+
+    @Test
+    @DisplayName("기본 스케줄러가 막혀도 스냅샷 갱신 유지, 레디니스 해제 없음")
+    void blockedScheduledTaskDoesNotFlipReadiness() throws InterruptedException {
+        assertTrue(BLOCKED.await(10, TimeUnit.SECONDS), "기본 스케줄러 작업이 시작되지 않음");
+        LocalDateTime blockedAt = LocalDateTime.now();
+
+        // 스냅샷 만료 기준(프로브 주기 x3 = 600ms)보다 오래 대기
+        Thread.sleep(1_500);
+
+        HealthSnapshotResponse snapshot = healthProber.current();
+        assertTrue(snapshot.isReady(), snapshot.getNotReadyReasons().toString());
+        assertTrue(snapshot.getCheckedAt().isAfter(blockedAt));
+    }
+
+    @TestConfiguration
+    static class BlockingTaskConfig {
+
+        @Bean
+        BlockingTask blockingTask() {
+            return new BlockingTask();
+        }
+    }
+
+    // 외부 API 타임아웃처럼 기본 스케줄러 스레드를 오래 점유하는 작업
+    static class BlockingTask {
+
+        @Scheduled(fixedDelay = 60_000)
+        public void block() throws InterruptedException {
+            BLOCKED.countDown();
+            RELEASE.await(30, TimeUnit.SECONDS);
+        }
+    }
+}
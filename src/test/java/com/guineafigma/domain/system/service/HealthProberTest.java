@@ -0,0 +1,169 @@
+package com.guineafigma.domain.system.service;
+
+import com.guineafigma.domain.logosong.client.SunoApiClient;
+import com.guineafigma.domain.logosong.service.SunoAdmissionService;
+import com.guineafigma.domain.system.dto.response.HealthSnapshotResponse;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.ResourceAccessException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("HealthProber 단위 테스트")
+class HealthProberTest {
+
+    private DataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalApiMetrics externalApiMetrics;
+    private SunoAdmissionService sunoAdmissionService;
+    private ThreadPoolTaskExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+
+        meterRegistry = new SimpleMeterRegistry();
+        externalApiMetrics = new ExternalApiMetrics(meterRegistry);
+        sunoAdmissionService = new SunoAdmissionService(mock(SunoApiClient.class), 60, 1, 10, 10);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(2);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private HealthProber prober(long probeIntervalMs) {
+        return new HealthProber(dataSource, meterRegistry, sunoAdmissionService,
+                Map.<String, Executor>of("musicGenerationExecutor", executor), probeIntervalMs, 0.9, 0.5, 3);
+    }
+
+    @Test
+    @DisplayName("첫 프로브 전에는 ready=false, 프로브 후 정상 상태 반영")
+    void readyAfterFirstProbe() {
+        HealthProber prober = prober(5_000);
+        assertFalse(prober.current().isReady());
+
+        prober.probe();
+
+        HealthSnapshotResponse snapshot = prober.current();
+        assertTrue(snapshot.isReady(), snapshot.getNotReadyReasons().toString());
+        assertEquals("UP", snapshot.getStatus());
+        assertEquals("UP", snapshot.getDb());
+        assertTrue(snapshot.getExecutors().containsKey("musicGenerationExecutor"));
+        assertTrue(snapshot.getExecutors().containsKey("sunoAdmission"));
+        assertEquals("UNKNOWN", snapshot.getDependencies().get("suno").getState());
+    }
+
+    @Test
+    @DisplayName("DB 연결 실패 시 DOWN, ready=false")
+    void databaseDown() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        HealthProber prober = prober(5_000);
+
+        prober.probe();
+
+        HealthSnapshotResponse snapshot = prober.current();
+        assertEquals("DOWN", snapshot.getStatus());
+        assertFalse(snapshot.isReady());
+        assertTrue(snapshot.getNotReadyReasons().contains("DB 연결 실패"));
+    }
+
+    @Test
+    @DisplayName("실행기 스레드와 큐가 가득 차면 ready=false, 비워지면 복구")
+    void executorSaturation() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        HealthProber prober = prober(5_000);
+
+        prober.probe();
+
+        HealthSnapshotResponse saturated = prober.current();
+        assertFalse(saturated.isReady());
+        assertTrue(saturated.getExecutors().get("musicGenerationExecutor").isSaturated());
+        assertTrue(saturated.getNotReadyReasons().contains("musicGenerationExecutor 대기열 포화"));
+
+        release.countDown();
+        while (executor.getActiveCount() > 0 || executor.getQueueSize() > 0) {
+            Thread.sleep(10);
+        }
+        prober.probe();
+        assertTrue(prober.current().isReady());
+    }
+
+    @Test
+    @DisplayName("외부 호출 실패가 연속되면 DEGRADED → DOWN, 성공 시 UP, 호출이 없으면 이전 상태 유지")
+    void dependencyState() {
+        HealthProber prober = prober(5_000);
+
+        for (int window = 1; window <= 3; window++) {
+            failCall("suno");
+            prober.probe();
+            String expected = window < 3 ? "DEGRADED" : "DOWN";
+            assertEquals(expected, prober.current().getDependencies().get("suno").getState());
+        }
+
+        prober.probe();
+        assertEquals("DOWN", prober.current().getDependencies().get("suno").getState());
+
+        externalApiMetrics.record("suno", "generate", () -> "ok");
+        prober.probe();
+        HealthSnapshotResponse.Dependency suno = prober.current().getDependencies().get("suno");
+        assertEquals("UP", suno.getState());
+        assertEquals(1, suno.getCalls());
+        assertEquals(0, suno.getFailingWindows());
+        // 외부 의존성 장애는 레디니스에 반영하지 않음
+        assertTrue(prober.current().isReady());
+    }
+
+    @Test
+    @DisplayName("프로브가 멈추면 마지막 스냅샷을 ready=false로 반환")
+    void staleSnapshot() throws InterruptedException {
+        HealthProber prober = prober(1);
+        prober.probe();
+
+        Thread.sleep(20);
+
+        HealthSnapshotResponse snapshot = prober.current();
+        assertFalse(snapshot.isReady());
+        assertTrue(snapshot.getNotReadyReasons().contains("상태 수집 지연"));
+    }
+
+    private void failCall(String client) {
+        assertThrows(ResourceAccessException.class, () -> externalApiMetrics.record(client, "generate", () -> {
+            throw new ResourceAccessException("timeout");
+        }));
+    }
+}
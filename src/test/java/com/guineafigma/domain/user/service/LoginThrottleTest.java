@@ -0,0 +1,40 @@
+package com.guineafigma.domain.user.service;
+
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoginThrottle 단위 테스트")
+class LoginThrottleTest {
+
+    @Test
+    @DisplayName("같은 닉네임은 burst 이후 LOGIN_TOO_MANY_ATTEMPTS")
+    void nicknameLimit() {
+        LoginThrottle throttle = new LoginThrottle(1024, 1, 3, 1000, 1000);
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("victim", "10.0.0." + i);
+        }
+
+        BusinessException e = assertThrows(BusinessException.class, () -> throttle.acquire("victim", "10.0.0.9"));
+        assertEquals(ErrorCode.LOGIN_TOO_MANY_ATTEMPTS, e.getErrorCode());
+        assertDoesNotThrow(() -> throttle.acquire("someoneElse", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("같은 IP에서 여러 닉네임을 시도하면 IP 제한 적용")
+    void ipLimit() {
+        LoginThrottle throttle = new LoginThrottle(1024, 1000, 1000, 1, 5);
+
+        for (int i = 0; i < 5; i++) {
+            throttle.acquire("user" + i, "10.0.0.1");
+        }
+
+        BusinessException e = assertThrows(BusinessException.class, () -> throttle.acquire("user99", "10.0.0.1"));
+        assertEquals(ErrorCode.LOGIN_TOO_MANY_ATTEMPTS, e.getErrorCode());
+        assertDoesNotThrow(() -> throttle.acquire("user99", "10.0.0.2"));
+    }
+}
@@ -6,6 +6,7 @@ import com.guineafigma.domain.user.entity.User;
 import com.guineafigma.domain.user.repository.UserRepository;
 import com.guineafigma.global.exception.BusinessException;
 import com.guineafigma.global.exception.ErrorCode;
+import com.guineafigma.global.config.security.CustomUserDetailsService;
 import com.guineafigma.global.config.security.jwt.JwtTokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -36,6 +37,9 @@ class UserServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -239,18 +243,14 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("로그아웃 성공")
+    @DisplayName("로그아웃 성공 - 계정 비활성화 없이 토큰만 폐기")
     void logoutUser_Success() {
-        // given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
-
         // when
-        userService.logoutUser(1L);
+        userService.logoutUser(1L, "test.jwt.token");
 
         // then
-        verify(userRepository).findById(1L);
-        verify(userRepository).save(any(User.class));
-        assertFalse(testUser.getIsActive());
+        verify(jwtTokenProvider).revokeToken("test.jwt.token");
+        verifyNoInteractions(userRepository);
+        assertTrue(testUser.getIsActive());
     }
 }
@@ -0,0 +1,72 @@
+package com.guineafigma.global.config;
+
+import com.guineafigma.config.TestConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 액추에이터 메트릭은 루프백 관리 포트에서만 제공, 애플리케이션 포트에서는 조회 불가
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:actuator-exposure;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("액추에이터 노출 범위 테스트")
+class ActuatorExposureTest {
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("애플리케이션 포트 - 메트릭, 프로메테우스, 생성 타임라인 미노출")
+    void notExposedOnApplicationPort() {
+        assertThat(managementPort).isNotEqualTo(serverPort);
+        for (String path : new String[]{"/actuator/prometheus", "/actuator/metrics",
+                "/actuator/generationtimelines", "/api/v1/system/generation-timelines"}) {
+            ResponseEntity<String> response = restTemplate.getForEntity(
+                    "http://localhost:" + serverPort + path, String.class);
+
+            assertThat(response.getStatusCode()).isNotEqualTo(HttpStatus.OK);
+            assertThat(String.valueOf(response.getBody())).doesNotContain("jvm.memory.used");
+        }
+    }
+
+    // 테스트 컨텍스트는 메트릭 내보내기(프로메테우스 레지스트리)가 꺼져 있어 /actuator/metrics로 확인
+    @Test
+    @DisplayName("관리 포트(127.0.0.1) - 메트릭 조회 가능")
+    void exposedOnManagementPort() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "http://127.0.0.1:" + managementPort + "/actuator/metrics", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("jvm.memory.used");
+    }
+
+    @Test
+    @DisplayName("관리 포트(127.0.0.1) - 생성 타임라인 조회 가능, 기록 없는 로고송은 404")
+    void generationTimelinesOnManagementPort() {
+        String base = "http://127.0.0.1:" + managementPort + "/actuator/generationtimelines";
+
+        ResponseEntity<String> response = restTemplate.getForEntity(base + "?limit=5", String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("summary", "recent");
+
+        assertThat(restTemplate.getForEntity(base + "/999999", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
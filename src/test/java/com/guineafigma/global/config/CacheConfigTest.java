@@ -0,0 +1,58 @@
+package com.guineafigma.global.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CacheConfig 캐시 설정 단위 테스트")
+class CacheConfigTest {
+
+    private static Cache<Object, Object> nativeCache(CacheManager manager, String name) {
+        return ((CaffeineCache) manager.getCache(name)).getNativeCache();
+    }
+
+    private static CacheManager cacheManager(MockEnvironment environment) {
+        environment.setConversionService(new ApplicationConversionService());
+        SimpleCacheManager manager = (SimpleCacheManager) new CacheConfig(environment).cacheManager();
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 기본 TTL/크기 사용")
+    void defaults() {
+        CacheManager manager = cacheManager(new MockEnvironment());
+
+        Cache<Object, Object> list = nativeCache(manager, "logosong:list");
+        assertEquals(1_000L, list.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofSeconds(60), list.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(5), nativeCache(manager, "logosong:byId").policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    @DisplayName("cache.specs.<key> 프로퍼티로 캐시별 TTL/크기 조정")
+    void overrides() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("cache.specs.logosong-list.ttl", "10s")
+                .withProperty("cache.specs.logosong-list.maximum-size", "50")
+                .withProperty("cache.specs.logosong-quick-status.maximum-size", "0");
+
+        CacheManager manager = cacheManager(environment);
+
+        Cache<Object, Object> list = nativeCache(manager, "logosong:list");
+        assertEquals(50L, list.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofSeconds(10), list.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(0L, nativeCache(manager, "logosong:quickStatus").policy().eviction().orElseThrow().getMaximum());
+        // 지정하지 않은 캐시는 기본값 유지
+        assertEquals(1_000L, nativeCache(manager, "logosong:popular").policy().eviction().orElseThrow().getMaximum());
+    }
+}
@@ -0,0 +1,71 @@
+package com.guineafigma.global.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MdcTaskDecorator 단위 테스트")
+class MdcTaskDecoratorTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("제출 스레드의 traceId가 작업 스레드로 전달되고 실행 후 정리됨")
+    void propagatesAndRestores() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        try {
+            MDC.put("traceId", "node-1");
+            String seen = executor.submit(() -> MDC.get("traceId")).get(5, TimeUnit.SECONDS);
+            assertEquals("node-1", seen);
+
+            // 같은 작업 스레드가 재사용돼도 이전 작업의 traceId가 남지 않음
+            MDC.clear();
+            String next = executor.submit(() -> MDC.get("traceId")).get(5, TimeUnit.SECONDS);
+            assertNull(next);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("getThreadPoolExecutor()로 직접 제출해도 데코레이터 적용")
+    void appliesToNativeExecutor() throws Exception {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        try {
+            MDC.put("traceId", "node-2");
+            CompletableFuture<String> seen = new CompletableFuture<>();
+            executor.getThreadPoolExecutor().submit(() -> seen.complete(MDC.get("traceId")));
+            assertEquals("node-2", seen.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("호출 스레드에서 직접 실행되면(CallerRuns) 기존 MDC 복원")
+    void restoresCallerContext() {
+        MDC.put("traceId", "submitted");
+        Runnable decorated = new MdcTaskDecorator().decorate(() -> assertEquals("submitted", MDC.get("traceId")));
+
+        MDC.put("traceId", "caller");
+        decorated.run();
+
+        assertEquals("caller", MDC.get("traceId"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.guineafigma.global.config.datasource;
+
+import com.guineafigma.domain.logosong.service.LogoSongService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 라우팅 활성화 시 컨텍스트 구성 확인 (복제본은 같은 H2를 가리켜 스키마를 공유)
+@SpringBootTest(properties = {
+        "datasource.routing.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.replica.username=sa",
+        "datasource.replica.driver-class-name=org.h2.Driver"
+})
+@ActiveProfiles("test")
+@DisplayName("DataSourceRoutingConfig 테스트")
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private LogoSongService logoSongService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("readOnly 서비스 호출은 복제본 커넥션 사용")
+    void readOnlyServiceUsesReplica() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+
+        double before = replicaRoutes();
+        logoSongService.getPopularLogoSongs(PageRequest.of(0, 10), 1L);
+
+        assertThat(replicaRoutes()).isGreaterThan(before);
+    }
+
+    private double replicaRoutes() {
+        return meterRegistry.get(ReplicationRoutingDataSource.ROUTE_METRIC).tag("target", "replica").counter().count();
+    }
+}
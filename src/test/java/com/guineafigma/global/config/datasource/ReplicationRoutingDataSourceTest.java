@@ -0,0 +1,140 @@
+package com.guineafigma.global.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 H2 두 개(primary/replica)에 서로 다른 표식을 넣고 어느 쪽에서 읽었는지 확인
+@DisplayName("ReplicationRoutingDataSource 라우팅 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicReference<Object> currentUser = new AtomicReference<>();
+
+    private DataSource replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        DataSource primary = node("primary-" + suffix, "primary");
+        replica = node("replica-" + suffix, "replica");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(2), "SELECT seconds_behind FROM replica_status", meterRegistry);
+        lagMonitor.probe();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(STICKY_WINDOW, nanos::get);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(
+                primary, replica, lagMonitor, tracker, currentUser::get, meterRegistry));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기/트랜잭션 밖은 primary")
+    void routesByTransactionReadOnly() {
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+        assertThat(nodeName()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 sticky 창 동안 해당 사용자의 읽기는 primary")
+    void readYourWrites() {
+        currentUser.set(1L);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        // 다른 사용자는 영향 없음
+        currentUser.set(2L);
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        // 창이 지나면 다시 복제본
+        currentUser.set(1L);
+        nanos.addAndGet(STICKY_WINDOW.plusSeconds(1).toNanos());
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 sticky 대상이 아님")
+    void rollbackDoesNotStick() {
+        currentUser.set(1L);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 지연이 max-lag를 넘거나 복제가 멈추면 primary로 전환")
+    void lagAware() {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind = 10");
+        lagMonitor.probe();
+        assertThat(lagMonitor.lagSeconds()).isEqualTo(10.0);
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind = NULL");
+        lagMonitor.probe();
+        assertThat(lagMonitor.isAvailable()).isFalse();
+
+        replicaJdbc.update("UPDATE replica_status SET seconds_behind = 1");
+        lagMonitor.probe();
+        assertThat(readOnlyNode()).isEqualTo("replica");
+
+        // 확인 쿼리 실패도 사용 불가로 간주
+        replicaJdbc.execute("DROP TABLE replica_status");
+        lagMonitor.probe();
+        assertThat(lagMonitor.isAvailable()).isFalse();
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> nodeName());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> nodeName());
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        // MySQL SHOW REPLICA STATUS의 Seconds_Behind_Source 대용
+        jdbc.execute("CREATE TABLE replica_status (seconds_behind INT)");
+        jdbc.update("INSERT INTO replica_status VALUES (0)");
+        return dataSource;
+    }
+}
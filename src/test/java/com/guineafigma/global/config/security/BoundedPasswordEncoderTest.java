@@ -0,0 +1,68 @@
+package com.guineafigma.global.config.security;
+
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+    private ThreadPoolExecutor executor;
+
+    private BoundedPasswordEncoder encoder(int queueCapacity, long maxQueueWaitMs) {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor, maxQueueWaitMs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("전용 풀에서 해싱하고 지연을 기록")
+    void encodeAndMatches() {
+        BoundedPasswordEncoder encoder = encoder(8, 1000);
+
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(3, encoder.getHashLatency().sampleCount());
+        assertEquals(0, encoder.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 해싱 없이 LOGIN_BUSY")
+    void rejectsWhenQueueFull() throws InterruptedException {
+        BoundedPasswordEncoder encoder = encoder(1, 1000);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> { release.await(); return null; });
+        executor.submit(() -> null);
+
+        BusinessException e = assertThrows(BusinessException.class, () -> encoder.encode("password123"));
+        assertEquals(ErrorCode.LOGIN_BUSY, e.getErrorCode());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("큐 대기가 한도를 넘으면 LOGIN_BUSY")
+    void rejectsWhenQueueWaitExceeded() {
+        BoundedPasswordEncoder encoder = encoder(8, 50);
+        executor.submit(() -> { Thread.sleep(200); return null; });
+
+        BusinessException e = assertThrows(BusinessException.class, () -> encoder.encode("password123"));
+        assertEquals(ErrorCode.LOGIN_BUSY, e.getErrorCode());
+        assertEquals(0, encoder.getHashLatency().sampleCount());
+    }
+}
@@ -0,0 +1,97 @@
+package com.guineafigma.global.config.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guineafigma.global.config.security.CustomUserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter 단위 테스트")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private Claims claims;
+
+    private JwtAuthenticationFilter filter;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, new ObjectMapper());
+        CustomUserPrincipal principal = new CustomUserPrincipal(1L, "tester");
+        authentication = new UsernamePasswordAuthenticationToken(principal, "token", principal.getAuthorities());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+
+    @Test
+    @DisplayName("공개 조회는 principal을 읽을 때까지 토큰을 해석하지 않음")
+    void publicReadDefersParsing() throws Exception {
+        when(jwtTokenProvider.parseAndValidate("token")).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims, "token")).thenReturn(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        filter.doFilter(request("GET", "/api/v1/logosongs/12"), new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                verifyNoInteractions(jwtTokenProvider);
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+                SecurityContextHolder.getContext().getAuthentication();
+            }
+        });
+
+        assertSame(authentication, seen.get());
+        verify(jwtTokenProvider, times(1)).parseAndValidate("token");
+    }
+
+    @Test
+    @DisplayName("공개 조회에서 principal을 읽지 않으면 토큰 해석 생략")
+    void publicReadWithoutPrincipal() throws Exception {
+        filter.doFilter(request("GET", "/api/v1/logosongs"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("공개 조회 외 요청은 즉시 인증")
+    void protectedRequestParsesEagerly() throws Exception {
+        when(jwtTokenProvider.parseAndValidate("token")).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims, "token")).thenReturn(authentication);
+
+        filter.doFilter(request("GET", "/api/v1/logosongs/my"), new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(jwtTokenProvider).parseAndValidate("token");
+        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+    }
+}
@@ -0,0 +1,163 @@
+package com.guineafigma.global.config.security.jwt;
+
+import com.guineafigma.domain.user.entity.User;
+import com.guineafigma.global.config.properties.JwtProperties;
+import com.guineafigma.global.config.security.CustomUserDetailsService;
+import com.guineafigma.global.config.security.CustomUserPrincipal;
+import com.guineafigma.global.exception.BusinessException;
+import com.guineafigma.global.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtTokenProvider 단위 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-jwt-secret-key-for-testing-purposes-only";
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private JwtProperties jwtProperties;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties, userDetailsService, new TokenRevocationStore(jwtProperties));
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 한 번의 파싱으로 Claims 반환")
+    void parseAndValidate_Valid() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "tester");
+
+        Claims claims = jwtTokenProvider.parseAndValidate(token);
+
+        assertNotNull(claims);
+        assertEquals("tester", claims.getSubject());
+        assertEquals(1L, claims.get("userId", Long.class));
+        assertTrue(jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시된 Claims 재사용")
+    void parseAndValidate_Cached() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "tester");
+
+        assertSame(jwtTokenProvider.parseAndValidate(token), jwtTokenProvider.parseAndValidate(token));
+    }
+
+    @Test
+    @DisplayName("변조되었거나 만료된 토큰은 null")
+    void parseAndValidate_Invalid() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "tester");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertNull(jwtTokenProvider.parseAndValidate(tampered));
+        assertNull(jwtTokenProvider.parseAndValidate("not-a-jwt"));
+        assertNull(jwtTokenProvider.parseAndValidate(null));
+
+        jwtProperties.getExpiration().setAccess(-1000L);
+        String expired = jwtTokenProvider.generateAccessToken(1L, "tester");
+        assertNull(jwtTokenProvider.parseAndValidate(expired));
+    }
+
+    @Test
+    @DisplayName("토큰에서 사용자 정보 추출 실패 시 INVALID_TOKEN")
+    void getUserIdFromToken_Invalid() {
+        BusinessException e = assertThrows(BusinessException.class, () -> jwtTokenProvider.getUserIdFromToken("bad"));
+        assertEquals(ErrorCode.INVALID_TOKEN, e.getErrorCode());
+    }
+
+    // jti 도입 이전 형식의 토큰
+    private static String legacyToken(Long userId, String nickname) {
+        return Jwts.builder()
+                .setSubject(nickname)
+                .claim("userId", userId)
+                .claim("nickname", nickname)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+    }
+
+    @Test
+    @DisplayName("jti가 있는 토큰은 DB 조회 없이 Claims로 principal 구성")
+    void getAuthentication_FromClaims() {
+        String token = jwtTokenProvider.generateAccessToken(1L, "tester");
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        CustomUserPrincipal principal = (CustomUserPrincipal) authentication.getPrincipal();
+        assertEquals(1L, principal.getId());
+        assertEquals("tester", principal.getNickname());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰만 무효화되고 같은 사용자의 다른 토큰은 유효")
+    void revokeToken() {
+        String revoked = jwtTokenProvider.generateAccessToken(1L, "tester");
+        String other = jwtTokenProvider.generateAccessToken(1L, "tester");
+        assertNotNull(jwtTokenProvider.parseAndValidate(revoked));
+
+        jwtTokenProvider.revokeToken(revoked);
+
+        assertNull(jwtTokenProvider.parseAndValidate(revoked));
+        assertNotNull(jwtTokenProvider.parseAndValidate(other));
+    }
+
+    @Test
+    @DisplayName("jti 없는 이전 토큰도 폐기 가능")
+    void revokeLegacyToken() {
+        String token = legacyToken(1L, "tester");
+        assertNotNull(jwtTokenProvider.parseAndValidate(token));
+
+        jwtTokenProvider.revokeToken(token);
+
+        assertNull(jwtTokenProvider.parseAndValidate(token));
+    }
+
+    @Test
+    @DisplayName("jti 없는 이전 토큰은 캐시 대상 principal 조회 사용")
+    void getAuthentication_UsesPrincipalLookup() {
+        User user = User.builder().nickname("tester").password("x").isActive(true).build();
+        user.setId(1L);
+        when(userDetailsService.loadActivePrincipal(1L)).thenReturn(new CustomUserPrincipal(user));
+        String token = legacyToken(1L, "tester");
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        assertEquals(1L, ((CustomUserPrincipal) authentication.getPrincipal()).getId());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("principal 닉네임이 토큰과 다르면 USER_NOT_ACTIVE")
+    void getAuthentication_NicknameMismatch() {
+        User user = User.builder().nickname("someoneElse").password("x").isActive(true).build();
+        user.setId(1L);
+        when(userDetailsService.loadActivePrincipal(1L)).thenReturn(new CustomUserPrincipal(user));
+        String token = legacyToken(1L, "tester");
+
+        BusinessException e = assertThrows(BusinessException.class, () -> jwtTokenProvider.getAuthentication(token));
+        assertEquals(ErrorCode.USER_NOT_ACTIVE, e.getErrorCode());
+    }
+}
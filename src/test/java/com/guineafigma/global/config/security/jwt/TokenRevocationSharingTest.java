@@ -0,0 +1,103 @@
+package com.guineafigma.global.config.security.jwt;
+
+import com.guineafigma.config.TestConfig;
+import com.guineafigma.domain.user.repository.RevokedTokenRepository;
+import com.guineafigma.global.config.properties.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 폐기 목록은 revoked_tokens로 공유되어 다른 인스턴스/재시작 후에도 유지 (두 번째 인스턴스는 같은 DB를 보는 새 저장소로 재현)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:token-revocation-sharing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "jwt.revocation.sync-batch-size=2"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("토큰 폐기 목록 공유 테스트")
+class TokenRevocationSharingTest {
+
+    @Autowired
+    private TokenRevocationStore revocationStore;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Test
+    @DisplayName("재시작 - 새 인스턴스가 기동 시 배치 단위로 모든 폐기 기록을 로드")
+    void restoredAfterRestart() {
+        long exp = System.currentTimeMillis() + 3_600_000;
+        List<String> tokenIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            revocationStore.revoke(tokenId, exp);
+            tokenIds.add(tokenId);
+        }
+
+        TokenRevocationStore restarted = new TokenRevocationStore(jwtProperties, revokedTokenRepository);
+        restarted.loadOnStartup();
+
+        for (String tokenId : tokenIds) {
+            assertTrue(restarted.isRevoked(tokenId, exp), tokenId);
+        }
+        assertFalse(restarted.isRevoked(UUID.randomUUID().toString(), exp));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 - 이미 실행 중인 인스턴스는 다음 동기화에서 반영")
+    void propagatedToRunningInstance() {
+        TokenRevocationStore other = new TokenRevocationStore(jwtProperties, revokedTokenRepository);
+        other.loadOnStartup();
+        long exp = System.currentTimeMillis() + 3_600_000;
+        String tokenId = UUID.randomUUID().toString();
+        // jti가 없는 이전 토큰은 토큰 문자열 자체가 식별자 (컬럼 길이 초과 → 해시로 저장)
+        String legacyToken = "legacy." + "x".repeat(200);
+
+        revocationStore.revoke(tokenId, exp);
+        revocationStore.revoke(legacyToken, exp);
+        revocationStore.revoke(tokenId, exp);
+        assertFalse(other.isRevoked(tokenId, exp));
+
+        other.sync();
+
+        assertTrue(other.isRevoked(tokenId, exp));
+        assertTrue(other.isRevoked(legacyToken, exp));
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 기록은 로드하지 않고 정리 시 삭제")
+    void expiredRecordsPurged() {
+        String tokenId = UUID.randomUUID().toString();
+        long exp = System.currentTimeMillis() + 200;
+        revocationStore.revoke(tokenId, exp);
+        assertTrue(revokedTokenRepository.existsById(tokenId));
+
+        await(exp + 50);
+        revocationStore.purgeExpiredRecords();
+
+        assertFalse(revokedTokenRepository.existsById(tokenId));
+    }
+
+    private static void await(long untilMillis) {
+        long remaining = untilMillis - System.currentTimeMillis();
+        if (remaining > 0) {
+            try {
+                Thread.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.guineafigma.global.config.security.jwt;
+
+import com.guineafigma.global.config.properties.JwtProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenRevocationStore 단위 테스트")
+class TokenRevocationStoreTest {
+
+    private static TokenRevocationStore store(int expectedPerBucket, int exactCapacity) {
+        JwtProperties properties = new JwtProperties();
+        properties.getRevocation().setExpectedPerBucket(expectedPerBucket);
+        properties.getRevocation().setExactCapacityPerBucket(exactCapacity);
+        return new TokenRevocationStore(properties);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기로 판정")
+    void revokeAndCheck() {
+        TokenRevocationStore store = store(1_000, 10_000);
+        long exp = System.currentTimeMillis() + 3_600_000;
+
+        store.revoke("jti-1", exp);
+
+        assertTrue(store.isRevoked("jti-1", exp));
+        assertFalse(store.isRevoked("jti-2", exp));
+    }
+
+    @Test
+    @DisplayName("정확 집합이 있으면 Bloom 필터 오탐이 없음")
+    void noFalsePositivesWithExactSet() {
+        TokenRevocationStore store = store(100, 10_000);
+        long exp = System.currentTimeMillis() + 3_600_000;
+        for (int i = 0; i < 2_000; i++) {
+            store.revoke(UUID.randomUUID().toString(), exp);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(store.isRevoked(UUID.randomUUID().toString(), exp));
+        }
+    }
+
+    @Test
+    @DisplayName("정확 집합 상한 초과 후에도 폐기 토큰은 항상 폐기로 판정")
+    void saturatedBucketHasNoFalseNegatives() {
+        TokenRevocationStore store = store(1_000, 10);
+        long exp = System.currentTimeMillis() + 3_600_000;
+        String[] ids = new String[500];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            store.revoke(ids[i], exp);
+        }
+
+        for (String id : ids) {
+            assertTrue(store.isRevoked(id, exp));
+        }
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰과 만료된 버킷은 보관하지 않음")
+    void expiredBucketsArePurged() {
+        TokenRevocationStore store = store(1_000, 10_000);
+        long now = System.currentTimeMillis();
+
+        store.revoke("expired", now - 1);
+        assertEquals(0, store.bucketCount());
+
+        store.revoke("live", now + 3_600_000);
+        assertEquals(1, store.bucketCount());
+    }
+}
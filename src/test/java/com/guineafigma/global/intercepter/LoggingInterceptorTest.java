@@ -0,0 +1,46 @@
+package com.guineafigma.global.intercepter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoggingInterceptor 단위 테스트")
+class LoggingInterceptorTest {
+
+    @Test
+    @DisplayName("요청마다 노드ID-순번 traceId를 MDC에 넣고 완료 후 제거")
+    void traceIdLifecycle() {
+        LoggingInterceptor interceptor = new LoggingInterceptor("node1", 0.0, 1000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, this);
+        String first = MDC.get(LoggingInterceptor.TRACE_ID);
+        interceptor.afterCompletion(request, response, this, null);
+        assertNull(MDC.get(LoggingInterceptor.TRACE_ID));
+
+        interceptor.preHandle(request, response, this);
+        String second = MDC.get(LoggingInterceptor.TRACE_ID);
+        interceptor.afterCompletion(request, response, this, null);
+
+        assertEquals("node1-1", first);
+        assertEquals("node1-2", second);
+    }
+
+    @Test
+    @DisplayName("노드ID 미설정 시 기동마다 임의 노드ID 사용")
+    void randomNodeId() {
+        LoggingInterceptor interceptor = new LoggingInterceptor("", 1.0, 1000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/logosongs");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), this);
+        String traceId = MDC.get(LoggingInterceptor.TRACE_ID);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), this, null);
+
+        assertTrue(traceId.matches("[0-9a-z]{4}-1"), traceId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.guineafigma.global.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExternalApiMetrics 단위 테스트")
+class ExternalApiMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExternalApiMetrics metrics = new ExternalApiMetrics(registry);
+
+    @Test
+    @DisplayName("성공/실패 호출을 client, operation, outcome 태그로 기록")
+    void recordsOutcome() {
+        assertEquals("ok", metrics.record("suno", "generate", () -> "ok"));
+        assertThrows(HttpServerErrorException.class, () -> metrics.record("suno", "generate", () -> {
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }));
+
+        assertEquals(1, registry.get(ExternalApiMetrics.METRIC_NAME)
+                .tags("client", "suno", "operation", "generate", "outcome", "SUCCESS").timer().count());
+        assertEquals(1, registry.get(ExternalApiMetrics.METRIC_NAME)
+                .tags("client", "suno", "operation", "generate", "outcome", "SERVER_ERROR").timer().count());
+    }
+}
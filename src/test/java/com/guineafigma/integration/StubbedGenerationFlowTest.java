@@ -0,0 +1,121 @@
+package com.guineafigma.integration;
+
+import com.guineafigma.common.enums.MusicGenerationStatus;
+import com.guineafigma.domain.logosong.entity.LogoSong;
+import com.guineafigma.domain.logosong.repository.LogoSongRepository;
+import com.guineafigma.domain.logosong.dto.response.GenerationTimelineResponse;
+import com.guineafigma.domain.logosong.service.GenerationTimelineRecorder;
+import com.guineafigma.domain.logosong.service.IntegratedLogoSongService;
+import com.guineafigma.global.metrics.ExternalApiMetrics;
+import com.guineafigma.stub.ExternalApiStubs;
+import com.guineafigma.stub.FastApiStubServer;
+import com.guineafigma.stub.OpenAiStubServer;
+import com.guineafigma.stub.SunoStubServer;
+import com.guineafigma.utils.TestDataBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 RestTemplate + 로컬 스텁 서버로 생성 → 완료 전체 흐름을 오프라인 검증 (TestConfig의 Mock RestTemplate 미사용)
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:stub-flow-testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "cloud.aws.region.static=ap-northeast-2",
+        "suno.admission.requests-per-minute=6000",
+        "suno.admission.burst=20",
+        "suno.polling.initial-delay-ms=700",
+        "suno.polling.interval-ms=200",
+        "suno.polling.max-attempts=50"
+})
+@DisplayName("스텁 서버 기반 로고송 생성 전체 흐름 테스트")
+class StubbedGenerationFlowTest {
+
+    private static final ExternalApiStubs STUBS = ExternalApiStubs.fast(500).start();
+
+    @DynamicPropertySource
+    static void stubProperties(DynamicPropertyRegistry registry) {
+        STUBS.registerProperties(registry);
+    }
+
+    @AfterAll
+    static void stopStubs() {
+        STUBS.close();
+    }
+
+    @Autowired
+    private IntegratedLogoSongService integratedLogoSongService;
+
+    @Autowired
+    private LogoSongRepository logoSongRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GenerationTimelineRecorder timelineRecorder;
+
+    @Test
+    @DisplayName("가사 생성부터 음악 생성 완료까지 스텁으로 처리")
+    void createToComplete() throws InterruptedException {
+        int count = 4;
+        long start = System.nanoTime();
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(integratedLogoSongService.createLogoSongWithGeneration(TestDataBuilder.createValidLogoSongRequest()).getId());
+        }
+        long createdMs = (System.nanoTime() - start) / 1_000_000;
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline && !allCompleted(ids)) {
+            Thread.sleep(100);
+        }
+        long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+        for (Long id : ids) {
+            LogoSong logoSong = logoSongRepository.findById(id).orElseThrow();
+            assertEquals(MusicGenerationStatus.COMPLETED, logoSong.getMusicStatus());
+            assertNotNull(logoSong.getGeneratedMusicUrl());
+            assertTrue(logoSong.getLyrics().contains("두비두밥"));
+        }
+        assertEquals(count, STUBS.openAi().requestCount(OpenAiStubServer.RESPONSES));
+        assertEquals(count, STUBS.suno().taskCount());
+        assertTrue(STUBS.fastApi().requestCount(FastApiStubServer.GENERATE) >= count);
+        assertTrue(STUBS.suno().requestCount(SunoStubServer.RECORD_INFO) >= count);
+
+        // 외부 호출/서비스 타이머가 기록되는지 확인
+        assertEquals(count, meterRegistry.get(ExternalApiMetrics.METRIC_NAME)
+                .tags("client", "openai", "operation", "responses", "outcome", "SUCCESS").timer().count());
+        assertTrue(meterRegistry.get(ExternalApiMetrics.METRIC_NAME).tags("client", "suno", "operation", "generate").timer().count() >= count);
+        assertTrue(meterRegistry.get("logosong.service")
+                .tags("class", IntegratedLogoSongService.class.getName(), "method", "createLogoSongWithGeneration").timer().count() >= count);
+
+        // 단계별 생성 타임라인 기록
+        for (Long id : ids) {
+            GenerationTimelineResponse timeline = timelineRecorder.find(id).orElseThrow();
+            assertTrue(timeline.getStages().keySet().containsAll(
+                    List.of("OPENAI", "QUEUE", "FASTAPI", "SUNO_SUBMIT", "FIRST_POLL", "COMPLETION")), timeline.getStages().toString());
+            assertNotNull(timeline.getTotalMillis());
+        }
+
+        System.out.println("[PERF] stub flow count=" + count + ", create(ms)=" + createdMs + ", create-to-complete(ms)=" + totalMs);
+    }
+
+    private boolean allCompleted(List<Long> ids) {
+        return logoSongRepository.findAllById(ids).stream()
+                .allMatch(l -> l.getMusicStatus() == MusicGenerationStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,69 @@
+package com.guineafigma.stub;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Suno / OpenAI / FastAPI 스텁 묶음.
+ * 테스트에서는 registerProperties로, 수동 부하 테스트에서는 properties()로 애플리케이션 설정을 스텁에 연결한다.
+ */
+public class ExternalApiStubs implements AutoCloseable {
+
+    private final SunoStubServer suno;
+    private final OpenAiStubServer openAi;
+    private final FastApiStubServer fastApi;
+
+    public ExternalApiStubs(SunoStubServer suno, OpenAiStubServer openAi, FastApiStubServer fastApi) {
+        this.suno = suno;
+        this.openAi = openAi;
+        this.fastApi = fastApi;
+    }
+
+    // 지연 없이 즉시 응답하고 completionMillis 후 음악 생성이 완료되는 기본 구성
+    public static ExternalApiStubs fast(long completionMillis) {
+        return new ExternalApiStubs(
+                new SunoStubServer(LatencyProfile.none(), LatencyProfile.fixed(completionMillis)),
+                new OpenAiStubServer(LatencyProfile.none()),
+                new FastApiStubServer(LatencyProfile.none()));
+    }
+
+    public ExternalApiStubs start() {
+        suno.start();
+        openAi.start();
+        fastApi.start();
+        return this;
+    }
+
+    public Map<String, String> properties() {
+        Map<String, String> props = new LinkedHashMap<>();
+        props.put("suno.api.url", suno.baseUrl());
+        props.put("openai.api.url", openAi.responsesUrl());
+        props.put("fastapi.base-url", fastApi.baseUrl());
+        return props;
+    }
+
+    public void registerProperties(DynamicPropertyRegistry registry) {
+        properties().forEach((key, value) -> registry.add(key, () -> value));
+    }
+
+    public SunoStubServer suno() {
+        return suno;
+    }
+
+    public OpenAiStubServer openAi() {
+        return openAi;
+    }
+
+    public FastApiStubServer fastApi() {
+        return fastApi;
+    }
+
+    @Override
+    public void close() {
+        suno.close();
+        openAi.close();
+        fastApi.close();
+    }
+}
@@ -0,0 +1,32 @@
+package com.guineafigma.stub;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI 분석 서버 스텁: /api/v1/generate
+ */
+public class FastApiStubServer extends StubHttpServer {
+
+    public static final String GENERATE = "/api/v1/generate";
+
+    public FastApiStubServer(LatencyProfile profile) {
+        route(GENERATE, profile, exchange -> {
+            drain(exchange);
+            String requestId = exchange.getRequestHeaders().getFirst("X-Request-Id");
+            return StubResponse.ok(Map.of(
+                    "master_prompt", "스텁 마스터 프롬프트: 밝고 경쾌한 로고송",
+                    "examples", List.of(),
+                    "analysis", Map.of("musicSummary", Map.of("bpm", 120.0, "key", "C", "mode", "major")),
+                    "suno_request", Map.of(
+                            "customMode", true,
+                            "instrumental", false,
+                            "model", "V3_5",
+                            "style", "pop, upbeat",
+                            "styleWeight", 0.6,
+                            "weirdnessConstraint", 0.3,
+                            "audioWeight", 0.5),
+                    "requestId", requestId == null ? "stub" : requestId));
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.guineafigma.stub;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 서버 응답 지연/오류 분포.
+ * 지연은 median/p99로 정한 로그정규 분포에서 뽑고 minMillis 아래로는 내려가지 않는다.
+ */
+public record LatencyProfile(long minMillis, long medianMillis, long p99Millis, double errorRate) {
+
+    // 표준정규분포 99퍼센타일
+    private static final double Z_99 = 2.326;
+
+    public static LatencyProfile none() {
+        return new LatencyProfile(0, 0, 0, 0);
+    }
+
+    public static LatencyProfile fixed(long millis) {
+        return new LatencyProfile(millis, millis, millis, 0);
+    }
+
+    public static LatencyProfile of(long medianMillis, long p99Millis) {
+        return new LatencyProfile(0, medianMillis, p99Millis, 0);
+    }
+
+    public LatencyProfile withErrorRate(double rate) {
+        return new LatencyProfile(minMillis, medianMillis, p99Millis, rate);
+    }
+
+    // "median,p99[,errorRate]" 형식 (런처 시스템 프로퍼티용)
+    public static LatencyProfile parse(String spec, LatencyProfile fallback) {
+        if (spec == null || spec.isBlank()) {
+            return fallback;
+        }
+        String[] parts = spec.split(",");
+        long median = Long.parseLong(parts[0].trim());
+        long p99 = parts.length > 1 ? Long.parseLong(parts[1].trim()) : median;
+        double error = parts.length > 2 ? Double.parseDouble(parts[2].trim()) : 0;
+        return new LatencyProfile(0, median, p99, error);
+    }
+
+    public long sampleMillis() {
+        if (medianMillis <= 0) {
+            return minMillis;
+        }
+        if (p99Millis <= medianMillis) {
+            return Math.max(minMillis, medianMillis);
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = Math.log((double) p99Millis / medianMillis) / Z_99;
+        double sample = Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+        return Math.max(minMillis, Math.round(sample));
+    }
+
+    public boolean sampleError() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
@@ -0,0 +1,49 @@
+package com.guineafigma.stub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenAI Responses API 스텁: reasoning 항목 뒤에 가사/비디오 가이드 JSON을 담은 message를 반환한다.
+ */
+public class OpenAiStubServer extends StubHttpServer {
+
+    public static final String RESPONSES = "/v1/responses";
+
+    public OpenAiStubServer(LatencyProfile profile, int reasoningItems) {
+        route(RESPONSES, profile, exchange -> {
+            drain(exchange);
+            String text = "```json\n" + JSON.writeValueAsString(Map.of(
+                    "lyrics", "스텁 로고송 가사\n두비두밥 두비두밥",
+                    "video_guideline", "씬 1: 로고 클로즈업\n씬 2: 제품 사용 장면")) + "\n```";
+
+            List<Object> output = new ArrayList<>();
+            for (int i = 0; i < reasoningItems; i++) {
+                output.add(Map.of(
+                        "id", "rs_" + i,
+                        "type", "reasoning",
+                        "summary", List.of(Map.of("type", "summary_text", "text", "브랜드 톤을 검토합니다."))));
+            }
+            output.add(Map.of(
+                    "id", "msg_stub",
+                    "type", "message",
+                    "role", "assistant",
+                    "content", List.of(Map.of("type", "output_text", "text", text, "annotations", List.of()))));
+
+            return StubResponse.ok(Map.of(
+                    "id", "resp_stub",
+                    "object", "response",
+                    "output", output,
+                    "usage", Map.of("input_tokens", 1000, "output_tokens", 500)));
+        });
+    }
+
+    public OpenAiStubServer(LatencyProfile profile) {
+        this(profile, 1);
+    }
+
+    public String responsesUrl() {
+        return baseUrl() + RESPONSES;
+    }
+}
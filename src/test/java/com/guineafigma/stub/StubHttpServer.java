@@ -0,0 +1,133 @@
+package com.guineafigma.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDK HttpServer 기반 외부 API 스텁 공통 부분.
+ * 경로별 LatencyProfile에 따라 응답을 지연시키고, 오류 확률에 걸리면 500을 반환한다.
+ */
+public abstract class StubHttpServer implements AutoCloseable {
+
+    protected static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+    protected StubHttpServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("스텁 서버 생성 실패", e);
+        }
+        server.setExecutor(executor);
+    }
+
+    @FunctionalInterface
+    protected interface StubHandler {
+        // 상태 코드와 JSON 본문 객체를 반환
+        StubResponse handle(HttpExchange exchange) throws IOException;
+    }
+
+    protected record StubResponse(int status, Object body) {
+        static StubResponse ok(Object body) {
+            return new StubResponse(200, body);
+        }
+    }
+
+    protected void route(String path, LatencyProfile profile, StubHandler handler) {
+        requestCounts.put(path, new AtomicLong());
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                requestCounts.get(path).incrementAndGet();
+                sleep(profile.sampleMillis());
+                StubResponse response = profile.sampleError()
+                        ? new StubResponse(500, Map.of("code", 500, "msg", "stub injected error"))
+                        : handler.handle(exchange);
+                writeJson(exchange, response);
+            }
+        });
+    }
+
+    public StubHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount(String path) {
+        AtomicLong count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> snapshot = new HashMap<>();
+        for (Entry<String, AtomicLong> e : requestCounts.entrySet()) {
+            snapshot.put(e.getKey(), e.getValue().get());
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    protected static String queryParam(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return java.net.URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    protected static void drain(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+    }
+
+    private static void writeJson(HttpExchange exchange, StubResponse response) throws IOException {
+        byte[] bytes = JSON.writeValueAsBytes(response.body());
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
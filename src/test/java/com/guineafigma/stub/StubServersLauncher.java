@@ -0,0 +1,40 @@
+package com.guineafigma.stub;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 로컬 부하 테스트용 스텁 서버 단독 실행.
+ *
+ * <pre>
+ * gradle runStubServers -Dstub.suno=800,3000,0.01 -Dstub.suno.completion=60000,180000 \
+ *     -Dstub.openai=8000,25000 -Dstub.fastapi=300,1500
+ * </pre>
+ * 각 값은 "median(ms),p99(ms)[,errorRate]" 형식이며, 출력되는 프로퍼티로 애플리케이션을 실행하면 된다.
+ */
+public class StubServersLauncher {
+
+    public static void main(String[] args) throws InterruptedException {
+        LatencyProfile sunoApi = LatencyProfile.parse(System.getProperty("stub.suno"), LatencyProfile.of(500, 2000));
+        LatencyProfile sunoCompletion = LatencyProfile.parse(System.getProperty("stub.suno.completion"), LatencyProfile.of(60_000, 180_000));
+        LatencyProfile openAi = LatencyProfile.parse(System.getProperty("stub.openai"), LatencyProfile.of(8_000, 25_000));
+        LatencyProfile fastApi = LatencyProfile.parse(System.getProperty("stub.fastapi"), LatencyProfile.of(300, 1_500));
+        int reasoningItems = Integer.getInteger("stub.openai.reasoning-items", 1);
+        long credits = Long.getLong("stub.suno.credits", 100_000);
+
+        ExternalApiStubs stubs = new ExternalApiStubs(
+                new SunoStubServer(sunoApi, sunoCompletion, credits),
+                new OpenAiStubServer(openAi, reasoningItems),
+                new FastApiStubServer(fastApi)).start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println("[STUB] 종료 - Suno " + stubs.suno().requestCounts()
+                    + ", OpenAI " + stubs.openAi().requestCounts()
+                    + ", FastAPI " + stubs.fastApi().requestCounts());
+            stubs.close();
+        }));
+
+        System.out.println("[STUB] 스텁 서버 시작. 다음 프로퍼티로 애플리케이션을 실행하세요:");
+        stubs.properties().forEach((key, value) -> System.out.println("  --" + key + "=" + value));
+        new CountDownLatch(1).await();
+    }
+}
@@ -0,0 +1,73 @@
+package com.guineafigma.stub;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Suno API 스텁: generate / generate/record-info / generate/credit.
+ * 생성된 작업은 completionProfile에서 뽑은 시간이 지나면 SUCCESS로 바뀐다.
+ */
+public class SunoStubServer extends StubHttpServer {
+
+    public static final String GENERATE = "/api/v1/generate";
+    public static final String RECORD_INFO = "/api/v1/generate/record-info";
+    public static final String CREDIT = "/api/v1/generate/credit";
+
+    private final Map<String, Long> completeAtMillis = new ConcurrentHashMap<>();
+    private final AtomicLong credits;
+    private final long creditsPerGeneration;
+
+    public SunoStubServer(LatencyProfile apiProfile, LatencyProfile completionProfile, long initialCredits) {
+        this.credits = new AtomicLong(initialCredits);
+        this.creditsPerGeneration = 12;
+
+        route(GENERATE, apiProfile, exchange -> {
+            drain(exchange);
+            String taskId = UUID.randomUUID().toString();
+            completeAtMillis.put(taskId, System.currentTimeMillis() + completionProfile.sampleMillis());
+            credits.addAndGet(-creditsPerGeneration);
+            return StubResponse.ok(Map.of(
+                    "code", 200,
+                    "msg", "success",
+                    "data", Map.of("taskId", taskId)));
+        });
+
+        route(RECORD_INFO, apiProfile, exchange -> {
+            String taskId = queryParam(exchange.getRequestURI(), "taskId");
+            Long completeAt = taskId == null ? null : completeAtMillis.get(taskId);
+            if (completeAt == null) {
+                return new StubResponse(404, Map.of("code", 404, "msg", "task not found"));
+            }
+            boolean done = System.currentTimeMillis() >= completeAt;
+            Map<String, Object> data = done
+                    ? Map.of("taskId", taskId, "status", "SUCCESS", "response", Map.of("sunoData", List.of(Map.of(
+                            "id", taskId,
+                            "audioUrl", "https://stub.local/audio/" + taskId + ".mp3",
+                            "imageUrl", "https://stub.local/image/" + taskId + ".jpg",
+                            "title", "stub",
+                            "duration", 45.0))))
+                    : Map.of("taskId", taskId, "status", "PENDING");
+            return StubResponse.ok(Map.of("code", 200, "msg", "success", "data", data));
+        });
+
+        route(CREDIT, apiProfile, exchange -> StubResponse.ok(Map.of(
+                "code", 200,
+                "msg", "success",
+                "data", Math.max(0, credits.get()))));
+    }
+
+    public SunoStubServer(LatencyProfile apiProfile, LatencyProfile completionProfile) {
+        this(apiProfile, completionProfile, 10_000);
+    }
+
+    public int taskCount() {
+        return completeAtMillis.size();
+    }
+
+    public long remainingCredits() {
+        return credits.get();
+    }
+}
@@ -0,0 +1,70 @@
+package com.guineafigma.utils;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Hibernate가 준비하는 SQL을 스레드별로 수집 (QueryCountConfig로 등록). 비동기 스레드의 쿼리는 호출 스레드 집계에서 제외됨
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    public record Captured<T>(T result, List<String> statements) {
+        public int count() {
+            return statements.size();
+        }
+    }
+
+    // action 실행 중 발생한 SQL을 결과와 함께 반환 (결과에 따라 허용치가 달라지는 경우)
+    public static <T> Captured<T> capture(Supplier<T> action) {
+        start();
+        try {
+            T result = action.get();
+            return new Captured<>(result, stop());
+        } finally {
+            STATEMENTS.remove();
+        }
+    }
+
+    public static void assertMaxStatements(int max, Captured<?> captured) {
+        assertTrue(captured.count() <= max, () -> "SQL " + captured.count() + "건 실행 (허용 " + max + "건)\n"
+                + String.join("\n", captured.statements()));
+    }
+
+    // action 실행 중 발생한 SQL 수가 max 이하인지 검증하고 결과 반환
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        Captured<T> captured = capture(action);
+        assertMaxStatements(max, captured);
+        return captured.result();
+    }
+
+    public static void assertMaxStatements(int max, Runnable action) {
+        assertMaxStatements(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}